@@ -0,0 +1,25 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.CategorySales;
+
+/**
+ * DTO de resposta com as vendas de uma categoria no período.
+ */
+public record CategorySalesDTO(
+        String category,
+        long orders,
+        long unitsSold,
+        MoneyDTO revenue,
+        MoneyDTO averageOrderValue
+) {
+
+    public static CategorySalesDTO from(CategorySales sales) {
+        return new CategorySalesDTO(
+                sales.category(),
+                sales.orders(),
+                sales.units(),
+                new MoneyDTO(sales.revenue(), sales.currency()),
+                new MoneyDTO(sales.averageOrderValue(), sales.currency())
+        );
+    }
+}
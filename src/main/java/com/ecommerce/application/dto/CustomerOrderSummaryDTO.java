@@ -0,0 +1,32 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.CustomerOrderSummary;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO de resposta com o resumo do histórico de pedidos de um cliente.
+ * lifetimeSpend e averageOrderValue consideram só os pedidos que contam como venda.
+ */
+public record CustomerOrderSummaryDTO(
+        UUID customerId,
+        long totalOrders,
+        Map<OrderStatus, Long> ordersByStatus,
+        MoneyDTO lifetimeSpend,
+        MoneyDTO averageOrderValue,
+        LocalDateTime lastOrderAt
+) {
+
+    public static CustomerOrderSummaryDTO from(CustomerOrderSummary summary) {
+        return new CustomerOrderSummaryDTO(
+                summary.customerId(),
+                summary.totalOrders(),
+                summary.ordersByStatus(),
+                new MoneyDTO(summary.lifetimeSpend(), summary.currency()),
+                new MoneyDTO(summary.averageOrderValue(), summary.currency()),
+                summary.lastOrderAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.CustomerSummary;
+import java.util.UUID;
+
+/**
+ * DTO de resposta resumido para listagens de clientes (?view=summary).
+ */
+public record CustomerSummaryDTO(
+        UUID id,
+        String fullName,
+        String email,
+        boolean active
+) {
+
+    public static CustomerSummaryDTO from(CustomerSummary summary) {
+        return new CustomerSummaryDTO(
+                summary.id(),
+                summary.firstName() + " " + summary.lastName(),
+                summary.email(),
+                Boolean.TRUE.equals(summary.active())
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.DailySales;
+import java.time.LocalDate;
+
+/**
+ * DTO de resposta com as vendas de um dia.
+ */
+public record DailySalesDTO(
+        LocalDate date,
+        long orders,
+        long unitsSold,
+        MoneyDTO revenue,
+        MoneyDTO averageOrderValue
+) {
+
+    public static DailySalesDTO from(DailySales sales) {
+        return new DailySalesDTO(
+                sales.date(),
+                sales.orders(),
+                sales.units(),
+                new MoneyDTO(sales.revenue(), sales.currency()),
+                new MoneyDTO(sales.averageOrderValue(), sales.currency())
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de resposta resumido para listagens de pedidos (?view=summary).
+ */
+public record OrderSummaryDTO(
+        UUID id,
+        UUID customerId,
+        OrderStatus status,
+        String statusDescription,
+        MoneyDTO totalAmount,
+        LocalDateTime createdAt
+) {
+
+    public static OrderSummaryDTO from(OrderSummary summary) {
+        return new OrderSummaryDTO(
+                summary.id(),
+                summary.customerId(),
+                summary.status(),
+                summary.status().getDescription(),
+                new MoneyDTO(summary.totalAmount(), summary.totalCurrency()),
+                summary.createdAt()
+        );
+    }
+}
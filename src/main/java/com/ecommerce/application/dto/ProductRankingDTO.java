@@ -0,0 +1,27 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.ProductRanking;
+import java.util.UUID;
+
+/**
+ * DTO de resposta com a posição de um produto no ranking. As unidades são aproximadas:
+ * as reais estão entre guaranteedUnits e estimatedUnits.
+ */
+public record ProductRankingDTO(
+        int rank,
+        UUID productId,
+        String productName,
+        long estimatedUnits,
+        long guaranteedUnits
+) {
+
+    public static ProductRankingDTO from(int rank, ProductRanking ranking) {
+        return new ProductRankingDTO(
+                rank,
+                ranking.productId(),
+                ranking.productName(),
+                ranking.estimatedUnits(),
+                ranking.guaranteedUnits()
+        );
+    }
+}
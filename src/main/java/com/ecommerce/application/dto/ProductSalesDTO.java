@@ -0,0 +1,30 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.ProductSales;
+import java.util.UUID;
+
+/**
+ * DTO de resposta com as vendas de um produto no período.
+ */
+public record ProductSalesDTO(
+        UUID productId,
+        String productName,
+        String category,
+        long orders,
+        long unitsSold,
+        MoneyDTO revenue,
+        MoneyDTO averageOrderValue
+) {
+
+    public static ProductSalesDTO from(ProductSales sales) {
+        return new ProductSalesDTO(
+                sales.productId(),
+                sales.productName(),
+                sales.category(),
+                sales.orders(),
+                sales.units(),
+                new MoneyDTO(sales.revenue(), sales.currency()),
+                new MoneyDTO(sales.averageOrderValue(), sales.currency())
+        );
+    }
+}
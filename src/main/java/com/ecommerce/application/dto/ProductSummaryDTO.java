@@ -0,0 +1,28 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.ProductSummary;
+import java.util.UUID;
+
+/**
+ * DTO de resposta resumido para listagens de produtos (?view=summary).
+ */
+public record ProductSummaryDTO(
+        UUID id,
+        String name,
+        MoneyDTO price,
+        Integer stockQuantity,
+        String category,
+        boolean available
+) {
+
+    public static ProductSummaryDTO from(ProductSummary summary) {
+        return new ProductSummaryDTO(
+                summary.id(),
+                summary.name(),
+                new MoneyDTO(summary.priceAmount(), summary.priceCurrency()),
+                summary.stockQuantity(),
+                summary.category(),
+                summary.isAvailable()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.application.dto;
+
+import com.ecommerce.domain.projections.SalesReportRow;
+
+/**
+ * DTO de resposta com uma linha do relatório de vendas calculado a partir dos pedidos.
+ */
+public record SalesReportRowDTO(
+        String key,
+        String label,
+        long orders,
+        long unitsSold,
+        MoneyDTO revenue,
+        MoneyDTO averageOrderValue
+) {
+
+    public static SalesReportRowDTO from(SalesReportRow row) {
+        return new SalesReportRowDTO(
+                row.key(),
+                row.label(),
+                row.orders(),
+                row.units(),
+                new MoneyDTO(row.revenue(), row.currency()),
+                new MoneyDTO(row.averageOrderValue(), row.currency())
+        );
+    }
+}
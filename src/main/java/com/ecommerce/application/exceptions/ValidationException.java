@@ -28,6 +28,16 @@ public class ValidationException extends BusinessException {
         );
     }
 
+    /**
+     * Estoque recusado pela reserva atômica; o disponível não é informado porque a leitura
+     * anterior à reserva pode estar desatualizada.
+     */
+    public static ValidationException insufficientStock(String productName, int requested) {
+        return new ValidationException(
+                String.format("Insufficient stock for product '%s'. Requested: %d", productName, requested)
+        );
+    }
+
     public static ValidationException inactiveProduct(String productName) {
         return new ValidationException("Product is inactive: " + productName);
     }
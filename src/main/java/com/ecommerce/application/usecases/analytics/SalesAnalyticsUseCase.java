@@ -0,0 +1,99 @@
+package com.ecommerce.application.usecases.analytics;
+
+import com.ecommerce.application.dto.CategorySalesDTO;
+import com.ecommerce.application.dto.DailySalesDTO;
+import com.ecommerce.application.dto.ProductSalesDTO;
+import com.ecommerce.application.dto.SalesReportRowDTO;
+import com.ecommerce.application.exceptions.ValidationException;
+import com.ecommerce.domain.projections.SalesReportDimension;
+import com.ecommerce.domain.repositories.SalesAnalyticsRepository;
+import com.ecommerce.domain.repositories.SalesReportRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Use Case para os relatórios de vendas: receita, unidades, pedidos e ticket médio
+ * por dia, categoria e produto em um período.
+ *
+ * Os relatórios por dia, categoria e produto leem somente as pré-agregações mantidas na
+ * confirmação e no cancelamento dos pedidos, então o custo depende do número de dias e
+ * produtos do período, não do número de pedidos. O relatório por dimensão ({@link #salesReport})
+ * lê os próprios pedidos, para agrupamentos sem pré-agregação ou vendas anteriores a ela.
+ */
+public class SalesAnalyticsUseCase {
+
+    static final int MAX_RANGE_DAYS = 366;
+    static final int MAX_PRODUCTS = 100;
+
+    private final SalesAnalyticsRepository salesAnalyticsRepository;
+    private final SalesReportRepository salesReportRepository;
+
+    public SalesAnalyticsUseCase(SalesAnalyticsRepository salesAnalyticsRepository,
+                                 SalesReportRepository salesReportRepository) {
+        this.salesAnalyticsRepository = salesAnalyticsRepository;
+        this.salesReportRepository = salesReportRepository;
+    }
+
+    /**
+     * Vendas por dia no período (datas inclusivas).
+     */
+    public List<DailySalesDTO> salesByDay(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesAnalyticsRepository.findDailySales(from, to)
+                .stream()
+                .map(DailySalesDTO::from)
+                .toList();
+    }
+
+    /**
+     * Vendas por categoria no período, da maior para a menor receita.
+     */
+    public List<CategorySalesDTO> salesByCategory(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return salesAnalyticsRepository.findCategorySales(from, to)
+                .stream()
+                .map(CategorySalesDTO::from)
+                .toList();
+    }
+
+    /**
+     * Produtos de maior receita no período.
+     */
+    public List<ProductSalesDTO> salesByProduct(LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        if (limit <= 0 || limit > MAX_PRODUCTS) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_PRODUCTS);
+        }
+        return salesAnalyticsRepository.findProductSales(from, to, limit)
+                .stream()
+                .map(ProductSalesDTO::from)
+                .toList();
+    }
+
+    /**
+     * Vendas do período agrupadas pela dimensão, calculadas a partir dos pedidos.
+     */
+    public List<SalesReportRowDTO> salesReport(SalesReportDimension dimension, LocalDate from, LocalDate to) {
+        if (dimension == null) {
+            throw new ValidationException("Report dimension is required");
+        }
+        validateRange(from, to);
+        return salesReportRepository.computeSalesReport(dimension, from, to)
+                .stream()
+                .map(SalesReportRowDTO::from)
+                .toList();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new ValidationException("Date range is required");
+        }
+        if (from.isAfter(to)) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ValidationException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.application.usecases.customer;
+
+import com.ecommerce.application.dto.CustomerDTO;
+import com.ecommerce.domain.repositories.CustomerRepository;
+import java.util.List;
+
+/**
+ * Use Case para busca de clientes por nome, sobrenome ou email.
+ * Valida o termo e a paginação antes de consultar o índice de busca.
+ */
+public class SearchCustomersUseCase {
+
+    private static final int MAX_TERM_LENGTH = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CustomerRepository customerRepository;
+
+    public SearchCustomersUseCase(CustomerRepository customerRepository) {
+        this.customerRepository = customerRepository;
+    }
+
+    public List<CustomerDTO> execute(String term, int page, int size) {
+        if (term == null || term.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search term cannot be null or empty");
+        }
+        if (term.length() > MAX_TERM_LENGTH) {
+            throw new IllegalArgumentException("Search term cannot exceed " + MAX_TERM_LENGTH + " characters");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page cannot be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        return customerRepository.searchByName(term.trim(), page, size)
+                .stream()
+                .map(CustomerDTO::from)
+                .toList();
+    }
+}
@@ -8,29 +8,38 @@ import com.ecommerce.domain.entities.Order;
 import com.ecommerce.domain.entities.OrderItem;
 import com.ecommerce.domain.entities.Product;
 import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.domain.repositories.ProductRankingRepository;
 import com.ecommerce.domain.repositories.ProductRepository;
 import java.util.UUID;
 
 /**
  * Use Case para adicionar item a um pedido.
+ * Reserva o estoque do produto e conta o item no ranking de produtos; deve executar em uma
+ * transação (ver UseCaseTransactionConfig).
  */
 public class AddItemToOrderUseCase {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final ProductRankingRepository productRankingRepository;
 
     public AddItemToOrderUseCase(OrderRepository orderRepository,
-                                 ProductRepository productRepository) {
+                                 ProductRepository productRepository,
+                                 ProductRankingRepository productRankingRepository) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
+        this.productRankingRepository = productRankingRepository;
     }
 
     public OrderDTO execute(UUID orderId, AddItemToOrderDTO dto) {
-        // Buscar pedido
-        Order order = orderRepository.findById(orderId)
+        // Buscar e bloquear pedido até o fim da transação
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> NotFoundException.order(orderId));
 
-        // Buscar produto
+        if (!order.canBeModified()) {
+            throw new ValidationException("Order cannot be modified in status: " + order.getStatus());
+        }
+
         Product product = productRepository.findById(dto.productId())
                 .orElseThrow(() -> NotFoundException.product(dto.productId()));
 
@@ -42,18 +51,22 @@ public class AddItemToOrderUseCase {
             throw new ValidationException("Product already exists in this order. Use update quantity instead.");
         }
 
-        // Criar item do pedido
-        OrderItem orderItem = OrderItem.createFromProduct(product, dto.quantity());
+        // Reservar estoque de forma atômica; a decisão vem do banco, não da leitura acima
+        productRepository.adjustStock(product.getId(), -dto.quantity())
+                .orElseThrow(() -> ValidationException.insufficientStock(product.getName(), dto.quantity()));
+
+        // Criar item do pedido (o estoque já foi reservado acima)
+        OrderItem orderItem = OrderItem.create(
+                product.getId(), product.getName(), product.getPrice(), dto.quantity());
 
         // Adicionar item ao pedido
         order.addItem(orderItem);
 
-        // Atualizar estoque do produto
-        product.removeStock(dto.quantity());
-
         // Persistir mudanças
         Order savedOrder = orderRepository.save(order);
-        productRepository.save(product);
+
+        // Contar no ranking de produtos (após o commit)
+        productRankingRepository.recordAddedToOrder(orderItem);
 
         // Retornar DTO
         return OrderDTO.from(savedOrder);
@@ -64,16 +77,6 @@ public class AddItemToOrderUseCase {
             throw ValidationException.inactiveProduct(product.getName());
         }
 
-        if (!product.isAvailable()) {
-            throw new ValidationException("Product is not available: " + product.getName());
-        }
-
-        if (!product.hasStock(quantity)) {
-            throw ValidationException.insufficientStock(
-                    product.getName(),
-                    product.getStockQuantity(),
-                    quantity
-            );
-        }
+        // Estoque não é verificado aqui: a leitura pode vir do cache e estar desatualizada
     }
 }
\ No newline at end of file
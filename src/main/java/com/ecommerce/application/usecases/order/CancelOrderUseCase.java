@@ -5,29 +5,40 @@ import com.ecommerce.application.exceptions.NotFoundException;
 import com.ecommerce.application.exceptions.ValidationException;
 import com.ecommerce.domain.entities.Order;
 import com.ecommerce.domain.entities.OrderItem;
-import com.ecommerce.domain.entities.Product;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.repositories.CustomerOrderSummaryRepository;
 import com.ecommerce.domain.repositories.OrderRepository;
 import com.ecommerce.domain.repositories.ProductRepository;
+import com.ecommerce.domain.repositories.SalesAnalyticsRepository;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Use Case para cancelar um pedido.
- * Devolve o estoque dos produtos.
+ * Devolve o estoque dos produtos, atualiza o resumo do cliente e, se o pedido já estava confirmado,
+ * tira-o dos agregados de vendas; deve executar em uma transação (ver UseCaseTransactionConfig).
  */
 public class CancelOrderUseCase {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final SalesAnalyticsRepository salesAnalyticsRepository;
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
 
     public CancelOrderUseCase(OrderRepository orderRepository,
-                              ProductRepository productRepository) {
+                              ProductRepository productRepository,
+                              SalesAnalyticsRepository salesAnalyticsRepository,
+                              CustomerOrderSummaryRepository customerOrderSummaryRepository) {
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
+        this.salesAnalyticsRepository = salesAnalyticsRepository;
+        this.customerOrderSummaryRepository = customerOrderSummaryRepository;
     }
 
     public OrderDTO execute(UUID orderId) {
-        // Buscar pedido
-        Order order = orderRepository.findById(orderId)
+        // Buscar e bloquear pedido até o fim da transação
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> NotFoundException.order(orderId));
 
         // Validar se pedido pode ser cancelado
@@ -35,16 +46,18 @@ public class CancelOrderUseCase {
             throw new ValidationException("Order cannot be cancelled in current status: " + order.getStatus());
         }
 
-        // Devolver estoque de todos os itens
-        for (OrderItem item : order.getItems()) {
-            Product product = productRepository.findById(item.getProductId())
+        // Devolver estoque de todos os itens, atualizando os produtos em ordem de ID
+        List<OrderItem> items = order.getItems().stream()
+                .sorted(Comparator.comparing(OrderItem::getProductId))
+                .toList();
+        for (OrderItem item : items) {
+            productRepository.adjustStock(item.getProductId(), item.getQuantity())
                     .orElseThrow(() -> NotFoundException.product(item.getProductId()));
-
-            product.addStock(item.getQuantity());
-            productRepository.save(product);
         }
 
         // Cancelar pedido
+        OrderStatus previousStatus = order.getStatus();
+        boolean wasSale = previousStatus.countsAsSale();
         try {
             order.cancel();
         } catch (IllegalStateException e) {
@@ -54,6 +67,14 @@ public class CancelOrderUseCase {
         // Persistir
         Order savedOrder = orderRepository.save(order);
 
+        // Desfazer a venda nos agregados
+        if (wasSale) {
+            salesAnalyticsRepository.removeSale(savedOrder);
+        }
+
+        // Atualizar resumo do cliente
+        customerOrderSummaryRepository.recordStatusChange(savedOrder, previousStatus);
+
         // Retornar DTO
         return OrderDTO.from(savedOrder);
     }
@@ -4,30 +4,46 @@ import com.ecommerce.application.dto.OrderDTO;
 import com.ecommerce.application.exceptions.NotFoundException;
 import com.ecommerce.application.exceptions.ValidationException;
 import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.repositories.CustomerOrderSummaryRepository;
 import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.domain.repositories.ProductRankingRepository;
+import com.ecommerce.domain.repositories.SalesAnalyticsRepository;
 import java.util.UUID;
 
 /**
  * Use Case para confirmar um pedido.
- * Move o pedido do status PENDING para CONFIRMED.
+ * Move o pedido do status PENDING para CONFIRMED e soma o pedido aos agregados de vendas,
+ * e ao resumo do cliente na mesma transação (ver UseCaseTransactionConfig), e ao ranking de
+ * mais vendidos.
  */
 public class ConfirmOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final SalesAnalyticsRepository salesAnalyticsRepository;
+    private final ProductRankingRepository productRankingRepository;
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
 
-    public ConfirmOrderUseCase(OrderRepository orderRepository) {
+    public ConfirmOrderUseCase(OrderRepository orderRepository,
+                               SalesAnalyticsRepository salesAnalyticsRepository,
+                               ProductRankingRepository productRankingRepository,
+                               CustomerOrderSummaryRepository customerOrderSummaryRepository) {
         this.orderRepository = orderRepository;
+        this.salesAnalyticsRepository = salesAnalyticsRepository;
+        this.productRankingRepository = productRankingRepository;
+        this.customerOrderSummaryRepository = customerOrderSummaryRepository;
     }
 
     public OrderDTO execute(UUID orderId) {
-        // Buscar pedido
-        Order order = orderRepository.findById(orderId)
+        // Buscar e bloquear pedido: a confirmação não pode se intercalar com alterações de itens
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> NotFoundException.order(orderId));
 
         // Validar se pedido pode ser confirmado
         validateOrderCanBeConfirmed(order);
 
         // Confirmar pedido
+        OrderStatus previousStatus = order.getStatus();
         try {
             order.confirm();
         } catch (IllegalStateException e) {
@@ -40,6 +56,13 @@ public class ConfirmOrderUseCase {
         // Persistir
         Order savedOrder = orderRepository.save(order);
 
+        // Atualizar agregados de vendas
+        salesAnalyticsRepository.addSale(savedOrder);
+        productRankingRepository.recordSale(savedOrder);
+
+        // Atualizar resumo do cliente
+        customerOrderSummaryRepository.recordStatusChange(savedOrder, previousStatus);
+
         // Retornar DTO
         return OrderDTO.from(savedOrder);
     }
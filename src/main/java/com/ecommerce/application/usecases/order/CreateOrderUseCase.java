@@ -4,32 +4,36 @@ import com.ecommerce.application.dto.CreateOrderDTO;
 import com.ecommerce.application.dto.OrderDTO;
 import com.ecommerce.application.exceptions.NotFoundException;
 import com.ecommerce.application.exceptions.ValidationException;
-import com.ecommerce.domain.entities.Customer;
 import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.repositories.CustomerOrderSummaryRepository;
 import com.ecommerce.domain.repositories.CustomerRepository;
 import com.ecommerce.domain.repositories.OrderRepository;
 import com.ecommerce.domain.valueobjects.Address;
 
 /**
  * Use Case para criação de pedidos.
+ * Conta o pedido no resumo do cliente na mesma transação (ver UseCaseTransactionConfig).
  */
 public class CreateOrderUseCase {
 
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
 
     public CreateOrderUseCase(OrderRepository orderRepository,
-                              CustomerRepository customerRepository) {
+                              CustomerRepository customerRepository,
+                              CustomerOrderSummaryRepository customerOrderSummaryRepository) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
+        this.customerOrderSummaryRepository = customerOrderSummaryRepository;
     }
 
     public OrderDTO execute(CreateOrderDTO dto) {
-        // Validar se cliente existe e está ativo
-        Customer customer = customerRepository.findById(dto.customerId())
+        // Validar se cliente existe e está ativo (consulta só o status, sem carregar o cliente)
+        boolean active = customerRepository.findActiveStatusById(dto.customerId())
                 .orElseThrow(() -> NotFoundException.customer(dto.customerId()));
 
-        if (!customer.canPlaceOrders()) {
+        if (!active) {
             throw new ValidationException("Customer is inactive and cannot place orders");
         }
 
@@ -42,6 +46,9 @@ public class CreateOrderUseCase {
         // Persistir
         Order savedOrder = orderRepository.save(order);
 
+        // Atualizar resumo do cliente
+        customerOrderSummaryRepository.recordOrderCreated(savedOrder);
+
         // Retornar DTO
         return OrderDTO.from(savedOrder);
     }
@@ -1,12 +1,17 @@
 package com.ecommerce.application.usecases.order;
 
+import com.ecommerce.application.concurrency.SingleFlight;
+import com.ecommerce.application.dto.CustomerOrderSummaryDTO;
 import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.dto.OrderSummaryDTO;
 import com.ecommerce.application.exceptions.NotFoundException;
-import com.ecommerce.domain.entities.Order;
 import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.repositories.CustomerOrderSummaryRepository;
 import com.ecommerce.domain.repositories.CustomerRepository;
 import com.ecommerce.domain.repositories.OrderRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,30 +21,43 @@ public class FindOrdersUseCase {
 
     private final OrderRepository orderRepository;
     private final CustomerRepository customerRepository;
+    private final CustomerOrderSummaryRepository customerOrderSummaryRepository;
+    private final SingleFlight<UUID, OrderDTO> findByIdFlights = new SingleFlight<>();
 
     public FindOrdersUseCase(OrderRepository orderRepository,
-                             CustomerRepository customerRepository) {
+                             CustomerRepository customerRepository,
+                             CustomerOrderSummaryRepository customerOrderSummaryRepository) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
+        this.customerOrderSummaryRepository = customerOrderSummaryRepository;
     }
 
     /**
      * Busca um pedido por ID.
+     * Buscas simultâneas pelo mesmo ID compartilham uma única consulta ao banco.
      */
     public OrderDTO findById(UUID orderId) {
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> NotFoundException.order(orderId));
+        return findByIdFlights.execute(orderId, () -> orderRepository.findById(orderId)
+                .map(OrderDTO::from)
+                .orElseThrow(() -> NotFoundException.order(orderId)));
+    }
 
-        return OrderDTO.from(order);
+    /**
+     * Busca a versão (data da última atualização) de um pedido sem carregá-lo.
+     * Usada para responder requisições condicionais (If-None-Match) com 304.
+     */
+    public Optional<LocalDateTime> findVersion(UUID orderId) {
+        return orderRepository.findUpdatedAtById(orderId);
     }
 
     /**
      * Busca todos os pedidos de um cliente.
      */
     public List<OrderDTO> findByCustomerId(UUID customerId) {
-        // Validar se cliente existe
-        customerRepository.findById(customerId)
-                .orElseThrow(() -> NotFoundException.customer(customerId));
+        // Validar se cliente existe (consulta só a existência, sem carregar o cliente)
+        if (!customerRepository.existsById(customerId)) {
+            throw NotFoundException.customer(customerId);
+        }
 
         return orderRepository.findByCustomerId(customerId)
                 .stream()
@@ -65,9 +83,10 @@ public class FindOrdersUseCase {
      * Busca pedidos de um cliente com status específico.
      */
     public List<OrderDTO> findByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
-        // Validar se cliente existe
-        customerRepository.findById(customerId)
-                .orElseThrow(() -> NotFoundException.customer(customerId));
+        // Validar se cliente existe (consulta só a existência, sem carregar o cliente)
+        if (!customerRepository.existsById(customerId)) {
+            throw NotFoundException.customer(customerId);
+        }
 
         if (status == null) {
             throw new IllegalArgumentException("Status cannot be null");
@@ -78,4 +97,72 @@ public class FindOrdersUseCase {
                 .map(OrderDTO::from)
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Busca resumos dos pedidos de um cliente, sem carregar itens nem reconstruir o agregado.
+     */
+    public List<OrderSummaryDTO> findSummariesByCustomerId(UUID customerId) {
+        // Validar se cliente existe (consulta só a existência, sem carregar o cliente)
+        if (!customerRepository.existsById(customerId)) {
+            throw NotFoundException.customer(customerId);
+        }
+
+        return orderRepository.findSummariesByCustomerId(customerId)
+                .stream()
+                .map(OrderSummaryDTO::from)
+                .toList();
+    }
+
+    /**
+     * Resumo do histórico de pedidos de um cliente (quantidade por status, total gasto e
+     * último pedido), lido de uma linha mantida a cada mudança, sem carregar os pedidos.
+     */
+    public CustomerOrderSummaryDTO findCustomerSummary(UUID customerId) {
+        // Validar se cliente existe (consulta só a existência, sem carregar o cliente)
+        if (!customerRepository.existsById(customerId)) {
+            throw NotFoundException.customer(customerId);
+        }
+
+        return CustomerOrderSummaryDTO.from(customerOrderSummaryRepository.findByCustomerId(customerId));
+    }
+
+    /**
+     * Busca resumos de pedidos por status.
+     */
+    public List<OrderSummaryDTO> findSummariesByStatus(OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+
+        return orderRepository.findSummariesByStatus(status)
+                .stream()
+                .map(OrderSummaryDTO::from)
+                .toList();
+    }
+
+    /**
+     * Busca resumos dos pedidos de um cliente com status específico.
+     */
+    public List<OrderSummaryDTO> findSummariesByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
+        // Validar se cliente existe (consulta só a existência, sem carregar o cliente)
+        if (!customerRepository.existsById(customerId)) {
+            throw NotFoundException.customer(customerId);
+        }
+
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+
+        return orderRepository.findSummariesByCustomerIdAndStatus(customerId, status)
+                .stream()
+                .map(OrderSummaryDTO::from)
+                .toList();
+    }
+
+    /**
+     * Estatísticas de agrupamento das buscas por ID.
+     */
+    public SingleFlight.Stats findByIdCoalescingStats() {
+        return findByIdFlights.stats();
+    }
+}
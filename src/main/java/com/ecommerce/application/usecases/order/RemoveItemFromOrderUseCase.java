@@ -2,15 +2,16 @@ package com.ecommerce.application.usecases.order;
 
 import com.ecommerce.application.dto.OrderDTO;
 import com.ecommerce.application.exceptions.NotFoundException;
+import com.ecommerce.application.exceptions.ValidationException;
 import com.ecommerce.domain.entities.Order;
 import com.ecommerce.domain.entities.OrderItem;
-import com.ecommerce.domain.entities.Product;
 import com.ecommerce.domain.repositories.OrderRepository;
 import com.ecommerce.domain.repositories.ProductRepository;
 import java.util.UUID;
 
 /**
  * Use Case para remover item de um pedido.
+ * Devolve o estoque do produto; deve executar em uma transação (ver UseCaseTransactionConfig).
  */
 public class RemoveItemFromOrderUseCase {
 
@@ -24,29 +25,29 @@ public class RemoveItemFromOrderUseCase {
     }
 
     public OrderDTO execute(UUID orderId, UUID itemId) {
-        // Buscar pedido
-        Order order = orderRepository.findById(orderId)
+        // Buscar e bloquear pedido até o fim da transação
+        Order order = orderRepository.findByIdForUpdate(orderId)
                 .orElseThrow(() -> NotFoundException.order(orderId));
 
+        if (!order.canBeModified()) {
+            throw new ValidationException("Order cannot be modified in status: " + order.getStatus());
+        }
+
         // Buscar o item que será removido para devolver ao estoque
         OrderItem itemToRemove = order.getItems().stream()
                 .filter(item -> item.getId().equals(itemId))
                 .findFirst()
                 .orElseThrow(() -> new NotFoundException("OrderItem", itemId));
 
-        // Buscar produto para devolver estoque
-        Product product = productRepository.findById(itemToRemove.getProductId())
+        // Devolver estoque ao produto
+        productRepository.adjustStock(itemToRemove.getProductId(), itemToRemove.getQuantity())
                 .orElseThrow(() -> NotFoundException.product(itemToRemove.getProductId()));
 
         // Remover item do pedido
         order.removeItem(itemId);
 
-        // Devolver estoque ao produto
-        product.addStock(itemToRemove.getQuantity());
-
         // Persistir mudanças
         Order savedOrder = orderRepository.save(order);
-        productRepository.save(product);
 
         // Retornar DTO
         return OrderDTO.from(savedOrder);
@@ -1,9 +1,11 @@
 package com.ecommerce.application.usecases.product;
 
+import com.ecommerce.application.concurrency.SingleFlight;
 import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.application.dto.ProductSummaryDTO;
 import com.ecommerce.application.exceptions.NotFoundException;
-import com.ecommerce.domain.entities.Product;
 import com.ecommerce.domain.repositories.ProductRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +17,7 @@ import java.util.UUID;
 public class FindProductsUseCase {
 
     private final ProductRepository productRepository;
+    private final SingleFlight<UUID, ProductDTO> findByIdFlights = new SingleFlight<>();
 
     public FindProductsUseCase(ProductRepository productRepository) {
         this.productRepository = productRepository;
@@ -22,11 +25,20 @@ public class FindProductsUseCase {
 
     /**
      * Busca um produto por ID.
+     * Buscas simultâneas pelo mesmo ID compartilham uma única consulta ao banco.
      */
     public ProductDTO findById(UUID id) {
-        Optional<Product> product = productRepository.findById(id);
-        return product.map(ProductDTO::from)
-                .orElseThrow(() -> NotFoundException.product(id));
+        return findByIdFlights.execute(id, () -> productRepository.findById(id)
+                .map(ProductDTO::from)
+                .orElseThrow(() -> NotFoundException.product(id)));
+    }
+
+    /**
+     * Busca a versão (data da última atualização) de um produto sem carregá-lo.
+     * Usada para responder requisições condicionais (If-None-Match) com 304.
+     */
+    public Optional<LocalDateTime> findVersion(UUID id) {
+        return productRepository.findUpdatedAtById(id);
     }
 
     /**
@@ -77,10 +89,51 @@ public class FindProductsUseCase {
                 .toList();
     }
 
+    /**
+     * Lista resumos dos produtos ativos, sem carregar descrição e datas.
+     */
+    public List<ProductSummaryDTO> findActiveSummaries() {
+        return productRepository.findActiveSummaries()
+                .stream()
+                .map(ProductSummaryDTO::from)
+                .toList();
+    }
+
+    /**
+     * Busca resumos de produtos por categoria.
+     */
+    public List<ProductSummaryDTO> findSummariesByCategory(String category) {
+        if (category == null || category.trim().isEmpty()) {
+            throw new IllegalArgumentException("Category cannot be null or empty");
+        }
+
+        return productRepository.findSummariesByCategory(category.trim())
+                .stream()
+                .map(ProductSummaryDTO::from)
+                .toList();
+    }
+
+    /**
+     * Lista resumos dos produtos disponíveis (ativos e com estoque).
+     */
+    public List<ProductSummaryDTO> findAvailableSummaries() {
+        return productRepository.findAvailableSummaries()
+                .stream()
+                .map(ProductSummaryDTO::from)
+                .toList();
+    }
+
     /**
      * Lista todas as categorias disponíveis.
      */
     public List<String> findAllCategories() {
         return productRepository.findAllCategories();
     }
+
+    /**
+     * Estatísticas de agrupamento das buscas por ID.
+     */
+    public SingleFlight.Stats findByIdCoalescingStats() {
+        return findByIdFlights.stats();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.ecommerce.application.usecases.product;
+
+import com.ecommerce.application.dto.ProductRankingDTO;
+import com.ecommerce.application.exceptions.ValidationException;
+import com.ecommerce.domain.projections.ProductRanking;
+import com.ecommerce.domain.projections.ProductRankingMetric;
+import com.ecommerce.domain.repositories.ProductRankingRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Use Case para o ranking de produtos mais vendidos ou mais adicionados a pedidos em uma
+ * janela recente. Lê o ranking aproximado mantido em memória, sem consultar os pedidos.
+ */
+public class FindTopProductsUseCase {
+
+    static final int MAX_LIMIT = 50;
+
+    private final ProductRankingRepository productRankingRepository;
+
+    public FindTopProductsUseCase(ProductRankingRepository productRankingRepository) {
+        this.productRankingRepository = productRankingRepository;
+    }
+
+    public List<ProductRankingDTO> execute(ProductRankingMetric metric, Duration window, int limit) {
+        if (metric == null) {
+            throw new ValidationException("Ranking metric is required");
+        }
+        Duration maxWindow = productRankingRepository.maxWindow();
+        if (window == null || window.isNegative() || window.isZero() || window.compareTo(maxWindow) > 0) {
+            throw new ValidationException("Window must be positive and at most " + maxWindow);
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<ProductRanking> ranking = productRankingRepository.findTop(metric, window, limit);
+        List<ProductRankingDTO> result = new ArrayList<>(ranking.size());
+        for (int i = 0; i < ranking.size(); i++) {
+            result.add(ProductRankingDTO.from(i + 1, ranking.get(i)));
+        }
+        return result;
+    }
+}
@@ -35,6 +35,13 @@ public enum OrderStatus {
         return this == DELIVERED || this == CANCELLED;
     }
 
+    /**
+     * Pedidos confirmados e além (exceto cancelados) contam como venda nos relatórios.
+     */
+    public boolean countsAsSale() {
+        return this == CONFIRMED || this == PREPARING || this == SHIPPED || this == DELIVERED;
+    }
+
     public boolean canBeCancelled() {
         return this == PENDING || this == CONFIRMED || this == PREPARING;
     }
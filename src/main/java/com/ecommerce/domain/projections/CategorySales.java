@@ -0,0 +1,19 @@
+package com.ecommerce.domain.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Vendas de uma categoria em um período. orders conta os pedidos com algum produto da categoria.
+ */
+public record CategorySales(
+        String category,
+        String currency,
+        long orders,
+        long units,
+        BigDecimal revenue
+) {
+
+    public BigDecimal averageOrderValue() {
+        return SalesMath.average(revenue, orders);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.domain.projections;
+
+import com.ecommerce.domain.entities.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Histórico de pedidos de um cliente: pedidos por status, total gasto nos pedidos que
+ * contam como venda e data do pedido mais recente (null se não há pedidos).
+ */
+public record CustomerOrderSummary(
+        UUID customerId,
+        Map<OrderStatus, Long> ordersByStatus,
+        BigDecimal lifetimeSpend,
+        String currency,
+        LocalDateTime lastOrderAt
+) {
+
+    public CustomerOrderSummary {
+        // Todos os status presentes, em ordem de declaração
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, ordersByStatus.getOrDefault(status, 0L));
+        }
+        ordersByStatus = Collections.unmodifiableMap(counts);
+    }
+
+    public long totalOrders() {
+        return ordersByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Pedidos que contam como venda (ver {@link OrderStatus#countsAsSale()}).
+     */
+    public long purchases() {
+        return ordersByStatus.entrySet().stream()
+                .filter(entry -> entry.getKey().countsAsSale())
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    public BigDecimal averageOrderValue() {
+        return SalesMath.average(lifetimeSpend, purchases());
+    }
+}
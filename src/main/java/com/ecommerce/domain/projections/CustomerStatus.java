@@ -0,0 +1,9 @@
+package com.ecommerce.domain.projections;
+
+import java.util.UUID;
+
+/**
+ * Projeção mínima de um cliente: apenas ID e se está ativo.
+ * Usada para validar clientes sem reconstruir a entidade.
+ */
+public record CustomerStatus(UUID id, Boolean active) {}
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.projections;
+
+import java.util.UUID;
+
+/**
+ * Projeção resumida de um cliente para listagens (sem endereço e telefone).
+ */
+public record CustomerSummary(
+        UUID id,
+        String firstName,
+        String lastName,
+        String email,
+        Boolean active
+) {}
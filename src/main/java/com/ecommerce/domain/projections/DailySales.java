@@ -0,0 +1,20 @@
+package com.ecommerce.domain.projections;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Vendas de um dia em uma moeda: pedidos confirmados (não cancelados), unidades e receita.
+ */
+public record DailySales(
+        LocalDate date,
+        String currency,
+        long orders,
+        long units,
+        BigDecimal revenue
+) {
+
+    public BigDecimal averageOrderValue() {
+        return SalesMath.average(revenue, orders);
+    }
+}
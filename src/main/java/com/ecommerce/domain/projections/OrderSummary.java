@@ -0,0 +1,19 @@
+package com.ecommerce.domain.projections;
+
+import com.ecommerce.domain.entities.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção resumida de um pedido para listagens.
+ * Lida diretamente do banco, sem carregar itens nem reconstruir o agregado.
+ */
+public record OrderSummary(
+        UUID id,
+        UUID customerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        String totalCurrency,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,14 @@
+package com.ecommerce.domain.projections;
+
+import java.util.UUID;
+
+/**
+ * Posição de um produto no ranking aproximado. As unidades reais da janela estão entre
+ * guaranteedUnits e estimatedUnits.
+ */
+public record ProductRanking(
+        UUID productId,
+        String productName,
+        long estimatedUnits,
+        long guaranteedUnits
+) {}
@@ -0,0 +1,13 @@
+package com.ecommerce.domain.projections;
+
+/**
+ * O que é contado no ranking de produtos.
+ */
+public enum ProductRankingMetric {
+
+    /** Unidades em pedidos confirmados (mais vendidos). */
+    SOLD,
+
+    /** Unidades adicionadas a pedidos, confirmados ou não (em alta). */
+    ADDED
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.projections;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Vendas de um produto em um período. orders conta os pedidos que contêm o produto.
+ */
+public record ProductSales(
+        UUID productId,
+        String productName,
+        String category,
+        String currency,
+        long orders,
+        long units,
+        BigDecimal revenue
+) {
+
+    public BigDecimal averageOrderValue() {
+        return SalesMath.average(revenue, orders);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.projections;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção resumida de um produto para listagens (sem descrição e datas).
+ */
+public record ProductSummary(
+        UUID id,
+        String name,
+        BigDecimal priceAmount,
+        String priceCurrency,
+        Integer stockQuantity,
+        String category,
+        Boolean active
+) {
+
+    public boolean isAvailable() {
+        return Boolean.TRUE.equals(active) && stockQuantity != null && stockQuantity > 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.projections;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Cálculos comuns às projeções de vendas.
+ */
+final class SalesMath {
+
+    private SalesMath() {}
+
+    /**
+     * Receita média por pedido, com duas casas; zero se não há pedidos.
+     */
+    static BigDecimal average(BigDecimal revenue, long orders) {
+        if (orders <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return revenue.divide(BigDecimal.valueOf(orders), 2, RoundingMode.HALF_UP);
+    }
+}
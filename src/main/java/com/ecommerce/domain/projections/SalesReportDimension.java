@@ -0,0 +1,11 @@
+package com.ecommerce.domain.projections;
+
+/**
+ * Agrupamentos disponíveis no relatório de vendas calculado a partir dos pedidos.
+ */
+public enum SalesReportDimension {
+    DAY,
+    HOUR_OF_DAY,
+    DAY_OF_WEEK,
+    PRODUCT
+}
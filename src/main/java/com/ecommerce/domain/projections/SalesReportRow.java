@@ -0,0 +1,21 @@
+package com.ecommerce.domain.projections;
+
+import java.math.BigDecimal;
+
+/**
+ * Linha do relatório de vendas calculado a partir dos pedidos: um valor do agrupamento
+ * (ex.: "2024-03-01", "14", o ID de um produto) com o rótulo para exibição e os totais.
+ */
+public record SalesReportRow(
+        String key,
+        String label,
+        String currency,
+        long orders,
+        long units,
+        BigDecimal revenue
+) {
+
+    public BigDecimal averageOrderValue() {
+        return SalesMath.average(revenue, orders);
+    }
+}
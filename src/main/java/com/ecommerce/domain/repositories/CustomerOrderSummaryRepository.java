@@ -0,0 +1,29 @@
+package com.ecommerce.domain.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.CustomerOrderSummary;
+import java.util.UUID;
+
+/**
+ * Resumo do histórico de pedidos por cliente, mantido incrementalmente a cada criação e
+ * mudança de status de pedido, para que a conta do cliente não precise ler os pedidos.
+ */
+public interface CustomerOrderSummaryRepository {
+
+    /**
+     * Conta um pedido recém-criado. Deve executar na mesma transação da criação.
+     */
+    void recordOrderCreated(Order order);
+
+    /**
+     * Move o pedido de previousStatus para o status atual e ajusta o total gasto.
+     * Deve executar na mesma transação da mudança.
+     */
+    void recordStatusChange(Order order, OrderStatus previousStatus);
+
+    /**
+     * Resumo do cliente; zerado se o cliente não tem pedidos.
+     */
+    CustomerOrderSummary findByCustomerId(UUID customerId);
+}
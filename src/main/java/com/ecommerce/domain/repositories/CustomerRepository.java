@@ -1,9 +1,14 @@
 package com.ecommerce.domain.repositories;
 
 import com.ecommerce.domain.entities.Customer;
+import com.ecommerce.domain.projections.CustomerSummary;
 import com.ecommerce.domain.valueobjects.Email;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,6 +26,33 @@ public interface CustomerRepository {
      */
     Optional<Customer> findById(UUID id);
 
+    /**
+     * Busca apenas a data da última atualização de um cliente (versão), sem carregar a entidade.
+     */
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+    /**
+     * Verifica se um cliente existe, sem carregá-lo.
+     */
+    boolean existsById(UUID id);
+
+    /**
+     * Busca apenas o status (ativo/inativo) de um cliente, sem carregá-lo.
+     * Vazio se o cliente não existir.
+     */
+    Optional<Boolean> findActiveStatusById(UUID id);
+
+    /**
+     * Retorna, dentre os IDs informados, os que pertencem a clientes existentes.
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    /**
+     * Busca o status (ativo/inativo) de vários clientes em uma consulta.
+     * IDs inexistentes não aparecem no mapa.
+     */
+    Map<UUID, Boolean> findActiveStatusByIds(Collection<UUID> ids);
+
     /**
      * Busca um cliente por email.
      */
@@ -31,11 +63,22 @@ public interface CustomerRepository {
      */
     List<Customer> findAllActive();
 
+    /**
+     * Busca resumos dos clientes ativos.
+     */
+    List<CustomerSummary> findActiveSummaries();
+
     /**
      * Busca clientes por nome (busca parcial, case-insensitive).
      */
     List<Customer> findByNameContaining(String name);
 
+    /**
+     * Busca clientes por nome, sobrenome ou parte local do email, ignorando acentos,
+     * ordenados por relevância e paginados.
+     */
+    List<Customer> searchByName(String query, int page, int size);
+
     /**
      * Verifica se existe um cliente com o email especificado.
      */
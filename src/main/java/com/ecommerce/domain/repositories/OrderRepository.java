@@ -2,6 +2,7 @@ package com.ecommerce.domain.repositories;
 
 import com.ecommerce.domain.entities.Order;
 import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,18 @@ public interface OrderRepository {
      */
     Optional<Order> findById(UUID id);
 
+    /**
+     * Busca um pedido por ID bloqueando-o para escrita até o fim da transação corrente.
+     * Operações que alteram o pedido e o estoque bloqueiam primeiro o pedido e depois
+     * os produtos, em ordem de ID, para evitar deadlocks.
+     */
+    Optional<Order> findByIdForUpdate(UUID id);
+
+    /**
+     * Busca apenas a data da última atualização de um pedido (versão), sem carregar itens.
+     */
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
     /**
      * Busca todos os pedidos de um cliente.
      */
@@ -37,6 +50,21 @@ public interface OrderRepository {
      */
     List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status);
 
+    /**
+     * Busca resumos dos pedidos de um cliente (sem itens).
+     */
+    List<OrderSummary> findSummariesByCustomerId(UUID customerId);
+
+    /**
+     * Busca resumos de pedidos por status (sem itens).
+     */
+    List<OrderSummary> findSummariesByStatus(OrderStatus status);
+
+    /**
+     * Busca resumos dos pedidos de um cliente com status específico (sem itens).
+     */
+    List<OrderSummary> findSummariesByCustomerIdAndStatus(UUID customerId, OrderStatus status);
+
     /**
      * Busca pedidos criados em um período.
      */
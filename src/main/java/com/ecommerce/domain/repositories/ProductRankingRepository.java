@@ -0,0 +1,39 @@
+package com.ecommerce.domain.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.projections.ProductRanking;
+import com.ecommerce.domain.projections.ProductRankingMetric;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Ranking aproximado dos produtos mais vendidos e mais adicionados a pedidos em uma janela
+ * de tempo recente, atualizado a cada evento e com memória limitada.
+ *
+ * Os eventos são contados quando a transação que os gerou é confirmada. Cancelamentos não
+ * são descontados.
+ */
+public interface ProductRankingRepository {
+
+    /**
+     * Conta as unidades de um item adicionado a um pedido.
+     */
+    void recordAddedToOrder(OrderItem item);
+
+    /**
+     * Conta as unidades vendidas de um pedido confirmado.
+     */
+    void recordSale(Order order);
+
+    /**
+     * Os {@code limit} produtos com mais unidades na janela que termina agora,
+     * em ordem decrescente.
+     */
+    List<ProductRanking> findTop(ProductRankingMetric metric, Duration window, int limit);
+
+    /**
+     * Maior janela disponível.
+     */
+    Duration maxWindow();
+}
@@ -1,6 +1,8 @@
 package com.ecommerce.domain.repositories;
 
 import com.ecommerce.domain.entities.Product;
+import com.ecommerce.domain.projections.ProductSummary;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +23,19 @@ public interface ProductRepository {
      */
     Optional<Product> findById(UUID id);
 
+    /**
+     * Soma {@code delta} ao estoque do produto em uma única operação atômica no banco,
+     * sem ler e regravar o produto. Alterações concorrentes não se perdem.
+     *
+     * @return o novo estoque, ou vazio se o produto não existe ou o estoque ficaria negativo
+     */
+    Optional<Integer> adjustStock(UUID id, int delta);
+
+    /**
+     * Busca apenas a data da última atualização de um produto (versão), sem carregar a entidade.
+     */
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
     /**
      * Busca todos os produtos ativos.
      */
@@ -41,6 +56,21 @@ public interface ProductRepository {
      */
     List<Product> findAvailableProducts();
 
+    /**
+     * Busca resumos dos produtos ativos.
+     */
+    List<ProductSummary> findActiveSummaries();
+
+    /**
+     * Busca resumos de produtos por categoria.
+     */
+    List<ProductSummary> findSummariesByCategory(String category);
+
+    /**
+     * Busca resumos dos produtos disponíveis (ativos e com estoque).
+     */
+    List<ProductSummary> findAvailableSummaries();
+
     /**
      * Busca produtos com estoque baixo (menor que quantidade especificada).
      */
@@ -0,0 +1,42 @@
+package com.ecommerce.domain.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.projections.CategorySales;
+import com.ecommerce.domain.projections.DailySales;
+import com.ecommerce.domain.projections.ProductSales;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Agregados de vendas mantidos incrementalmente a cada confirmação e cancelamento de pedido,
+ * para que os relatórios não precisem ler os pedidos. As vendas são contadas no dia de
+ * criação do pedido.
+ */
+public interface SalesAnalyticsRepository {
+
+    /**
+     * Soma o pedido confirmado aos agregados. Deve executar na mesma transação da confirmação.
+     */
+    void addSale(Order order);
+
+    /**
+     * Desfaz {@link #addSale} para um pedido confirmado que foi cancelado. Pedidos que nunca
+     * passaram por {@link #addSale} (confirmados antes dos agregados existirem) são ignorados.
+     */
+    void removeSale(Order order);
+
+    /**
+     * Vendas por dia e moeda no período (inclusivo), em ordem de data.
+     */
+    List<DailySales> findDailySales(LocalDate from, LocalDate to);
+
+    /**
+     * Vendas por categoria e moeda no período, da maior para a menor receita.
+     */
+    List<CategorySales> findCategorySales(LocalDate from, LocalDate to);
+
+    /**
+     * Os {@code limit} produtos de maior receita no período.
+     */
+    List<ProductSales> findProductSales(LocalDate from, LocalDate to, int limit);
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.domain.repositories;
+
+import com.ecommerce.domain.projections.SalesReportDimension;
+import com.ecommerce.domain.projections.SalesReportRow;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Relatórios de vendas calculados diretamente dos pedidos (de todas as camadas do histórico),
+ * para períodos ou agrupamentos que as pré-agregações de {@link SalesAnalyticsRepository} não cobrem.
+ * Conta os pedidos confirmados e além, exceto os cancelados, no dia de criação.
+ */
+public interface SalesReportRepository {
+
+    /**
+     * Vendas do período (datas inclusivas) agrupadas pela dimensão. Agrupamentos de tempo vêm
+     * em ordem crescente; produtos, da maior para a menor receita.
+     */
+    List<SalesReportRow> computeSalesReport(SalesReportDimension dimension, LocalDate from, LocalDate to);
+}
@@ -1,43 +1,128 @@
 package com.ecommerce.domain.valueobjects;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object para representar emails válidos.
  * Garante que apenas emails com formato correto sejam criados.
+ *
+ * O formato aceito é o da expressão ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$,
+ * verificado por um validador linear (uma passada, sem backtracking). Emails que já chegam
+ * sem espaços nas bordas e em minúsculas são aceitos sem alocar uma nova string.
  */
 public class Email {
 
-    private static final String EMAIL_REGEX =
-            "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
-
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
-
     private final String value;
 
     private Email(String value) {
-        if (value == null || value.trim().isEmpty()) {
+        this.value = value;
+    }
+
+    public static Email of(String value) {
+        if (value == null) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
 
-        String trimmedValue = value.trim().toLowerCase();
+        String normalized = isNormalized(value) ? value : value.trim().toLowerCase();
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
 
-        if (!EMAIL_PATTERN.matcher(trimmedValue).matches()) {
+        if (!isValidFormat(normalized)) {
             throw new IllegalArgumentException("Invalid email format: " + value);
         }
 
-        this.value = trimmedValue;
+        return new Email(normalized);
     }
 
-    public static Email of(String value) {
-        return new Email(value);
+    /**
+     * Reconstrói um email já validado e normalizado (ex.: lido do banco), sem revalidar.
+     * Não deve ser usado com entrada de usuário.
+     */
+    public static Email fromTrusted(String normalizedValue) {
+        if (normalizedValue == null) {
+            throw new IllegalArgumentException("Email cannot be null or empty");
+        }
+        return new Email(normalizedValue);
     }
 
     public String getValue() {
         return value;
     }
 
+    /**
+     * Indica se trim() e toLowerCase() devolveriam a própria string: sem espaços ou
+     * caracteres de controle nas bordas, sem maiúsculas ASCII e sem caracteres não ASCII
+     * (cuja conversão para minúsculas depende do locale).
+     */
+    private static boolean isNormalized(String value) {
+        int length = value.length();
+        if (length == 0 || value.charAt(0) <= ' ' || value.charAt(length - 1) <= ' ') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c > 127 || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalente a ^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\.[a-zA-Z]{2,}$.
+     * Como o TLD não contém ponto, ele começa depois do último ponto do domínio.
+     */
+    private static boolean isValidFormat(String value) {
+        int length = value.length();
+
+        // Parte local: 1+ caracteres permitidos até o primeiro '@'
+        int at = 0;
+        while (at < length && value.charAt(at) != '@') {
+            if (!isLocalChar(value.charAt(at))) {
+                return false;
+            }
+            at++;
+        }
+        if (at == 0 || at == length) {
+            return false;
+        }
+
+        // Domínio: letras, dígitos, '.' e '-'; guarda o último ponto
+        int lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+
+        // Ao menos um caractere entre '@' e o último ponto, e TLD com 2+ letras
+        if (lastDot < at + 2 || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -56,4 +141,4 @@ public class Email {
     public String toString() {
         return value;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.domain.valueobjects;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache de instâncias canônicas de {@link Email} para emails lidos com frequência.
+ *
+ * É uma tabela de tamanho fixo indexada pelo hash do valor: cada slot guarda o último
+ * email visto, e uma colisão apenas substitui o anterior. Não há lock nem crescimento,
+ * então o custo de memória é limitado pela capacidade. Como Email é imutável, devolver
+ * a mesma instância para o mesmo valor é seguro.
+ */
+public final class EmailInterner {
+
+    private final AtomicReferenceArray<Email> slots;
+    private final int mask;
+
+    public EmailInterner(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Interner capacity must be positive");
+        }
+        int size = Integer.highestOneBit(Math.min(capacity, 1 << 30));
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Devolve a instância canônica do email já validado e normalizado, criando-a se necessário.
+     */
+    public Email intern(String normalizedValue) {
+        int hash = normalizedValue.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        Email cached = slots.get(index);
+        if (cached != null && cached.getValue().equals(normalizedValue)) {
+            return cached;
+        }
+
+        Email email = Email.fromTrusted(normalizedValue);
+        slots.lazySet(index, email);
+        return email;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.infrastructure.adapters.controllers;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Controller REST com estatísticas dos caches da aplicação.
+ */
+@RestController
+@RequestMapping("/admin/cache")
+public class CacheAdminController {
+
+    private final SessionFactory sessionFactory;
+
+    public CacheAdminController(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Estatísticas do cache de segundo nível do Hibernate, por região.
+     * Os contadores só são coletados com hibernate.generate_statistics (profile l2cache).
+     */
+    @GetMapping("/second-level")
+    public ResponseEntity<SecondLevelCacheStats> getSecondLevelCacheStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        List<RegionStats> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(name -> RegionStats.from(name, statistics.getCacheRegionStatistics(name)))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return ResponseEntity.ok(new SecondLevelCacheStats(
+                sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled(),
+                sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled(),
+                statistics.isStatisticsEnabled(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                regions
+        ));
+    }
+
+    public record SecondLevelCacheStats(boolean enabled, boolean queryCacheEnabled, boolean statisticsEnabled,
+                                        long hits, long misses, long puts,
+                                        long queryCacheHits, long queryCacheMisses,
+                                        List<RegionStats> regions) {
+    }
+
+    public record RegionStats(String name, long hits, long misses, long puts, long elementsInMemory) {
+
+        static RegionStats from(String name, CacheRegionStatistics statistics) {
+            if (statistics == null) {
+                return null;
+            }
+            return new RegionStats(
+                    name,
+                    statistics.getHitCount(),
+                    statistics.getMissCount(),
+                    statistics.getPutCount(),
+                    statistics.getElementCountInMemory()
+            );
+        }
+    }
+}
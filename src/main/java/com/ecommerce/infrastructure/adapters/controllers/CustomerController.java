@@ -1,17 +1,24 @@
 package com.ecommerce.infrastructure.adapters.controllers;
 
 import com.ecommerce.application.dto.CustomerDTO;
+import com.ecommerce.application.dto.CustomerSummaryDTO;
 import com.ecommerce.application.dto.RegisterCustomerDTO;
 import com.ecommerce.application.exceptions.NotFoundException;
 import com.ecommerce.application.usecases.customer.RegisterCustomerUseCase;
+import com.ecommerce.application.usecases.customer.SearchCustomersUseCase;
 import com.ecommerce.domain.entities.Customer;
 import com.ecommerce.domain.repositories.CustomerRepository;
 import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.infrastructure.web.ResourceVersions;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -21,12 +28,18 @@ import java.util.UUID;
 @RequestMapping("/customers")
 public class CustomerController {
 
+    // Dados pessoais: só o navegador pode guardar, sempre revalidando via ETag
+    private static final CacheControl CUSTOMER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final RegisterCustomerUseCase registerCustomerUseCase;
+    private final SearchCustomersUseCase searchCustomersUseCase;
     private final CustomerRepository customerRepository;
 
     public CustomerController(RegisterCustomerUseCase registerCustomerUseCase,
+                              SearchCustomersUseCase searchCustomersUseCase,
                               CustomerRepository customerRepository) {
         this.registerCustomerUseCase = registerCustomerUseCase;
+        this.searchCustomersUseCase = searchCustomersUseCase;
         this.customerRepository = customerRepository;
     }
 
@@ -43,10 +56,18 @@ public class CustomerController {
      * Buscar cliente por ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDTO> getCustomerById(@PathVariable UUID id) {
+    public ResponseEntity<CustomerDTO> getCustomerById(@PathVariable UUID id, WebRequest request) {
+        // Revalidação: consulta só a versão, sem reconstruir o cliente
+        if (ResourceVersions.hasIfNoneMatch(request)) {
+            Optional<LocalDateTime> version = customerRepository.findUpdatedAtById(id);
+            if (ResourceVersions.matchesIfNoneMatch(request, version)) {
+                return ResourceVersions.notModified(version.get(), CUSTOMER_CACHE_CONTROL);
+            }
+        }
+
         Customer customer = customerRepository.findById(id)
                 .orElseThrow(() -> NotFoundException.customer(id));
-        return ResponseEntity.ok(CustomerDTO.from(customer));
+        return ResourceVersions.ok(CustomerDTO.from(customer), customer.getUpdatedAt(), CUSTOMER_CACHE_CONTROL);
     }
 
     /**
@@ -57,7 +78,7 @@ public class CustomerController {
         Email emailVo = Email.of(email);
         Customer customer = customerRepository.findByEmail(emailVo)
                 .orElseThrow(() -> NotFoundException.customerByEmail(email));
-        return ResponseEntity.ok(CustomerDTO.from(customer));
+        return ResourceVersions.ok(CustomerDTO.from(customer), customer.getUpdatedAt(), CUSTOMER_CACHE_CONTROL);
     }
 
     /**
@@ -73,14 +94,26 @@ public class CustomerController {
     }
 
     /**
-     * Buscar clientes por nome.
+     * Listar resumos dos clientes ativos (?view=summary), sem endereço e telefone.
      */
-    @GetMapping("/search")
-    public ResponseEntity<List<CustomerDTO>> searchCustomersByName(@RequestParam String name) {
-        List<CustomerDTO> customers = customerRepository.findByNameContaining(name)
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<List<CustomerSummaryDTO>> getAllActiveCustomerSummaries() {
+        List<CustomerSummaryDTO> customers = customerRepository.findActiveSummaries()
                 .stream()
-                .map(CustomerDTO::from)
+                .map(CustomerSummaryDTO::from)
                 .toList();
         return ResponseEntity.ok(customers);
     }
+
+    /**
+     * Buscar clientes por nome, sobrenome ou email (sem acentos), ordenados por relevância.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerDTO>> searchCustomersByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<CustomerDTO> customers = searchCustomersUseCase.execute(name, page, size);
+        return ResponseEntity.ok(customers);
+    }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@ package com.ecommerce.infrastructure.adapters.controllers;
 
 import com.ecommerce.application.dto.AddItemToOrderDTO;
 import com.ecommerce.application.dto.CreateOrderDTO;
+import com.ecommerce.application.dto.CustomerOrderSummaryDTO;
 import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.dto.OrderSummaryDTO;
 import com.ecommerce.application.usecases.order.AddItemToOrderUseCase;
 import com.ecommerce.application.usecases.order.CancelOrderUseCase;
 import com.ecommerce.application.usecases.order.ConfirmOrderUseCase;
@@ -10,16 +12,21 @@ import com.ecommerce.application.usecases.order.CreateOrderUseCase;
 import com.ecommerce.application.usecases.order.FindOrdersUseCase;
 import com.ecommerce.application.usecases.order.RemoveItemFromOrderUseCase;
 import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.infrastructure.web.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -31,6 +38,9 @@ import java.util.UUID;
 @Tag(name = "Orders", description = "API para gerenciamento de pedidos")
 public class OrderController {
 
+    // Dados do cliente: só o navegador pode guardar, sempre revalidando via ETag
+    private static final CacheControl ORDER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final CreateOrderUseCase createOrderUseCase;
     private final AddItemToOrderUseCase addItemToOrderUseCase;
     private final RemoveItemFromOrderUseCase removeItemFromOrderUseCase;
@@ -77,16 +87,26 @@ public class OrderController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Buscar pedido por ID",
-            description = "Retorna um pedido específico com todos os seus itens e informações"
+            description = "Retorna um pedido específico com todos os seus itens e informações. Suporta If-None-Match/If-Modified-Since"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pedido encontrado"),
+            @ApiResponse(responseCode = "304", description = "Pedido não modificado desde a versão informada"),
             @ApiResponse(responseCode = "404", description = "Pedido não encontrado")
     })
     public ResponseEntity<OrderDTO> getOrderById(
-            @Parameter(description = "ID do pedido") @PathVariable UUID id) {
+            @Parameter(description = "ID do pedido") @PathVariable UUID id,
+            WebRequest request) {
+        // Revalidação: consulta só a versão, sem carregar itens nem montar o DTO
+        if (ResourceVersions.hasIfNoneMatch(request)) {
+            Optional<LocalDateTime> version = findOrdersUseCase.findVersion(id);
+            if (ResourceVersions.matchesIfNoneMatch(request, version)) {
+                return ResourceVersions.notModified(version.get(), ORDER_CACHE_CONTROL);
+            }
+        }
+
         OrderDTO order = findOrdersUseCase.findById(id);
-        return ResponseEntity.ok(order);
+        return ResourceVersions.ok(order, order.updatedAt(), ORDER_CACHE_CONTROL);
     }
 
     /**
@@ -186,6 +206,41 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Buscar resumos dos pedidos de um cliente (?view=summary).
+     */
+    @GetMapping(value = "/customer/{customerId}", params = "view=summary")
+    @Operation(
+            summary = "Buscar resumos dos pedidos do cliente",
+            description = "Versão enxuta da listagem: id, status, total e data de criação, sem itens nem endereço"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista resumida de pedidos retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+    })
+    public ResponseEntity<List<OrderSummaryDTO>> getOrderSummariesByCustomer(
+            @Parameter(description = "ID do cliente") @PathVariable UUID customerId) {
+        List<OrderSummaryDTO> orders = findOrdersUseCase.findSummariesByCustomerId(customerId);
+        return ResponseEntity.ok(orders);
+    }
+
+    /**
+     * Resumo do histórico de pedidos de um cliente, sem carregar os pedidos.
+     */
+    @GetMapping("/customer/{customerId}/summary")
+    @Operation(
+            summary = "Resumo dos pedidos do cliente",
+            description = "Quantidade de pedidos por status, total gasto, ticket médio e data do último pedido"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resumo retornado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
+    })
+    public ResponseEntity<CustomerOrderSummaryDTO> getCustomerOrderSummary(
+            @Parameter(description = "ID do cliente") @PathVariable UUID customerId) {
+        return ResponseEntity.ok(findOrdersUseCase.findCustomerSummary(customerId));
+    }
+
     /**
      * Buscar pedidos por status.
      */
@@ -207,6 +262,24 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * Buscar resumos de pedidos por status (?view=summary).
+     */
+    @GetMapping(value = "/status/{status}", params = "view=summary")
+    @Operation(
+            summary = "Buscar resumos de pedidos por status",
+            description = "Versão enxuta da listagem por status, sem itens nem endereço"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista resumida de pedidos retornada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Status inválido")
+    })
+    public ResponseEntity<List<OrderSummaryDTO>> getOrderSummariesByStatus(
+            @Parameter(description = "Status do pedido", example = "PENDING") @PathVariable OrderStatus status) {
+        List<OrderSummaryDTO> orders = findOrdersUseCase.findSummariesByStatus(status);
+        return ResponseEntity.ok(orders);
+    }
+
     /**
      * Buscar pedidos de um cliente com status específico.
      */
@@ -226,4 +299,24 @@ public class OrderController {
         List<OrderDTO> orders = findOrdersUseCase.findByCustomerIdAndStatus(customerId, status);
         return ResponseEntity.ok(orders);
     }
+
+    /**
+     * Buscar resumos dos pedidos de um cliente com status específico (?view=summary).
+     */
+    @GetMapping(value = "/customer/{customerId}/status/{status}", params = "view=summary")
+    @Operation(
+            summary = "Buscar resumos dos pedidos do cliente por status",
+            description = "Versão enxuta da listagem por cliente e status, sem itens nem endereço"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lista resumida de pedidos retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Cliente não encontrado"),
+            @ApiResponse(responseCode = "400", description = "Status inválido")
+    })
+    public ResponseEntity<List<OrderSummaryDTO>> getOrderSummariesByCustomerAndStatus(
+            @Parameter(description = "ID do cliente") @PathVariable UUID customerId,
+            @Parameter(description = "Status do pedido") @PathVariable OrderStatus status) {
+        List<OrderSummaryDTO> orders = findOrdersUseCase.findSummariesByCustomerIdAndStatus(customerId, status);
+        return ResponseEntity.ok(orders);
+    }
 }
\ No newline at end of file
@@ -2,20 +2,35 @@ package com.ecommerce.infrastructure.adapters.controllers;
 
 import com.ecommerce.application.dto.CreateProductDTO;
 import com.ecommerce.application.dto.ProductDTO;
+import com.ecommerce.application.dto.ProductRankingDTO;
+import com.ecommerce.application.dto.ProductSummaryDTO;
 import com.ecommerce.application.dto.UpdateProductDTO;
 import com.ecommerce.application.usecases.product.CreateProductUseCase;
 import com.ecommerce.application.usecases.product.FindProductsUseCase;
+import com.ecommerce.application.usecases.product.FindTopProductsUseCase;
 import com.ecommerce.application.usecases.product.UpdateProductUseCase;
+import com.ecommerce.domain.projections.ProductRankingMetric;
+import com.ecommerce.infrastructure.web.CatalogResponseCache;
+import com.ecommerce.infrastructure.web.CatalogResponseCache.Listing;
+import com.ecommerce.infrastructure.web.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -27,16 +42,25 @@ import java.util.UUID;
 @Tag(name = "Products", description = "API para gerenciamento de produtos")
 public class ProductController {
 
+    // Pode ser guardado por caches/CDNs, mas sempre revalidado via ETag
+    private static final CacheControl PRODUCT_CACHE_CONTROL = CacheControl.noCache();
+
     private final CreateProductUseCase createProductUseCase;
     private final FindProductsUseCase findProductsUseCase;
     private final UpdateProductUseCase updateProductUseCase;
+    private final FindTopProductsUseCase findTopProductsUseCase;
+    private final CatalogResponseCache catalogResponseCache;
 
     public ProductController(CreateProductUseCase createProductUseCase,
                              FindProductsUseCase findProductsUseCase,
-                             UpdateProductUseCase updateProductUseCase) {
+                             UpdateProductUseCase updateProductUseCase,
+                             FindTopProductsUseCase findTopProductsUseCase,
+                             CatalogResponseCache catalogResponseCache) {
         this.createProductUseCase = createProductUseCase;
         this.findProductsUseCase = findProductsUseCase;
         this.updateProductUseCase = updateProductUseCase;
+        this.findTopProductsUseCase = findTopProductsUseCase;
+        this.catalogResponseCache = catalogResponseCache;
     }
 
     /**
@@ -58,25 +82,50 @@ public class ProductController {
      * Buscar produto por ID.
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar produto por ID", description = "Retorna um produto específico pelo seu ID")
+    @Operation(summary = "Buscar produto por ID", description = "Retorna um produto específico pelo seu ID. Suporta If-None-Match/If-Modified-Since")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Produto encontrado"),
+            @ApiResponse(responseCode = "304", description = "Produto não modificado desde a versão informada"),
             @ApiResponse(responseCode = "404", description = "Produto não encontrado")
     })
     public ResponseEntity<ProductDTO> getProductById(
-            @Parameter(description = "ID do produto") @PathVariable UUID id) {
+            @Parameter(description = "ID do produto") @PathVariable UUID id,
+            WebRequest request) {
+        // Revalidação: consulta só a versão, sem carregar o produto nem montar o DTO
+        if (ResourceVersions.hasIfNoneMatch(request)) {
+            Optional<LocalDateTime> version = findProductsUseCase.findVersion(id);
+            if (ResourceVersions.matchesIfNoneMatch(request, version)) {
+                return ResourceVersions.notModified(version.get(), PRODUCT_CACHE_CONTROL);
+            }
+        }
+
         ProductDTO product = findProductsUseCase.findById(id);
-        return ResponseEntity.ok(product);
+        return ResourceVersions.ok(product, product.updatedAt(), PRODUCT_CACHE_CONTROL);
     }
 
     /**
      * Listar todos os produtos ativos.
+     * Servido a partir do JSON pré-serializado enquanto o catálogo não mudar.
      */
     @GetMapping
-    @Operation(summary = "Listar produtos ativos", description = "Retorna todos os produtos ativos do catálogo")
-    public ResponseEntity<List<ProductDTO>> getAllActiveProducts() {
-        List<ProductDTO> products = findProductsUseCase.findAllActive();
-        return ResponseEntity.ok(products);
+    @Operation(summary = "Listar produtos ativos", description = "Retorna todos os produtos ativos do catálogo. Suporta gzip e If-None-Match")
+    @ApiResponse(responseCode = "200", description = "Lista de produtos",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = ProductDTO.class))))
+    public ResponseEntity<byte[]> getAllActiveProducts(WebRequest request) {
+        return catalogResponseCache.serve(Listing.ACTIVE_PRODUCTS, findProductsUseCase::findAllActive, request);
+    }
+
+    /**
+     * Listar resumos dos produtos ativos (?view=summary).
+     */
+    @GetMapping(params = "view=summary")
+    @Operation(summary = "Listar resumos de produtos ativos", description = "Versão enxuta da listagem, sem descrição e datas. Suporta gzip e If-None-Match")
+    @ApiResponse(responseCode = "200", description = "Lista resumida de produtos",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = ProductSummaryDTO.class))))
+    public ResponseEntity<byte[]> getAllActiveProductSummaries(WebRequest request) {
+        return catalogResponseCache.serve(Listing.ACTIVE_PRODUCT_SUMMARIES, findProductsUseCase::findActiveSummaries, request);
     }
 
     /**
@@ -90,6 +139,17 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Buscar resumos de produtos por categoria (?view=summary).
+     */
+    @GetMapping(value = "/category/{category}", params = "view=summary")
+    @Operation(summary = "Buscar resumos de produtos por categoria", description = "Versão enxuta da busca por categoria, sem descrição e datas")
+    public ResponseEntity<List<ProductSummaryDTO>> getProductSummariesByCategory(
+            @Parameter(description = "Nome da categoria") @PathVariable String category) {
+        List<ProductSummaryDTO> products = findProductsUseCase.findSummariesByCategory(category);
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * Buscar produtos por nome (busca parcial).
      */
@@ -103,22 +163,57 @@ public class ProductController {
 
     /**
      * Listar produtos disponíveis (ativos e com estoque).
+     * Servido a partir do JSON pré-serializado enquanto o catálogo não mudar.
      */
     @GetMapping("/available")
-    @Operation(summary = "Listar produtos disponíveis", description = "Retorna produtos ativos e com estoque")
-    public ResponseEntity<List<ProductDTO>> getAvailableProducts() {
-        List<ProductDTO> products = findProductsUseCase.findAvailableProducts();
-        return ResponseEntity.ok(products);
+    @Operation(summary = "Listar produtos disponíveis", description = "Retorna produtos ativos e com estoque. Suporta gzip e If-None-Match")
+    @ApiResponse(responseCode = "200", description = "Lista de produtos disponíveis",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = ProductDTO.class))))
+    public ResponseEntity<byte[]> getAvailableProducts(WebRequest request) {
+        return catalogResponseCache.serve(Listing.AVAILABLE_PRODUCTS, findProductsUseCase::findAvailableProducts, request);
+    }
+
+    /**
+     * Listar resumos dos produtos disponíveis (?view=summary).
+     */
+    @GetMapping(value = "/available", params = "view=summary")
+    @Operation(summary = "Listar resumos de produtos disponíveis", description = "Versão enxuta da listagem de disponíveis. Suporta gzip e If-None-Match")
+    @ApiResponse(responseCode = "200", description = "Lista resumida de produtos disponíveis",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = ProductSummaryDTO.class))))
+    public ResponseEntity<byte[]> getAvailableProductSummaries(WebRequest request) {
+        return catalogResponseCache.serve(Listing.AVAILABLE_PRODUCT_SUMMARIES, findProductsUseCase::findAvailableSummaries, request);
     }
 
     /**
      * Listar todas as categorias.
+     * Servido a partir do JSON pré-serializado enquanto o catálogo não mudar.
      */
     @GetMapping("/categories")
-    @Operation(summary = "Listar categorias", description = "Retorna todas as categorias disponíveis")
-    public ResponseEntity<List<String>> getAllCategories() {
-        List<String> categories = findProductsUseCase.findAllCategories();
-        return ResponseEntity.ok(categories);
+    @Operation(summary = "Listar categorias", description = "Retorna todas as categorias disponíveis. Suporta gzip e If-None-Match")
+    @ApiResponse(responseCode = "200", description = "Lista de categorias",
+            content = @Content(mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = String.class))))
+    public ResponseEntity<byte[]> getAllCategories(WebRequest request) {
+        return catalogResponseCache.serve(Listing.CATEGORIES, findProductsUseCase::findAllCategories, request);
+    }
+
+    /**
+     * Ranking aproximado de produtos mais vendidos (SOLD) ou mais adicionados a pedidos (ADDED)
+     * na janela recente, atualizado a cada pedido.
+     */
+    @GetMapping("/top")
+    @Operation(summary = "Ranking de produtos", description = "Produtos com mais unidades vendidas ou adicionadas a pedidos na janela (ISO-8601, ex.: PT1H, P1D). Valores aproximados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranking de produtos"),
+            @ApiResponse(responseCode = "400", description = "Métrica, janela ou limite inválidos")
+    })
+    public ResponseEntity<List<ProductRankingDTO>> getTopProducts(
+            @Parameter(description = "SOLD ou ADDED") @RequestParam(defaultValue = "SOLD") ProductRankingMetric metric,
+            @Parameter(description = "Janela até agora") @RequestParam(defaultValue = "P1D") Duration window,
+            @Parameter(description = "Quantidade de produtos") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(findTopProductsUseCase.execute(metric, window, limit));
     }
 
     /**
@@ -0,0 +1,66 @@
+package com.ecommerce.infrastructure.adapters.controllers;
+
+import com.ecommerce.infrastructure.observability.JfrRecordingService;
+import com.ecommerce.infrastructure.observability.JfrRecordingService.RecordingStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.Duration;
+
+/**
+ * Controller REST para gravações do Java Flight Recorder sob demanda.
+ *
+ * Durante a gravação cada execução de use case gera um evento com o endpoint,
+ * a duração, as entidades carregadas e a estimativa de alocação.
+ */
+@RestController
+@RequestMapping("/admin/profiling/recording")
+public class ProfilingAdminController {
+
+    private final JfrRecordingService recordingService;
+
+    public ProfilingAdminController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    @GetMapping
+    public ResponseEntity<RecordingStatus> getStatus() {
+        return ResponseEntity.ok(recordingService.status());
+    }
+
+    /**
+     * Inicia uma gravação. Retorna 409 se já houver uma em andamento.
+     */
+    @PostMapping
+    public ResponseEntity<RecordingStatus> start(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(required = false) Duration duration) {
+        return recordingService.start(settings, duration)
+                .map(status -> ResponseEntity.status(HttpStatus.CREATED).body(status))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).body(recordingService.status()));
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingStatus> stop() {
+        return recordingService.stop()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Grava a gravação atual em um arquivo .jfr no diretório configurado e retorna o caminho.
+     */
+    @PostMapping("/dump")
+    public ResponseEntity<DumpResult> dump() {
+        return recordingService.dump()
+                .map(file -> ResponseEntity.ok(new DumpResult(file.toAbsolutePath().toString())))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    public record DumpResult(String file) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.infrastructure.adapters.controllers;
+
+import com.ecommerce.application.dto.CategorySalesDTO;
+import com.ecommerce.application.dto.DailySalesDTO;
+import com.ecommerce.application.dto.ProductSalesDTO;
+import com.ecommerce.application.dto.SalesReportRowDTO;
+import com.ecommerce.application.usecases.analytics.SalesAnalyticsUseCase;
+import com.ecommerce.domain.projections.SalesReportDimension;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller REST para os relatórios de vendas (painéis).
+ * Os números vêm de agregados atualizados na confirmação e no cancelamento dos pedidos,
+ * exceto em /report, que os calcula a partir dos pedidos.
+ */
+@RestController
+@RequestMapping("/analytics/sales")
+@Tag(name = "Sales Analytics", description = "Receita, unidades, pedidos e ticket médio por dia, categoria e produto")
+public class SalesAnalyticsController {
+
+    private final SalesAnalyticsUseCase salesAnalyticsUseCase;
+
+    public SalesAnalyticsController(SalesAnalyticsUseCase salesAnalyticsUseCase) {
+        this.salesAnalyticsUseCase = salesAnalyticsUseCase;
+    }
+
+    /**
+     * Vendas por dia.
+     */
+    @GetMapping("/daily")
+    @Operation(summary = "Vendas por dia", description = "Pedidos confirmados por dia de criação, no período (datas inclusivas)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vendas encontradas"),
+            @ApiResponse(responseCode = "400", description = "Período inválido")
+    })
+    public ResponseEntity<List<DailySalesDTO>> getSalesByDay(
+            @Parameter(description = "Data inicial (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesAnalyticsUseCase.salesByDay(from, to));
+    }
+
+    /**
+     * Vendas por categoria.
+     */
+    @GetMapping("/categories")
+    @Operation(summary = "Vendas por categoria", description = "Categorias do período, da maior para a menor receita")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vendas encontradas"),
+            @ApiResponse(responseCode = "400", description = "Período inválido")
+    })
+    public ResponseEntity<List<CategorySalesDTO>> getSalesByCategory(
+            @Parameter(description = "Data inicial (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesAnalyticsUseCase.salesByCategory(from, to));
+    }
+
+    /**
+     * Produtos mais vendidos (por receita).
+     */
+    @GetMapping("/products")
+    @Operation(summary = "Vendas por produto", description = "Produtos de maior receita no período")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vendas encontradas"),
+            @ApiResponse(responseCode = "400", description = "Período ou limite inválido")
+    })
+    public ResponseEntity<List<ProductSalesDTO>> getSalesByProduct(
+            @Parameter(description = "Data inicial (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Quantidade máxima de produtos (1 a 100)") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(salesAnalyticsUseCase.salesByProduct(from, to, limit));
+    }
+
+    /**
+     * Relatório calculado a partir dos pedidos, para agrupamentos sem pré-agregação.
+     */
+    @GetMapping("/report")
+    @Operation(summary = "Relatório de vendas por dimensão",
+            description = "Lê os pedidos do período em paralelo; mais lento que os relatórios pré-agregados")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório calculado"),
+            @ApiResponse(responseCode = "400", description = "Período ou dimensão inválidos")
+    })
+    public ResponseEntity<List<SalesReportRowDTO>> getSalesReport(
+            @Parameter(description = "Agrupamento: DAY, HOUR_OF_DAY, DAY_OF_WEEK ou PRODUCT") @RequestParam SalesReportDimension dimension,
+            @Parameter(description = "Data inicial (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesAnalyticsUseCase.salesReport(dimension, from, to));
+    }
+}
@@ -0,0 +1,277 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Customer;
+import com.ecommerce.domain.projections.CustomerSummary;
+import com.ecommerce.domain.repositories.CustomerRepository;
+import com.ecommerce.domain.valueobjects.Email;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decorator com cache para o repositório de clientes.
+ *
+ * Mantém duas chaves: ID → cliente (com cache negativo para IDs inexistentes) e
+ * email normalizado → ID. As consultas de existência e status usadas pelos pedidos
+ * guardam só ID → ativo (também com cache negativo), sem carregar o cliente. A chave por email só guarda o ID, e o cliente encontrado
+ * por ela é conferido antes de ser devolvido, então uma troca de email nunca devolve
+ * o cliente errado.
+ *
+ * Escritas passam direto para o repositório JPA e invalidam as entradas do cliente;
+ * se houver transação ativa, a invalidação é repetida após o commit para descartar
+ * leituras feitas antes dele. Como Customer é mutável, o cache devolve sempre cópias.
+ *
+ * A checagem de unicidade de email passa antes pelo {@link EmailBloomFilter}.
+ */
+@Primary
+@Repository
+public class CachingCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository delegate;
+    private final Cache<UUID, Optional<Customer>> customersById;
+    private final Cache<String, UUID> idsByEmail;
+    private final Cache<UUID, Optional<Boolean>> activeStatusById;
+    private final EmailBloomFilter emailFilter;
+
+    public CachingCustomerRepository(
+            @Qualifier("customerRepositoryImpl") CustomerRepository delegate,
+            EmailBloomFilter emailFilter,
+            @Value("${app.cache.customers.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.customers.ttl:10m}") Duration ttl,
+            @Value("${app.cache.customers.negative-ttl:30s}") Duration negativeTtl) {
+        this.delegate = delegate;
+        this.emailFilter = emailFilter;
+        this.customersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PositiveNegativeExpiry<Customer>(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        this.activeStatusById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PositiveNegativeExpiry<Boolean>(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        Customer saved = delegate.save(customer);
+        emailFilter.add(saved.getEmail());
+        invalidate(saved.getId(), saved.getEmail());
+        return saved;
+    }
+
+    @Override
+    public Optional<Customer> findById(UUID id) {
+        return customersById.get(id, delegate::findById)
+                .map(CachingCustomerRepository::copy);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+        return delegate.findUpdatedAtById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return findActiveStatusById(id).isPresent();
+    }
+
+    @Override
+    public Optional<Boolean> findActiveStatusById(UUID id) {
+        // Entrada em cache (positiva ou negativa) responde sem ir ao banco
+        Optional<Customer> cached = customersById.getIfPresent(id);
+        if (cached != null) {
+            return cached.map(Customer::isActive);
+        }
+        return activeStatusById.get(id, delegate::findActiveStatusById);
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return findActiveStatusByIds(ids).keySet();
+    }
+
+    @Override
+    public Map<UUID, Boolean> findActiveStatusByIds(Collection<UUID> ids) {
+        Map<UUID, Boolean> statuses = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (UUID id : ids) {
+            Optional<Customer> cached = customersById.getIfPresent(id);
+            Optional<Boolean> status = cached != null
+                    ? cached.map(Customer::isActive)
+                    : activeStatusById.getIfPresent(id);
+            if (status == null) {
+                missing.add(id);
+            } else {
+                status.ifPresent(active -> statuses.put(id, active));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<UUID, Boolean> loaded = delegate.findActiveStatusByIds(missing);
+            for (UUID id : missing) {
+                activeStatusById.put(id, Optional.ofNullable(loaded.get(id)));
+            }
+            statuses.putAll(loaded);
+        }
+        return statuses;
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(Email email) {
+        String key = email.getValue();
+
+        UUID cachedId = idsByEmail.getIfPresent(key);
+        if (cachedId != null) {
+            Optional<Customer> customer = findById(cachedId);
+            if (customer.isPresent() && customer.get().getEmail().equals(email)) {
+                return customer;
+            }
+            // Email mudou ou cliente removido: descarta o mapeamento e consulta o banco
+            idsByEmail.invalidate(key);
+        }
+
+        Optional<Customer> customer = delegate.findByEmail(email);
+        customer.ifPresent(found -> idsByEmail.put(key, found.getId()));
+        return customer;
+    }
+
+    @Override
+    public List<Customer> findAllActive() {
+        return delegate.findAllActive();
+    }
+
+    @Override
+    public List<CustomerSummary> findActiveSummaries() {
+        return delegate.findActiveSummaries();
+    }
+
+    @Override
+    public List<Customer> findByNameContaining(String name) {
+        return delegate.findByNameContaining(name);
+    }
+
+    @Override
+    public List<Customer> searchByName(String query, int page, int size) {
+        return delegate.searchByName(query, page, size);
+    }
+
+    @Override
+    public boolean existsByEmail(Email email) {
+        return emailFilter.existsByEmail(email, delegate::existsByEmail);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        Email email = customersById.asMap().getOrDefault(id, Optional.empty())
+                .map(Customer::getEmail)
+                .orElse(null);
+        delegate.deleteById(id);
+        invalidate(id, email);
+    }
+
+    @Override
+    public long countActiveCustomers() {
+        return delegate.countActiveCustomers();
+    }
+
+    public CacheStats byIdStats() {
+        return customersById.stats();
+    }
+
+    public CacheStats byEmailStats() {
+        return idsByEmail.stats();
+    }
+
+    public CacheStats activeStatusStats() {
+        return activeStatusById.stats();
+    }
+
+    public void invalidateAll() {
+        customersById.invalidateAll();
+        idsByEmail.invalidateAll();
+        activeStatusById.invalidateAll();
+    }
+
+    private void invalidate(UUID id, Email email) {
+        evict(id, email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id, email);
+                }
+            });
+        }
+    }
+
+    private void evict(UUID id, Email email) {
+        customersById.invalidate(id);
+        activeStatusById.invalidate(id);
+        if (email != null) {
+            idsByEmail.invalidate(email.getValue());
+        }
+    }
+
+    private static Customer copy(Customer customer) {
+        return Customer.reconstruct(
+                customer.getId(),
+                customer.getFirstName(),
+                customer.getLastName(),
+                customer.getEmail(),
+                customer.getPhone(),
+                customer.getAddress(),
+                customer.isActive(),
+                customer.getCreatedAt(),
+                customer.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Expiração diferente para clientes encontrados e para IDs inexistentes.
+     */
+    private record PositiveNegativeExpiry<V>(Duration ttl, Duration negativeTtl)
+            implements Expiry<UUID, Optional<V>> {
+
+        @Override
+        public long expireAfterCreate(UUID key, Optional<V> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, Optional<V> value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, Optional<V> value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
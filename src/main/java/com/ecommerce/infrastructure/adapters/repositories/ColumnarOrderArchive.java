@@ -0,0 +1,321 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
+import com.ecommerce.infrastructure.adapters.repositories.columnar.ColumnarOrderSegment;
+import com.ecommerce.infrastructure.adapters.repositories.columnar.ColumnarOrderSegment.RowFilter;
+import com.ecommerce.infrastructure.adapters.repositories.columnar.ColumnarOrderSegmentWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Camada fria do histórico de pedidos: segmentos colunares somente de adição, mapeados em memória.
+ *
+ * Recebe de OrderArchiver os pedidos arquivados mais antigos, que deixam as tabelas de arquivo.
+ * Cada segmento guarda a menor e a maior data de criação e a maior de atualização, então consultas
+ * por período pulam segmentos inteiros. Remoções são registradas em um arquivo de IDs removidos,
+ * já que os segmentos nunca são reescritos.
+ *
+ * Um segmento é gravado com o sufixo .pending e só ganha o nome final em {@link #publish}, depois
+ * do commit que remove os pedidos das tabelas de arquivo; na inicialização, OrderArchiver decide
+ * se cada segmento pendente deixado por uma queda é publicado ou descartado.
+ *
+ * Os arquivos ficam no disco local: o diretório precisa ser informado explicitamente e ser
+ * durável, e com várias instâncias deve ser compartilhado. Desligado (padrão), não lê nem grava
+ * nada e as consultas retornam vazio.
+ */
+@Component
+public class ColumnarOrderArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarOrderArchive.class);
+
+    private static final String SEGMENT_PREFIX = "orders-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String PENDING_SUFFIX = ".pending";
+    private static final String DELETED_IDS_FILE = "deleted.ids";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final List<ColumnarOrderSegment> segments = new CopyOnWriteArrayList<>();
+    private final Set<UUID> deletedIds = ConcurrentHashMap.newKeySet();
+
+    public ColumnarOrderArchive(@Value("${app.archive.columnar.enabled:false}") boolean enabled,
+                                @Value("${app.archive.columnar.directory:}") String directory) {
+        if (enabled && directory.isBlank()) {
+            throw new IllegalStateException(
+                    "app.archive.columnar.directory must be set to a durable path when the columnar archive is enabled");
+        }
+        this.enabled = enabled;
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        if (enabled) {
+            load();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Grava os pedidos em um novo segmento pendente. O segmento só passa a ser consultado
+     * (e a ser lido na inicialização) após {@link #publish}.
+     */
+    public synchronized Path write(List<Order> orders) {
+        if (!enabled) {
+            throw new IllegalStateException("Columnar order archive is disabled");
+        }
+        Path file = directory.resolve(SEGMENT_PREFIX + System.currentTimeMillis() + "-" + UUID.randomUUID()
+                + SEGMENT_SUFFIX + PENDING_SUFFIX);
+        try {
+            ColumnarOrderSegmentWriter.write(file, orders);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write archive segment " + file, e);
+        }
+    }
+
+    /**
+     * Dá ao segmento pendente seu nome final e passa a consultá-lo.
+     */
+    public void publish(Path pending) {
+        String name = pending.getFileName().toString();
+        Path file = pending.resolveSibling(name.substring(0, name.length() - PENDING_SUFFIX.length()));
+        try {
+            Files.move(pending, file, StandardCopyOption.ATOMIC_MOVE);
+            segments.add(ColumnarOrderSegment.open(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not publish archive segment " + pending, e);
+        }
+    }
+
+    /**
+     * Segmentos gravados mas nem publicados nem descartados (ex.: queda antes do fim da transação).
+     */
+    public List<Path> pendingSegments() {
+        if (!enabled) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX + PENDING_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list pending archive segments in " + directory, e);
+        }
+    }
+
+    /**
+     * IDs dos pedidos gravados em um segmento, publicado ou não.
+     */
+    public List<UUID> orderIds(Path file) {
+        try {
+            ColumnarOrderSegment segment = ColumnarOrderSegment.open(file);
+            return segment.scan((row, created, updated) -> true, (s, row, created, updated) -> s.orderId(row));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read archive segment " + file, e);
+        }
+    }
+
+    /**
+     * Descarta um segmento gravado mas não publicado (ex.: a transação que o acompanhava falhou).
+     */
+    public void discard(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete discarded archive segment {}", file, e);
+        }
+    }
+
+    public Optional<Order> findById(UUID id) {
+        return scanOrders(segment -> (row, created, updated) -> segment.orderIdEquals(row, id))
+                .stream()
+                .findFirst();
+    }
+
+    public List<Order> findByCustomerId(UUID customerId) {
+        return scanOrders(segment -> (row, created, updated) -> segment.customerIdEquals(row, customerId));
+    }
+
+    public List<Order> findByStatus(OrderStatus status) {
+        return scanOrders(segment -> withStatus(segment, status, (row, created, updated) -> true));
+    }
+
+    public List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
+        return scanOrders(segment -> withStatus(segment, status,
+                (row, created, updated) -> segment.customerIdEquals(row, customerId)));
+    }
+
+    public List<OrderSummary> findSummariesByCustomerId(UUID customerId) {
+        return scanSummaries(segment -> (row, created, updated) -> segment.customerIdEquals(row, customerId));
+    }
+
+    public List<OrderSummary> findSummariesByStatus(OrderStatus status) {
+        return scanSummaries(segment -> withStatus(segment, status, (row, created, updated) -> true));
+    }
+
+    public List<OrderSummary> findSummariesByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
+        return scanSummaries(segment -> withStatus(segment, status,
+                (row, created, updated) -> segment.customerIdEquals(row, customerId)));
+    }
+
+    public List<Order> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        long start = ColumnarOrderSegment.toMicros(startDate);
+        long end = ColumnarOrderSegment.toMicros(endDate);
+        return scanOrders(segment -> {
+            if (segment.maxCreatedAtMicros() < start || segment.minCreatedAtMicros() > end) {
+                return null;
+            }
+            return (row, created, updated) -> created >= start && created <= end;
+        });
+    }
+
+    public List<Order> findByUpdatedAtAfter(LocalDateTime date) {
+        long after = ColumnarOrderSegment.toMicros(date);
+        return scanOrders(segment -> segment.maxUpdatedAtMicros() <= after
+                ? null
+                : (row, created, updated) -> updated > after);
+    }
+
+    public long countByStatus(OrderStatus status) {
+        return scanSummaries(segment -> withStatus(segment, status, (row, created, updated) -> true)).size();
+    }
+
+    public long countByCustomerId(UUID customerId) {
+        return scanSummaries(segment -> (row, created, updated) -> segment.customerIdEquals(row, customerId))
+                .size();
+    }
+
+    /**
+     * Marca o pedido como removido, se ele está no arquivo.
+     */
+    public synchronized boolean delete(UUID id) {
+        if (!enabled || deletedIds.contains(id) || findById(id).isEmpty()) {
+            return false;
+        }
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(directory.resolve(DELETED_IDS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not record deleted archived order " + id, e);
+        }
+        deletedIds.add(id);
+        return true;
+    }
+
+    /**
+     * Maior data de criação entre os segmentos publicados (vazio se não há segmentos).
+     */
+    public Optional<LocalDateTime> maxCreatedAt() {
+        return segments.stream()
+                .mapToLong(ColumnarOrderSegment::maxCreatedAtMicros)
+                .max()
+                .stream()
+                .mapToObj(ColumnarOrderSegment::fromMicros)
+                .findFirst();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    // Filtro nulo pula o segmento inteiro
+    private List<Order> scanOrders(Function<ColumnarOrderSegment, RowFilter> filterFor) {
+        List<Order> orders = new ArrayList<>();
+        for (ColumnarOrderSegment segment : segments) {
+            RowFilter filter = filterFor.apply(segment);
+            if (filter != null) {
+                orders.addAll(segment.scan(withoutDeleted(segment, filter), ColumnarOrderSegment::order));
+            }
+        }
+        orders.sort(Comparator.comparing(Order::getCreatedAt).reversed());
+        return orders;
+    }
+
+    private List<OrderSummary> scanSummaries(Function<ColumnarOrderSegment, RowFilter> filterFor) {
+        List<OrderSummary> summaries = new ArrayList<>();
+        for (ColumnarOrderSegment segment : segments) {
+            RowFilter filter = filterFor.apply(segment);
+            if (filter != null) {
+                summaries.addAll(segment.scan(withoutDeleted(segment, filter),
+                        (s, row, created, updated) -> s.summary(row, created)));
+            }
+        }
+        summaries.sort(Comparator.comparing(OrderSummary::createdAt).reversed());
+        return summaries;
+    }
+
+    // Status ausente do dicionário do segmento: nenhum pedido do segmento pode ter esse status
+    private static RowFilter withStatus(ColumnarOrderSegment segment, OrderStatus status, RowFilter filter) {
+        int code = segment.statusCode(status);
+        if (code == ColumnarOrderSegment.NULL_CODE) {
+            return null;
+        }
+        return (row, created, updated) -> segment.statusCodeAt(row) == code && filter.matches(row, created, updated);
+    }
+
+    private RowFilter withoutDeleted(ColumnarOrderSegment segment, RowFilter filter) {
+        if (deletedIds.isEmpty()) {
+            return filter;
+        }
+        return (row, created, updated) -> filter.matches(row, created, updated)
+                && !deletedIds.contains(segment.orderId(row));
+    }
+
+    private void load() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                        segments.add(ColumnarOrderSegment.open(file));
+                    }
+                }
+            }
+            loadDeletedIds();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load columnar order archive from " + directory, e);
+        }
+        log.info("Columnar order archive loaded {} segments from {}", segments.size(), directory);
+    }
+
+    private void loadDeletedIds() throws IOException {
+        Path file = directory.resolve(DELETED_IDS_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            while (true) {
+                deletedIds.add(new UUID(in.readLong(), in.readLong()));
+            }
+        } catch (EOFException e) {
+            // Fim do arquivo; um registro incompleto de uma gravação interrompida é ignorado
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.CustomerOrderSummary;
+import com.ecommerce.domain.projections.OrderSummary;
+import com.ecommerce.domain.repositories.CustomerOrderSummaryRepository;
+import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerOrderSummaryJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.CustomerOrderSummaryJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Mantém customer_order_summary com um UPDATE incremental por criação ou mudança de status
+ * de pedido, na transação do use case.
+ *
+ * A linha do cliente é criada na primeira alteração ou leitura que não a encontra, a partir
+ * do histórico completo de pedidos (tabelas quentes e arquivo), que já inclui a própria
+ * alteração. Essa criação bloqueia o cliente (SELECT ... FOR UPDATE) e verifica de novo,
+ * para que duas transações não criem a mesma linha; assim clientes com pedidos anteriores
+ * ao resumo também ficam corretos e o histórico é lido uma única vez. A linha é sempre a
+ * última coisa bloqueada pelos use cases, depois do pedido, dos produtos e dos agregados de vendas.
+ */
+@Repository
+public class CustomerOrderSummaryRepositoryImpl implements CustomerOrderSummaryRepository {
+
+    private static final String TABLE = "customer_order_summary";
+
+    private static final Map<OrderStatus, String> COLUMNS = new EnumMap<>(Map.of(
+            OrderStatus.PENDING, "pending_orders",
+            OrderStatus.CONFIRMED, "confirmed_orders",
+            OrderStatus.PREPARING, "preparing_orders",
+            OrderStatus.SHIPPED, "shipped_orders",
+            OrderStatus.DELIVERED, "delivered_orders",
+            OrderStatus.CANCELLED, "cancelled_orders"));
+
+    private final CustomerOrderSummaryJpaRepository jpaRepository;
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public CustomerOrderSummaryRepositoryImpl(CustomerOrderSummaryJpaRepository jpaRepository,
+                                              OrderRepository orderRepository,
+                                              EntityManager entityManager,
+                                              PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional
+    public void recordOrderCreated(Order order) {
+        Map<OrderStatus, Long> deltas = new EnumMap<>(OrderStatus.class);
+        deltas.put(order.getStatus(), 1L);
+        BigDecimal spend = order.getStatus().countsAsSale() ? order.getTotalAmount().getAmount() : BigDecimal.ZERO;
+        apply(order.getCustomerId(), deltas, spend, order.getCreatedAt());
+    }
+
+    @Override
+    @Transactional
+    public void recordStatusChange(Order order, OrderStatus previousStatus) {
+        OrderStatus status = order.getStatus();
+        if (status == previousStatus) {
+            return;
+        }
+
+        Map<OrderStatus, Long> deltas = new EnumMap<>(OrderStatus.class);
+        deltas.put(previousStatus, -1L);
+        deltas.put(status, 1L);
+        BigDecimal spend = BigDecimal.ZERO;
+        if (status.countsAsSale() != previousStatus.countsAsSale()) {
+            BigDecimal total = order.getTotalAmount().getAmount();
+            spend = status.countsAsSale() ? total : total.negate();
+        }
+        apply(order.getCustomerId(), deltas, spend, null);
+    }
+
+    @Override
+    public CustomerOrderSummary findByCustomerId(UUID customerId) {
+        return jpaRepository.findById(customerId)
+                .map(CustomerOrderSummaryRepositoryImpl::toDomain)
+                .orElseGet(() -> transactionTemplate.execute(status -> createOnRead(customerId)));
+    }
+
+    // Cliente ainda sem linha: grava o resumo calculado para que as próximas leituras não varram o histórico
+    private CustomerOrderSummary createOnRead(UUID customerId) {
+        if (!lockCustomer(customerId)) {
+            return fromHistory(customerId);
+        }
+        return jpaRepository.findById(customerId)
+                .map(CustomerOrderSummaryRepositoryImpl::toDomain)
+                .orElseGet(() -> {
+                    CustomerOrderSummary summary = fromHistory(customerId);
+                    insert(summary);
+                    return summary;
+                });
+    }
+
+    private void apply(UUID customerId, Map<OrderStatus, Long> deltas, BigDecimal spend, LocalDateTime orderedAt) {
+        if (update(customerId, deltas, spend, orderedAt) > 0) {
+            return;
+        }
+
+        // Primeira alteração do cliente: só uma transação por vez cria a linha
+        if (!lockCustomer(customerId) || update(customerId, deltas, spend, orderedAt) > 0) {
+            return;
+        }
+        insert(fromHistory(customerId));
+    }
+
+    private boolean lockCustomer(UUID customerId) {
+        return !entityManager.createNativeQuery("SELECT id FROM customers WHERE id = :id FOR UPDATE")
+                .setParameter("id", customerId)
+                .getResultList()
+                .isEmpty();
+    }
+
+    private int update(UUID customerId, Map<OrderStatus, Long> deltas, BigDecimal spend, LocalDateTime orderedAt) {
+        StringJoiner set = new StringJoiner(", ");
+        deltas.forEach((status, delta) -> set.add(COLUMNS.get(status) + " = " + COLUMNS.get(status) + " + :" + status.name()));
+        set.add("lifetime_spend = lifetime_spend + :spend");
+        if (orderedAt != null) {
+            set.add("last_order_at = CASE WHEN last_order_at IS NULL OR last_order_at < :orderedAt "
+                    + "THEN :orderedAt ELSE last_order_at END");
+        }
+
+        NativeQuery<?> query = synchronizedQuery("UPDATE " + TABLE + " SET " + set + " WHERE customer_id = :customerId")
+                .setParameter("customerId", customerId)
+                .setParameter("spend", spend);
+        deltas.forEach((status, delta) -> query.setParameter(status.name(), delta));
+        if (orderedAt != null) {
+            query.setParameter("orderedAt", orderedAt);
+        }
+        return query.executeUpdate();
+    }
+
+    private void insert(CustomerOrderSummary summary) {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner values = new StringJoiner(", ");
+        COLUMNS.forEach((status, column) -> {
+            columns.add(column);
+            values.add(":" + status.name());
+        });
+
+        NativeQuery<?> query = synchronizedQuery("INSERT INTO " + TABLE + " (customer_id, " + columns
+                + ", lifetime_spend, currency, last_order_at) VALUES (:customerId, " + values
+                + ", :spend, :currency, :lastOrderAt)")
+                .setParameter("customerId", summary.customerId())
+                .setParameter("spend", summary.lifetimeSpend())
+                .setParameter("currency", summary.currency())
+                .setParameter("lastOrderAt", summary.lastOrderAt(), LocalDateTime.class);
+        summary.ordersByStatus().forEach((status, count) -> query.setParameter(status.name(), count));
+        query.executeUpdate();
+    }
+
+    private NativeQuery<?> synchronizedQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(CustomerOrderSummaryJpaEntity.class);
+    }
+
+    /**
+     * Calcula o resumo lendo os resumos dos pedidos do cliente em todas as camadas.
+     */
+    private CustomerOrderSummary fromHistory(UUID customerId) {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        BigDecimal spend = BigDecimal.ZERO;
+        String currency = Money.zeroBRL().getCurrency();
+        LocalDateTime lastOrderAt = null;
+        for (OrderSummary order : orderRepository.findSummariesByCustomerId(customerId)) {
+            counts.merge(order.status(), 1L, Long::sum);
+            if (order.status().countsAsSale()) {
+                spend = spend.add(order.totalAmount());
+                currency = order.totalCurrency();
+            }
+            if (lastOrderAt == null || order.createdAt().isAfter(lastOrderAt)) {
+                lastOrderAt = order.createdAt();
+            }
+        }
+        return new CustomerOrderSummary(customerId, counts, spend, currency, lastOrderAt);
+    }
+
+    private static CustomerOrderSummary toDomain(CustomerOrderSummaryJpaEntity entity) {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        counts.put(OrderStatus.PENDING, entity.getPendingOrders());
+        counts.put(OrderStatus.CONFIRMED, entity.getConfirmedOrders());
+        counts.put(OrderStatus.PREPARING, entity.getPreparingOrders());
+        counts.put(OrderStatus.SHIPPED, entity.getShippedOrders());
+        counts.put(OrderStatus.DELIVERED, entity.getDeliveredOrders());
+        counts.put(OrderStatus.CANCELLED, entity.getCancelledOrders());
+        return new CustomerOrderSummary(entity.getCustomerId(), counts, entity.getLifetimeSpend(),
+                entity.getCurrency(), entity.getLastOrderAt());
+    }
+}
@@ -1,14 +1,27 @@
 package com.ecommerce.infrastructure.adapters.repositories;
 
 import com.ecommerce.domain.entities.Customer;
+import com.ecommerce.domain.projections.CustomerStatus;
+import com.ecommerce.domain.projections.CustomerSummary;
 import com.ecommerce.domain.repositories.CustomerRepository;
 import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.domain.valueobjects.EmailInterner;
 import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerJpaEntity;
 import com.ecommerce.infrastructure.adapters.repositories.jpa.CustomerJpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementação do repositório de clientes usando Spring Data JPA.
@@ -17,43 +30,106 @@ import java.util.UUID;
 public class CustomerRepositoryImpl implements CustomerRepository {
 
     private final CustomerJpaRepository jpaRepository;
+    private final CustomerSearchIndex searchIndex;
+    // Instâncias canônicas de Email para clientes lidos com frequência (null = desligado)
+    private final EmailInterner emailInterner;
 
-    public CustomerRepositoryImpl(CustomerJpaRepository jpaRepository) {
+    public CustomerRepositoryImpl(CustomerJpaRepository jpaRepository,
+                                  CustomerSearchIndex searchIndex,
+                                  Optional<EmailInterner> emailInterner) {
         this.jpaRepository = jpaRepository;
+        this.searchIndex = searchIndex;
+        this.emailInterner = emailInterner.orElse(null);
     }
 
     @Override
+    @Transactional
     public Customer save(Customer customer) {
         CustomerJpaEntity entity = CustomerJpaEntity.fromDomain(customer);
         CustomerJpaEntity savedEntity = jpaRepository.save(entity);
-        return savedEntity.toDomain();
+        searchIndex.index(savedEntity.getId(), savedEntity.getFirstName(),
+                savedEntity.getLastName(), savedEntity.getEmail());
+        return toDomain(savedEntity);
     }
 
     @Override
     public Optional<Customer> findById(UUID id) {
         return jpaRepository.findById(id)
-                .map(CustomerJpaEntity::toDomain);
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+        return jpaRepository.findUpdatedAtById(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return jpaRepository.findActiveById(id).isPresent();
+    }
+
+    @Override
+    public Optional<Boolean> findActiveStatusById(UUID id) {
+        return jpaRepository.findActiveById(id);
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return findActiveStatusByIds(ids).keySet();
+    }
+
+    @Override
+    public Map<UUID, Boolean> findActiveStatusByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findStatusByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(CustomerStatus::id, CustomerStatus::active));
     }
 
     @Override
     public Optional<Customer> findByEmail(Email email) {
         return jpaRepository.findByEmailIgnoreCase(email.getValue())
-                .map(CustomerJpaEntity::toDomain);
+                .map(this::toDomain);
     }
 
     @Override
     public List<Customer> findAllActive() {
         return jpaRepository.findByActiveTrueOrderByFirstNameAsc()
                 .stream()
-                .map(CustomerJpaEntity::toDomain)
+                .map(this::toDomain)
                 .toList();
     }
 
+    @Override
+    public List<CustomerSummary> findActiveSummaries() {
+        return jpaRepository.findActiveSummaries();
+    }
+
     @Override
     public List<Customer> findByNameContaining(String name) {
         return jpaRepository.findByNameContaining(name)
                 .stream()
-                .map(CustomerJpaEntity::toDomain)
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Customer> searchByName(String query, int page, int size) {
+        List<UUID> ids = searchIndex.search(query, page, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Mantém a ordem de relevância do índice
+        Map<UUID, Customer> customers = jpaRepository.findAllById(ids)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toMap(Customer::getId, Function.identity()));
+        return ids.stream()
+                .map(customers::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
@@ -63,7 +139,9 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     }
 
     @Override
+    @Transactional
     public void deleteById(UUID id) {
+        searchIndex.remove(id);
         jpaRepository.deleteById(id);
     }
 
@@ -71,4 +149,31 @@ public class CustomerRepositoryImpl implements CustomerRepository {
     public long countActiveCustomers() {
         return jpaRepository.countByActiveTrue();
     }
-}
\ No newline at end of file
+
+    /**
+     * Conta todos os clientes (ativos e inativos).
+     */
+    public long countAll() {
+        return jpaRepository.count();
+    }
+
+    /**
+     * Entrega o email de cada cliente ao consumer, lendo em streaming.
+     * Usado para reconstruir o filtro de emails sem carregar as entidades.
+     */
+    @Transactional(readOnly = true)
+    public long forEachEmail(Consumer<String> consumer) {
+        long count = 0;
+        try (Stream<String> emails = jpaRepository.streamAllEmails()) {
+            for (String email : (Iterable<String>) emails::iterator) {
+                consumer.accept(email);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Customer toDomain(CustomerJpaEntity entity) {
+        return entity.toDomain(emailInterner);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerSearchTrigramJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.CustomerJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.CustomerSearchTrigramJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Índice de trigramas para a busca de clientes por nome e email.
+ *
+ * Substitui o LOWER(...) LIKE '%...%' (varredura completa com função por linha) por
+ * buscas na chave (trigram, customer_id). É mantido junto com a gravação do cliente, na
+ * mesma transação, e preenchido na inicialização para clientes ainda não indexados.
+ */
+@Component
+public class CustomerSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerSearchIndex.class);
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final CustomerSearchTrigramJpaRepository trigramRepository;
+    private final CustomerJpaRepository customerRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public CustomerSearchIndex(CustomerSearchTrigramJpaRepository trigramRepository,
+                               CustomerJpaRepository customerRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager) {
+        this.trigramRepository = trigramRepository;
+        this.customerRepository = customerRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * (Re)indexa um cliente, substituindo os trigramas anteriores.
+     */
+    @Transactional
+    public void index(UUID customerId, String firstName, String lastName, String email) {
+        trigramRepository.deleteByCustomerId(customerId);
+        for (String trigram : SearchTrigrams.forCustomer(firstName, lastName, email)) {
+            // persist direto: a chave é atribuída e save() faria um SELECT por trigrama
+            entityManager.persist(new CustomerSearchTrigramJpaEntity(trigram, customerId));
+        }
+    }
+
+    @Transactional
+    public void remove(UUID customerId) {
+        trigramRepository.deleteByCustomerId(customerId);
+    }
+
+    /**
+     * Busca IDs de clientes ordenados por relevância (mais trigramas em comum primeiro).
+     * Termos sem letras ou dígitos não encontram nada.
+     */
+    public List<UUID> search(String query, int page, int size) {
+        Set<String> required = SearchTrigrams.required(query);
+        if (required.isEmpty()) {
+            return List.of();
+        }
+        Set<String> ranking = SearchTrigrams.ranking(query);
+
+        return trigramRepository.searchCustomerIds(ranking, required, required.size(), PageRequest.of(page, size));
+    }
+
+    /**
+     * Indexa clientes gravados antes do índice existir (ex.: banco persistente já populado).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long indexed = 0;
+        UUID after = null;
+
+        while (true) {
+            UUID cursor = after;
+            List<CustomerJpaEntity> batch = transactionTemplate.execute(status -> {
+                // Cursor por ID: clientes sem nenhum trigrama não são revisitados
+                PageRequest firstPage = PageRequest.of(0, BACKFILL_BATCH_SIZE);
+                List<CustomerJpaEntity> customers = cursor == null
+                        ? customerRepository.findNotSearchIndexed(firstPage)
+                        : customerRepository.findNotSearchIndexedAfter(cursor, firstPage);
+                customers.forEach(customer -> index(customer.getId(), customer.getFirstName(),
+                        customer.getLastName(), customer.getEmail()));
+                return customers;
+            });
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            indexed += batch.size();
+            after = batch.get(batch.size() - 1).getId();
+        }
+
+        if (indexed > 0) {
+            log.info("Customer search index backfilled with {} customers", indexed);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Banco de dados em uso, detectado pela conexão.
+ *
+ * Os adapters usam SQL nativo do PostgreSQL (ON CONFLICT, RETURNING) quando disponível
+ * e consultas portáveis nos demais bancos (H2 em desenvolvimento e nos testes).
+ */
+public enum DatabaseVendor {
+
+    POSTGRESQL,
+    OTHER;
+
+    public static DatabaseVendor detect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            return "PostgreSQL".equalsIgnoreCase(product) ? POSTGRESQL : OTHER;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not detect the database vendor", e);
+        }
+    }
+}
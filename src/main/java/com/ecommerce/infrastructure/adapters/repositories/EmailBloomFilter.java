@@ -0,0 +1,168 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.valueobjects.Email;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Filtro em memória dos emails já cadastrados, usado como pré-checagem de unicidade.
+ *
+ * Se o filtro diz que o email não existe, a consulta ao banco é evitada; se diz que
+ * talvez exista, o banco confirma. A constraint unique de customers.email continua sendo
+ * a fonte da verdade.
+ *
+ * O filtro é reconstruído a partir do banco na inicialização e periodicamente (para
+ * descartar emails alterados ou removidos), e recebe cada email salvo. Até a primeira
+ * reconstrução terminar, todas as checagens vão ao banco.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    private final CustomerRepositoryImpl source;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Object swapLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile BloomFilter current;
+    // Filtro em construção; recebe os emails salvos durante a reconstrução (guardado por swapLock)
+    private BloomFilter building;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder definiteNegatives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private final LongAdder confirmedPositives = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    public EmailBloomFilter(
+            CustomerRepositoryImpl source,
+            @Value("${app.cache.customers.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.cache.customers.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.source = source;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Verifica se o email existe, consultando o banco só quando o filtro não descarta o email.
+     */
+    public boolean existsByEmail(Email email, Predicate<Email> database) {
+        checks.increment();
+
+        BloomFilter filter = current;
+        if (filter != null && !filter.mightContain(email.getValue())) {
+            definiteNegatives.increment();
+            return false;
+        }
+
+        boolean exists = database.test(email);
+        if (filter != null) {
+            (exists ? confirmedPositives : falsePositives).increment();
+        }
+        return exists;
+    }
+
+    /**
+     * Registra um email salvo, inclusive no filtro em construção.
+     */
+    public void add(Email email) {
+        synchronized (swapLock) {
+            if (current != null) {
+                current.put(email.getValue());
+            }
+            if (building != null) {
+                building.put(email.getValue());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.customers.email-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${app.cache.customers.email-filter.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrói o filtro lendo todos os emails do banco em streaming.
+     * Emails salvos durante a leitura entram também no novo filtro antes da troca.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long size = Math.max(expectedInsertions, source.countAll() * 2);
+            BloomFilter next = BloomFilter.create(size, falsePositiveRate);
+            synchronized (swapLock) {
+                building = next;
+            }
+
+            long loaded = source.forEachEmail(next::put);
+
+            synchronized (swapLock) {
+                current = next;
+                building = null;
+            }
+            rebuilds.increment();
+            log.info("Email filter rebuilt with {} emails ({} bits, {} hash functions)",
+                    loaded, next.bitCount(), next.hashFunctions());
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                building = null;
+            }
+            log.error("Could not rebuild email filter; keeping the previous one", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public Stats stats() {
+        BloomFilter filter = current;
+        return new Stats(
+                checks.sum(),
+                definiteNegatives.sum(),
+                falsePositives.sum(),
+                confirmedPositives.sum(),
+                rebuilds.sum(),
+                filter != null ? filter.expectedFalsePositiveRate() : 1.0
+        );
+    }
+
+    /**
+     * Contadores do filtro.
+     *
+     * @param checks checagens de unicidade recebidas
+     * @param definiteNegatives checagens respondidas sem ir ao banco
+     * @param falsePositives checagens em que o filtro indicou o email mas o banco não o encontrou
+     * @param confirmedPositives checagens em que o banco confirmou o email
+     * @param rebuilds reconstruções concluídas
+     * @param expectedFalsePositiveRate taxa esperada para o preenchimento atual do filtro
+     */
+    public record Stats(long checks, long definiteNegatives, long falsePositives, long confirmedPositives,
+                        long rebuilds, double expectedFalsePositiveRate) {
+
+        /**
+         * Taxa de falsos positivos observada entre os emails que não estavam cadastrados.
+         */
+        public double observedFalsePositiveRate() {
+            long negatives = definiteNegatives + falsePositives;
+            return negatives == 0 ? 0.0 : (double) falsePositives / negatives;
+        }
+    }
+}
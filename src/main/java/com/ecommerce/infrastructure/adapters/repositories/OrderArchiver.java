@@ -0,0 +1,273 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ArchivedOrderItemJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ArchivedOrderJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.OrderItemJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.OrderJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.ArchivedOrderJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.OrderJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * Move pedidos finalizados antigos de orders/order_items para orders_archive/order_items_archive.
+ *
+ * Só pedidos em status final (entregues ou cancelados) criados há mais de hot-retention são
+ * movidos; pedidos em andamento ficam sempre nas tabelas quentes. A cópia é feita no banco
+ * (INSERT ... SELECT seguido de DELETE), em lotes com uma transação cada, para não segurar
+ * locks nem carregar os pedidos na memória.
+ *
+ * O arquivador mantém a maior data de criação já arquivada, lida na inicialização e elevada a
+ * cada lote; consultas por período que começam depois dela não precisam ler o arquivo
+ * (ver {@link #mayContainCreatedAfter}).
+ *
+ * Com o arquivo colunar ligado, pedidos arquivados criados há mais de columnar.after saem das
+ * tabelas de arquivo para um segmento de {@link ColumnarOrderArchive}. O segmento é gravado como
+ * pendente antes do commit e só é publicado depois dele; se a transação falha, o arquivo é apagado.
+ * Um segmento pendente encontrado na inicialização é publicado se seus pedidos já saíram das
+ * tabelas de arquivo (o commit aconteceu) e descartado caso contrário.
+ */
+@Component
+public class OrderArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+
+    private static final List<OrderStatus> FINAL_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isFinalStatus)
+            .toList();
+
+    private static final String ORDER_COLUMNS = """
+            id, customer_id, delivery_address_street, delivery_address_number, delivery_address_complement,
+            delivery_address_neighborhood, delivery_address_city, delivery_address_state,
+            delivery_address_zip_code, delivery_address_country, status, total_amount, total_currency,
+            created_at, updated_at""";
+
+    private static final String ITEM_COLUMNS = """
+            id, order_id, product_id, product_name, unit_price_amount, unit_price_currency, quantity,
+            total_price_amount, total_price_currency""";
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final ArchivedOrderJpaRepository archivedOrderJpaRepository;
+    private final ColumnarOrderArchive columnarArchive;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration hotRetention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration columnarAfter;
+    private final int segmentSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    // Maior created_at arquivado; só cresce, então um valor acima do real é apenas conservador
+    private final AtomicReference<LocalDateTime> maxArchivedCreatedAt = new AtomicReference<>();
+    private volatile boolean maxArchivedCreatedAtLoaded;
+
+    public OrderArchiver(OrderJpaRepository orderJpaRepository,
+                         ArchivedOrderJpaRepository archivedOrderJpaRepository,
+                         ColumnarOrderArchive columnarArchive,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.archive.enabled:true}") boolean enabled,
+                         @Value("${app.archive.hot-retention:P30D}") Duration hotRetention,
+                         @Value("${app.archive.batch-size:500}") int batchSize,
+                         @Value("${app.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                         @Value("${app.archive.columnar.after:P365D}") Duration columnarAfter,
+                         @Value("${app.archive.columnar.segment-size:5000}") int segmentSize) {
+        if (hotRetention.isNegative() || columnarAfter.isNegative()
+                || batchSize <= 0 || maxBatchesPerRun <= 0 || segmentSize <= 0) {
+            throw new IllegalArgumentException("Archive retention must not be negative and batch limits must be positive");
+        }
+        this.orderJpaRepository = orderJpaRepository;
+        this.archivedOrderJpaRepository = archivedOrderJpaRepository;
+        this.columnarArchive = columnarArchive;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.hotRetention = hotRetention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.columnarAfter = columnarAfter;
+        this.segmentSize = segmentSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT15M}",
+            initialDelayString = "${app.archive.interval:PT15M}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive(LocalDateTime.now().minus(hotRetention));
+            if (columnarArchive.isEnabled()) {
+                compact(LocalDateTime.now().minus(columnarAfter));
+            }
+        }
+    }
+
+    /**
+     * Arquiva os pedidos finalizados criados antes da data de corte, em até max-batches-per-run lotes.
+     *
+     * @return quantidade de pedidos movidos (0 se outra execução já está em andamento)
+     */
+    public int archive(LocalDateTime cutoff) {
+        int archived = runBatches(() -> archiveBatch(cutoff), batchSize);
+        if (archived > 0) {
+            log.info("Archived {} orders created before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    /**
+     * Move para o arquivo colunar os pedidos arquivados criados antes da data de corte,
+     * um segmento por lote.
+     *
+     * @return quantidade de pedidos movidos (0 se outra execução já está em andamento)
+     */
+    public int compact(LocalDateTime cutoff) {
+        if (!columnarArchive.isEnabled()) {
+            throw new IllegalStateException("Columnar order archive is disabled");
+        }
+        int compacted = runBatches(() -> compactBatch(cutoff), segmentSize);
+        if (compacted > 0) {
+            log.info("Moved {} archived orders created before {} to the columnar archive", compacted, cutoff);
+        }
+        return compacted;
+    }
+
+    private int runBatches(IntSupplier batch, int fullBatch) {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int total = 0;
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer moved = transactionTemplate.execute(status -> batch.getAsInt());
+                total += moved;
+                if (moved < fullBatch) {
+                    break;
+                }
+            }
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Resolve os segmentos pendentes deixados por uma queda e lê a maior data de criação
+     * presente no arquivo (tabelas e segmentos colunares).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadArchiveState() {
+        for (Path pending : columnarArchive.pendingSegments()) {
+            List<UUID> ids = columnarArchive.orderIds(pending);
+            if (ids.isEmpty() || archivedOrderJpaRepository.countByIdIn(ids) == 0) {
+                columnarArchive.publish(pending);
+                log.info("Published pending archive segment {} left by an interrupted compaction", pending);
+            } else {
+                columnarArchive.discard(pending);
+                log.info("Discarded pending archive segment {} whose compaction did not commit", pending);
+            }
+        }
+        archivedOrderJpaRepository.findMaxCreatedAt().ifPresent(this::raiseMaxArchivedCreatedAt);
+        columnarArchive.maxCreatedAt().ifPresent(this::raiseMaxArchivedCreatedAt);
+        maxArchivedCreatedAtLoaded = true;
+    }
+
+    /**
+     * Indica se o arquivo pode conter pedidos criados a partir da data informada.
+     * Antes da leitura inicial a resposta é sempre sim.
+     */
+    public boolean mayContainCreatedAfter(LocalDateTime date) {
+        if (!maxArchivedCreatedAtLoaded) {
+            return true;
+        }
+        LocalDateTime max = maxArchivedCreatedAt.get();
+        return max != null && !date.isAfter(max);
+    }
+
+    private void raiseMaxArchivedCreatedAt(LocalDateTime createdAt) {
+        maxArchivedCreatedAt.accumulateAndGet(createdAt,
+                (current, candidate) -> current == null || candidate.isAfter(current) ? candidate : current);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<UUID> ids = orderJpaRepository.findIdsByStatusInAndCreatedAtBefore(
+                FINAL_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Elevado antes do commit: leitores nunca pulam o arquivo com os pedidos já fora de orders
+        orderJpaRepository.findMaxCreatedAtByIdIn(ids).ifPresent(this::raiseMaxArchivedCreatedAt);
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        execute("INSERT INTO orders_archive (" + ORDER_COLUMNS + ", archived_at) SELECT "
+                        + ORDER_COLUMNS + ", :archivedAt FROM orders WHERE id IN (:ids)",
+                ids, ArchivedOrderJpaEntity.class, archivedAt);
+        execute("INSERT INTO order_items_archive (" + ITEM_COLUMNS + ") SELECT "
+                        + ITEM_COLUMNS + " FROM order_items WHERE order_id IN (:ids)",
+                ids, ArchivedOrderItemJpaEntity.class, null);
+        execute("DELETE FROM order_items WHERE order_id IN (:ids)", ids, OrderItemJpaEntity.class, null);
+        execute("DELETE FROM orders WHERE id IN (:ids)", ids, OrderJpaEntity.class, null);
+        return ids.size();
+    }
+
+    private int compactBatch(LocalDateTime cutoff) {
+        List<UUID> ids = archivedOrderJpaRepository.findIdsByCreatedAtBefore(cutoff, PageRequest.of(0, segmentSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<Order> orders = archivedOrderJpaRepository.findAllWithItemsByIdIn(ids).stream()
+                .map(ArchivedOrderJpaEntity::toDomain)
+                .toList();
+        Path segment = columnarArchive.write(orders);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    columnarArchive.publish(segment);
+                } else {
+                    columnarArchive.discard(segment);
+                }
+            }
+        });
+
+        archivedOrderJpaRepository.deleteItemsByOrderIdIn(ids);
+        archivedOrderJpaRepository.deleteOrdersByIdIn(ids);
+        return ids.size();
+    }
+
+    // A tabela afetada é declarada para que o Hibernate não invalide todas as regiões de cache
+    private void execute(String sql, List<UUID> ids, Class<?> affectedEntity, LocalDateTime archivedAt) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(affectedEntity)
+                .setParameterList("ids", ids);
+        if (archivedAt != null) {
+            query.setParameter("archivedAt", archivedAt);
+        }
+        query.executeUpdate();
+    }
+}
@@ -2,92 +2,258 @@ package com.ecommerce.infrastructure.adapters.repositories;
 
 import com.ecommerce.domain.entities.Order;
 import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
 import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ArchivedOrderJpaEntity;
 import com.ecommerce.infrastructure.adapters.repositories.entities.OrderJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.ArchivedOrderJpaRepository;
 import com.ecommerce.infrastructure.adapters.repositories.jpa.OrderJpaRepository;
+import com.ecommerce.infrastructure.observability.Tracer;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Implementação do repositório de pedidos usando Spring Data JPA.
+ * As leituras convertem para o domínio dentro da transação, já que os itens são carregados sob demanda.
+ *
+ * Pedidos finalizados antigos ficam nas tabelas de arquivo e, os mais antigos, no arquivo colunar
+ * (ver OrderArchiver). As leituras consultam o arquivo só quando ele pode ter resultados: busca por
+ * ID que não achou o pedido, histórico do cliente, status finais e períodos que começam antes da
+ * retenção das tabelas quentes.
  */
 @Repository
 public class OrderRepositoryImpl implements OrderRepository {
 
+    private static final String MAPPING_SPAN = "OrderJpaEntity.toDomain";
+
+    private static final Comparator<Order> NEWEST_CREATED_FIRST =
+            Comparator.comparing(Order::getCreatedAt).reversed();
+    private static final Comparator<OrderSummary> NEWEST_SUMMARY_FIRST =
+            Comparator.comparing(OrderSummary::createdAt).reversed();
+
     private final OrderJpaRepository jpaRepository;
+    private final ArchivedOrderJpaRepository archiveRepository;
+    private final ColumnarOrderArchive columnarArchive;
+    private final OrderArchiver archiver;
+    private final EntityManager entityManager;
 
-    public OrderRepositoryImpl(OrderJpaRepository jpaRepository) {
+    public OrderRepositoryImpl(OrderJpaRepository jpaRepository,
+                               ArchivedOrderJpaRepository archiveRepository,
+                               ColumnarOrderArchive columnarArchive,
+                               OrderArchiver archiver,
+                               EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.archiveRepository = archiveRepository;
+        this.columnarArchive = columnarArchive;
+        this.archiver = archiver;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Order save(Order order) {
         OrderJpaEntity entity = OrderJpaEntity.fromDomain(order);
+
+        // Pedido novo: persist insere pedido e itens direto; merge buscaria cada item pelo ID antes
+        if (!jpaRepository.existsById(entity.getId())) {
+            entityManager.persist(entity);
+            return entity.toDomain();
+        }
+
         OrderJpaEntity savedEntity = jpaRepository.save(entity);
         return savedEntity.toDomain();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Order> findById(UUID id) {
-        return jpaRepository.findById(id)
-                .map(OrderJpaEntity::toDomain);
+        Optional<Order> hot = jpaRepository.findById(id)
+                .map(entity -> Tracer.inSpan("mapping", MAPPING_SPAN, entity::toDomain));
+        return hot.isPresent() ? hot : findArchivedById(id);
     }
 
+    // Pedido arquivado é final e não muda mais, então não precisa de lock
     @Override
+    @Transactional
+    public Optional<Order> findByIdForUpdate(UUID id) {
+        Optional<Order> hot = jpaRepository.findByIdForUpdate(id)
+                .map(entity -> Tracer.inSpan("mapping", MAPPING_SPAN, entity::toDomain));
+        return hot.isPresent() ? hot : findArchivedById(id);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+        Optional<LocalDateTime> hot = jpaRepository.findUpdatedAtById(id);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        Optional<LocalDateTime> archived = archiveRepository.findUpdatedAtById(id);
+        return archived.isPresent() ? archived : columnarArchive.findById(id).map(Order::getUpdatedAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Order> findByCustomerId(UUID customerId) {
-        return jpaRepository.findByCustomerIdOrderByCreatedAtDesc(customerId)
-                .stream()
-                .map(OrderJpaEntity::toDomain)
-                .toList();
+        return merge(toDomain(jpaRepository.findByCustomerIdOrderByCreatedAtDesc(customerId)),
+                archived(archiveRepository.findByCustomerIdOrderByCreatedAtDesc(customerId),
+                        columnarArchive.findByCustomerId(customerId)),
+                NEWEST_CREATED_FIRST);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Order> findByStatus(OrderStatus status) {
-        return jpaRepository.findByStatusOrderByCreatedAtDesc(status)
-                .stream()
-                .map(OrderJpaEntity::toDomain)
-                .toList();
+        List<Order> hot = toDomain(jpaRepository.findByStatusOrderByCreatedAtDesc(status));
+        if (!status.isFinalStatus()) {
+            return hot;
+        }
+        return merge(hot, archived(archiveRepository.findByStatusOrderByCreatedAtDesc(status),
+                        columnarArchive.findByStatus(status)),
+                NEWEST_CREATED_FIRST);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
-        return jpaRepository.findByCustomerIdAndStatusOrderByCreatedAtDesc(customerId, status)
-                .stream()
-                .map(OrderJpaEntity::toDomain)
-                .toList();
+        List<Order> hot = toDomain(jpaRepository.findByCustomerIdAndStatusOrderByCreatedAtDesc(customerId, status));
+        if (!status.isFinalStatus()) {
+            return hot;
+        }
+        return merge(hot, archived(
+                        archiveRepository.findByCustomerIdAndStatusOrderByCreatedAtDesc(customerId, status),
+                        columnarArchive.findByCustomerIdAndStatus(customerId, status)),
+                NEWEST_CREATED_FIRST);
     }
 
     @Override
+    public List<OrderSummary> findSummariesByCustomerId(UUID customerId) {
+        return merge(jpaRepository.findSummariesByCustomerId(customerId),
+                concat(archiveRepository.findSummariesByCustomerId(customerId),
+                        columnarArchive.findSummariesByCustomerId(customerId)),
+                NEWEST_SUMMARY_FIRST);
+    }
+
+    @Override
+    public List<OrderSummary> findSummariesByStatus(OrderStatus status) {
+        List<OrderSummary> hot = jpaRepository.findSummariesByStatus(status);
+        if (!status.isFinalStatus()) {
+            return hot;
+        }
+        return merge(hot, concat(archiveRepository.findSummariesByStatus(status),
+                columnarArchive.findSummariesByStatus(status)), NEWEST_SUMMARY_FIRST);
+    }
+
+    @Override
+    public List<OrderSummary> findSummariesByCustomerIdAndStatus(UUID customerId, OrderStatus status) {
+        List<OrderSummary> hot = jpaRepository.findSummariesByCustomerIdAndStatus(customerId, status);
+        if (!status.isFinalStatus()) {
+            return hot;
+        }
+        return merge(hot, concat(archiveRepository.findSummariesByCustomerIdAndStatus(customerId, status),
+                        columnarArchive.findSummariesByCustomerIdAndStatus(customerId, status)),
+                NEWEST_SUMMARY_FIRST);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Order> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        return jpaRepository.findByCreatedAtBetween(startDate, endDate)
-                .stream()
-                .map(OrderJpaEntity::toDomain)
-                .toList();
+        List<Order> hot = toDomain(jpaRepository.findByCreatedAtBetween(startDate, endDate));
+        if (!archiver.mayContainCreatedAfter(startDate)) {
+            return hot;
+        }
+        return merge(hot, archived(archiveRepository.findByCreatedAtBetween(startDate, endDate),
+                        columnarArchive.findByCreatedAtBetween(startDate, endDate)),
+                NEWEST_CREATED_FIRST);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Order> findByUpdatedAtAfter(LocalDateTime date) {
-        return jpaRepository.findByUpdatedAtAfterOrderByUpdatedAtDesc(date)
-                .stream()
-                .map(OrderJpaEntity::toDomain)
-                .toList();
+        return merge(toDomain(jpaRepository.findByUpdatedAtAfterOrderByUpdatedAtDesc(date)),
+                archived(archiveRepository.findByUpdatedAtAfterOrderByUpdatedAtDesc(date),
+                        columnarArchive.findByUpdatedAtAfter(date)),
+                Comparator.comparing(Order::getUpdatedAt).reversed());
+    }
+
+    private Optional<Order> findArchivedById(UUID id) {
+        Optional<Order> archived = archiveRepository.findById(id)
+                .map(entity -> Tracer.inSpan("mapping", MAPPING_SPAN, entity::toDomain));
+        return archived.isPresent() ? archived : columnarArchive.findById(id);
+    }
+
+    // Um span por lista, não por pedido: o carregamento sob demanda dos itens entra no mapeamento
+    private List<Order> toDomain(List<OrderJpaEntity> entities) {
+        return Tracer.inSpan("mapping", MAPPING_SPAN,
+                () -> entities.stream().map(OrderJpaEntity::toDomain).toList());
+    }
+
+    // Pedidos das tabelas de arquivo mais os do arquivo colunar
+    private List<Order> archived(List<ArchivedOrderJpaEntity> entities, List<Order> columnar) {
+        if (entities.isEmpty()) {
+            return columnar;
+        }
+        List<Order> orders = Tracer.inSpan("mapping", MAPPING_SPAN,
+                () -> entities.stream().map(ArchivedOrderJpaEntity::toDomain).toList());
+        return concat(orders, columnar);
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        if (second.isEmpty()) {
+            return first;
+        }
+        if (first.isEmpty()) {
+            return second;
+        }
+        List<T> all = new ArrayList<>(first.size() + second.size());
+        all.addAll(first);
+        all.addAll(second);
+        return all;
+    }
+
+    // As duas listas já vêm ordenadas; na maioria das vezes o arquivo está vazio para a consulta
+    private static <T> List<T> merge(List<T> hot, List<T> archived, Comparator<T> order) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<T> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(order);
+        return merged;
     }
 
     @Override
+    @Transactional
     public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+        if (jpaRepository.existsById(id)) {
+            jpaRepository.deleteById(id);
+        } else if (archiveRepository.existsById(id)) {
+            archiveRepository.deleteItemsByOrderId(id);
+            archiveRepository.deleteOrderById(id);
+        } else {
+            columnarArchive.delete(id);
+        }
     }
 
     @Override
     public long countByStatus(OrderStatus status) {
-        return jpaRepository.countByStatus(status);
+        long hot = jpaRepository.countByStatus(status);
+        if (!status.isFinalStatus()) {
+            return hot;
+        }
+        return hot + archiveRepository.countByStatus(status) + columnarArchive.countByStatus(status);
     }
 
     @Override
     public long countByCustomerId(UUID customerId) {
-        return jpaRepository.countByCustomerId(customerId);
+        return jpaRepository.countByCustomerId(customerId) + archiveRepository.countByCustomerId(customerId)
+                + columnarArchive.countByCustomerId(customerId);
     }
 }
\ No newline at end of file
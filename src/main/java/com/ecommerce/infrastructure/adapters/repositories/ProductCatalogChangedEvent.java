@@ -0,0 +1,9 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado quando um produto é criado, alterado ou removido.
+ * Usado para invalidar caches derivados do catálogo.
+ */
+public record ProductCatalogChangedEvent(UUID productId) {}
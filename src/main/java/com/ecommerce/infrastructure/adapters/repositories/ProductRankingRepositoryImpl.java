@@ -0,0 +1,76 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.projections.ProductRanking;
+import com.ecommerce.domain.projections.ProductRankingMetric;
+import com.ecommerce.domain.repositories.ProductRankingRepository;
+import com.ecommerce.infrastructure.adapters.repositories.ranking.WindowedTopK;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Ranking de produtos em memória, um {@link WindowedTopK} por métrica.
+ *
+ * Nada é gravado no banco: o ranking é por instância e recomeça vazio ao reiniciar.
+ * Os eventos são contados no afterCommit da transação, para que pedidos revertidos não
+ * entrem no ranking.
+ */
+@Repository
+public class ProductRankingRepositoryImpl implements ProductRankingRepository {
+
+    private final WindowedTopK sold;
+    private final WindowedTopK added;
+
+    public ProductRankingRepositoryImpl(@Value("${app.products.ranking.bucket:PT1H}") Duration bucket,
+                                        @Value("${app.products.ranking.retention:P7D}") Duration retention,
+                                        @Value("${app.products.ranking.capacity:200}") int capacity) {
+        this.sold = new WindowedTopK(bucket, retention, capacity);
+        this.added = new WindowedTopK(bucket, retention, capacity);
+    }
+
+    @Override
+    public void recordAddedToOrder(OrderItem item) {
+        afterCommit(() -> added.add(item.getProductId(), item.getProductName(), item.getQuantity(), Instant.now()));
+    }
+
+    @Override
+    public void recordSale(Order order) {
+        List<OrderItem> items = List.copyOf(order.getItems());
+        afterCommit(() -> {
+            Instant now = Instant.now();
+            for (OrderItem item : items) {
+                sold.add(item.getProductId(), item.getProductName(), item.getQuantity(), now);
+            }
+        });
+    }
+
+    @Override
+    public List<ProductRanking> findTop(ProductRankingMetric metric, Duration window, int limit) {
+        WindowedTopK ranking = metric == ProductRankingMetric.SOLD ? sold : added;
+        return ranking.top(window, limit, Instant.now());
+    }
+
+    @Override
+    public Duration maxWindow() {
+        return sold.retention();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
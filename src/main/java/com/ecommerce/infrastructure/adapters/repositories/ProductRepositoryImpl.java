@@ -1,10 +1,16 @@
 package com.ecommerce.infrastructure.adapters.repositories;
 
 import com.ecommerce.domain.entities.Product;
+import com.ecommerce.domain.projections.ProductSummary;
 import com.ecommerce.domain.repositories.ProductRepository;
 import com.ecommerce.infrastructure.adapters.repositories.entities.ProductJpaEntity;
 import com.ecommerce.infrastructure.adapters.repositories.jpa.ProductJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,21 +18,76 @@ import java.util.UUID;
 /**
  * Implementação do repositório de produtos usando Spring Data JPA.
  * Adapta entre a interface do domain e a persistência JPA.
+ *
+ * No PostgreSQL a gravação é um upsert (INSERT ... ON CONFLICT) e o ajuste de estoque
+ * um único UPDATE ... RETURNING; nos demais bancos são usados merge e UPDATE + SELECT.
+ * As escritas nativas não atualizam entidades já carregadas na mesma transação.
  */
 @Repository
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final String UPSERT_SQL = """
+            INSERT INTO products (id, name, description, price_amount, price_currency, stock_quantity,
+                                  category, active, created_at, updated_at)
+            VALUES (:id, :name, :description, :priceAmount, :priceCurrency, :stockQuantity,
+                    :category, :active, :createdAt, :updatedAt)
+            ON CONFLICT (id) DO UPDATE SET
+                name = EXCLUDED.name,
+                description = EXCLUDED.description,
+                price_amount = EXCLUDED.price_amount,
+                price_currency = EXCLUDED.price_currency,
+                stock_quantity = EXCLUDED.stock_quantity,
+                category = EXCLUDED.category,
+                active = EXCLUDED.active,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    // A condição no WHERE torna a reserva atômica: o estoque nunca fica negativo
+    private static final String ADJUST_STOCK_SQL = """
+            UPDATE products SET stock_quantity = stock_quantity + :delta, updated_at = :updatedAt
+            WHERE id = :id AND stock_quantity + :delta >= 0
+            """;
+
     private final ProductJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final DatabaseVendor databaseVendor;
 
-    public ProductRepositoryImpl(ProductJpaRepository jpaRepository) {
+    public ProductRepositoryImpl(ProductJpaRepository jpaRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 EntityManager entityManager,
+                                 DatabaseVendor databaseVendor) {
         this.jpaRepository = jpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.databaseVendor = databaseVendor;
     }
 
     @Override
+    @Transactional
     public Product save(Product product) {
-        ProductJpaEntity entity = ProductJpaEntity.fromDomain(product);
-        ProductJpaEntity savedEntity = jpaRepository.save(entity);
-        return savedEntity.toDomain();
+        Product saved;
+        if (databaseVendor == DatabaseVendor.POSTGRESQL) {
+            upsert(product);
+            saved = product;
+        } else {
+            saved = jpaRepository.save(ProductJpaEntity.fromDomain(product)).toDomain();
+        }
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(product.getId()));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Integer> adjustStock(UUID id, int delta) {
+        Optional<Integer> stock = databaseVendor == DatabaseVendor.POSTGRESQL
+                ? adjustStockReturning(id, delta)
+                : adjustStockPortable(id, delta);
+
+        if (stock.isPresent()) {
+            eventPublisher.publishEvent(new ProductCatalogChangedEvent(id));
+        }
+        return stock;
     }
 
     @Override
@@ -35,6 +96,11 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .map(ProductJpaEntity::toDomain);
     }
 
+    @Override
+    public Optional<LocalDateTime> findUpdatedAtById(UUID id) {
+        return jpaRepository.findUpdatedAtById(id);
+    }
+
     @Override
     public List<Product> findAllActive() {
         return jpaRepository.findByActiveTrueOrderByNameAsc()
@@ -67,6 +133,21 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .toList();
     }
 
+    @Override
+    public List<ProductSummary> findActiveSummaries() {
+        return jpaRepository.findActiveSummaries();
+    }
+
+    @Override
+    public List<ProductSummary> findSummariesByCategory(String category) {
+        return jpaRepository.findSummariesByCategory(category);
+    }
+
+    @Override
+    public List<ProductSummary> findAvailableSummaries() {
+        return jpaRepository.findAvailableSummaries();
+    }
+
     @Override
     public List<Product> findProductsWithLowStock(int threshold) {
         return jpaRepository.findProductsWithLowStock(threshold)
@@ -83,6 +164,7 @@ public class ProductRepositoryImpl implements ProductRepository {
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(id));
     }
 
     @Override
@@ -94,4 +176,48 @@ public class ProductRepositoryImpl implements ProductRepository {
     public List<String> findAllCategories() {
         return jpaRepository.findAllDistinctCategories();
     }
+
+    private void upsert(Product product) {
+        entityManager.createNativeQuery(UPSERT_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ProductJpaEntity.class)
+                .setParameter("id", product.getId())
+                .setParameter("name", product.getName())
+                .setParameter("description", product.getDescription())
+                .setParameter("priceAmount", product.getPrice().getAmount())
+                .setParameter("priceCurrency", product.getPrice().getCurrency())
+                .setParameter("stockQuantity", product.getStockQuantity())
+                .setParameter("category", product.getCategory())
+                .setParameter("active", product.isActive())
+                .setParameter("createdAt", product.getCreatedAt())
+                .setParameter("updatedAt", product.getUpdatedAt())
+                .executeUpdate();
+    }
+
+    // Sincronizar com a entidade faz o Hibernate bloquear a região de produtos no cache de
+    // segundo nível até o fim da transação, em vez de despejar a entrada antes do commit
+    private Optional<Integer> adjustStockReturning(UUID id, int delta) {
+        List<?> result = entityManager.createNativeQuery(ADJUST_STOCK_SQL + " RETURNING stock_quantity")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ProductJpaEntity.class)
+                .setParameter("delta", delta)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("id", id)
+                .getResultList();
+        return result.stream().findFirst().map(stock -> ((Number) stock).intValue());
+    }
+
+    private Optional<Integer> adjustStockPortable(UUID id, int delta) {
+        int updated = entityManager.createNativeQuery(ADJUST_STOCK_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ProductJpaEntity.class)
+                .setParameter("delta", delta)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("id", id)
+                .executeUpdate();
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return jpaRepository.findStockQuantityById(id);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,356 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.projections.CategorySales;
+import com.ecommerce.domain.projections.DailySales;
+import com.ecommerce.domain.projections.ProductSales;
+import com.ecommerce.domain.repositories.SalesAnalyticsRepository;
+import com.ecommerce.infrastructure.adapters.repositories.entities.CategorySalesJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.DailySalesJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ProductJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ProductSalesJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.entities.SalesCountedOrderJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.CategorySalesJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.DailySalesJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.ProductJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.ProductSalesJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Mantém as pré-agregações de vendas (sales_daily, sales_daily_category e sales_daily_product)
+ * e responde os relatórios a partir delas.
+ *
+ * Cada confirmação soma, e cada cancelamento de pedido confirmado subtrai, uma linha por
+ * tabela/chave com um único upsert em várias linhas por tabela, na transação do use case.
+ * A confirmação registra o pedido em sales_counted_orders e o cancelamento só subtrai se
+ * encontra esse registro: pedidos confirmados antes dos agregados existirem ficam de fora
+ * dos relatórios em vez de deixá-los negativos.
+ * As linhas são atualizadas em ordem de chave, e cada pedido cai sempre na mesma faixa
+ * (slot) do dia, então confirmações simultâneas raramente esperam umas pelas outras.
+ *
+ * No PostgreSQL o upsert é INSERT ... ON CONFLICT, seguro com inserções simultâneas da
+ * mesma chave. Nos demais bancos é um MERGE, em que duas transações criando a mesma linha
+ * falham com chave duplicada; por isso ali as gravações são serializadas na JVM até o fim
+ * da transação (esses bancos só são usados embutidos, com uma instância).
+ */
+@Repository
+public class SalesAnalyticsRepositoryImpl implements SalesAnalyticsRepository {
+
+    static final String UNCATEGORIZED = "uncategorized";
+
+    private static final AggregateTable DAILY = new AggregateTable("sales_daily", DailySalesJpaEntity.class,
+            List.of(column("sales_date", "DATE"), column("currency", "VARCHAR(3)"), column("slot", "INTEGER")),
+            List.of(),
+            List.of());
+
+    private static final AggregateTable CATEGORY = new AggregateTable("sales_daily_category",
+            CategorySalesJpaEntity.class,
+            List.of(column("sales_date", "DATE"), column("category", "VARCHAR(255)"),
+                    column("currency", "VARCHAR(3)"), column("slot", "INTEGER")),
+            List.of(),
+            List.of());
+
+    private static final AggregateTable PRODUCT = new AggregateTable("sales_daily_product",
+            ProductSalesJpaEntity.class,
+            List.of(column("sales_date", "DATE"), column("product_id", "UUID"),
+                    column("currency", "VARCHAR(3)"), column("slot", "INTEGER")),
+            List.of(column("product_name", "VARCHAR(255)")),
+            List.of(column("category", "VARCHAR(255)")));
+
+    private static final String MARK_COUNTED_SQL =
+            "INSERT INTO sales_counted_orders (order_id, counted_at) VALUES (:orderId, :countedAt)";
+
+    private static final String UNMARK_COUNTED_SQL = "DELETE FROM sales_counted_orders WHERE order_id = :orderId";
+
+    private final DailySalesJpaRepository dailySalesJpaRepository;
+    private final CategorySalesJpaRepository categorySalesJpaRepository;
+    private final ProductSalesJpaRepository productSalesJpaRepository;
+    private final ProductJpaRepository productJpaRepository;
+    private final EntityManager entityManager;
+    private final DatabaseVendor databaseVendor;
+    private final int stripes;
+    private final ReentrantLock portableWriteLock = new ReentrantLock();
+
+    public SalesAnalyticsRepositoryImpl(DailySalesJpaRepository dailySalesJpaRepository,
+                                        CategorySalesJpaRepository categorySalesJpaRepository,
+                                        ProductSalesJpaRepository productSalesJpaRepository,
+                                        ProductJpaRepository productJpaRepository,
+                                        EntityManager entityManager,
+                                        DatabaseVendor databaseVendor,
+                                        @Value("${app.analytics.sales.stripes:8}") int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Sales aggregate stripes must be positive");
+        }
+        this.dailySalesJpaRepository = dailySalesJpaRepository;
+        this.categorySalesJpaRepository = categorySalesJpaRepository;
+        this.productSalesJpaRepository = productSalesJpaRepository;
+        this.productJpaRepository = productJpaRepository;
+        this.entityManager = entityManager;
+        this.databaseVendor = databaseVendor;
+        this.stripes = stripes;
+    }
+
+    @Override
+    @Transactional
+    public void addSale(Order order) {
+        entityManager.createNativeQuery(MARK_COUNTED_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(SalesCountedOrderJpaEntity.class)
+                .setParameter("orderId", order.getId())
+                .setParameter("countedAt", LocalDateTime.now())
+                .executeUpdate();
+        apply(order, 1);
+    }
+
+    @Override
+    @Transactional
+    public void removeSale(Order order) {
+        int counted = entityManager.createNativeQuery(UNMARK_COUNTED_SQL)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(SalesCountedOrderJpaEntity.class)
+                .setParameter("orderId", order.getId())
+                .executeUpdate();
+        // Confirmado antes dos agregados existirem: nada foi somado, nada a subtrair
+        if (counted > 0) {
+            apply(order, -1);
+        }
+    }
+
+    @Override
+    public List<DailySales> findDailySales(LocalDate from, LocalDate to) {
+        return dailySalesJpaRepository.findDailySales(from, to);
+    }
+
+    @Override
+    public List<CategorySales> findCategorySales(LocalDate from, LocalDate to) {
+        return categorySalesJpaRepository.findCategorySales(from, to);
+    }
+
+    @Override
+    public List<ProductSales> findProductSales(LocalDate from, LocalDate to, int limit) {
+        return productSalesJpaRepository.findProductSales(from, to, PageRequest.of(0, limit));
+    }
+
+    private void apply(Order order, int sign) {
+        if (order.getItems().isEmpty()) {
+            return;
+        }
+        if (databaseVendor != DatabaseVendor.POSTGRESQL) {
+            lockUntilCompletion();
+        }
+
+        LocalDate date = order.getCreatedAt().toLocalDate();
+        int slot = Math.floorMod(order.getId().hashCode(), stripes);
+        Map<UUID, String> categories = categoriesOf(order, date, slot);
+
+        // Chaves ordenadas: transações concorrentes bloqueiam as linhas na mesma ordem
+        Map<CategoryKey, Totals> byCategory = new TreeMap<>(
+                Comparator.comparing(CategoryKey::category).thenComparing(CategoryKey::currency));
+        Map<ProductKey, Totals> byProduct = new TreeMap<>(
+                Comparator.comparing(ProductKey::productId).thenComparing(ProductKey::currency));
+        long units = 0;
+        for (OrderItem item : order.getItems()) {
+            String currency = item.getTotalPrice().getCurrency();
+            byCategory.computeIfAbsent(new CategoryKey(categories.get(item.getProductId()), currency),
+                    key -> new Totals(null)).add(item, sign);
+            byProduct.computeIfAbsent(new ProductKey(item.getProductId(), currency),
+                    key -> new Totals(item.getProductName())).add(item, sign);
+            units += item.getQuantity();
+        }
+
+        upsert(DAILY, List.<Object[]>of(new Object[]{
+                date, order.getTotalAmount().getCurrency(), slot,
+                (long) sign, sign * units, order.getTotalAmount().getAmount().multiply(BigDecimal.valueOf(sign))}));
+
+        List<Object[]> categoryRows = new ArrayList<>(byCategory.size());
+        byCategory.forEach((key, totals) -> categoryRows.add(new Object[]{
+                date, key.category(), key.currency(), slot, (long) sign, totals.units, totals.revenue}));
+        upsert(CATEGORY, categoryRows);
+
+        List<Object[]> productRows = new ArrayList<>(byProduct.size());
+        byProduct.forEach((key, totals) -> productRows.add(new Object[]{
+                date, key.productId(), key.currency(), slot, totals.productName, categories.get(key.productId()),
+                (long) sign, totals.units, totals.revenue}));
+        upsert(PRODUCT, productRows);
+    }
+
+    /**
+     * Categoria de cada produto do pedido: a já gravada na linha do produto nesta faixa do dia
+     * (para que o cancelamento desfaça exatamente o que a confirmação somou) ou a atual do produto.
+     */
+    private Map<UUID, String> categoriesOf(Order order, LocalDate date, int slot) {
+        Set<UUID> productIds = order.getItems().stream()
+                .map(OrderItem::getProductId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, String> categories = new HashMap<>();
+        productSalesJpaRepository.findBySalesDateAndSlotAndProductIdIn(date, slot, productIds)
+                .forEach(row -> categories.putIfAbsent(row.getProductId(), row.getCategory()));
+
+        List<UUID> missing = productIds.stream()
+                .filter(id -> !categories.containsKey(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            for (ProductJpaEntity product : productJpaRepository.findAllById(missing)) {
+                categories.put(product.getId(), product.getCategory());
+            }
+        }
+        productIds.forEach(id -> categories.putIfAbsent(id, UNCATEGORIZED));
+        return categories;
+    }
+
+    private void upsert(AggregateTable table, List<Object[]> rows) {
+        String sql = databaseVendor == DatabaseVendor.POSTGRESQL
+                ? table.insertOnConflictSql(rows.size())
+                : table.mergeSql(rows.size());
+
+        // A tabela afetada é declarada para que o Hibernate não invalide todas as regiões de cache
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(table.entity());
+        for (int row = 0; row < rows.size(); row++) {
+            Object[] values = rows.get(row);
+            for (int column = 0; column < values.length; column++) {
+                query.setParameter(parameter(row, column), values[column]);
+            }
+        }
+        query.executeUpdate();
+    }
+
+    private void lockUntilCompletion() {
+        portableWriteLock.lock();
+        try {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    portableWriteLock.unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            portableWriteLock.unlock();
+            throw e;
+        }
+    }
+
+    private static String parameter(int row, int column) {
+        return "v" + row + "_" + column;
+    }
+
+    private static Column column(String name, String type) {
+        return new Column(name, type);
+    }
+
+    private record CategoryKey(String category, String currency) {}
+
+    private record ProductKey(UUID productId, String currency) {}
+
+    private static final class Totals {
+
+        private final String productName;
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private Totals(String productName) {
+            this.productName = productName;
+        }
+
+        private void add(OrderItem item, int sign) {
+            units += (long) sign * item.getQuantity();
+            revenue = revenue.add(item.getTotalPrice().getAmount().multiply(BigDecimal.valueOf(sign)));
+        }
+    }
+
+    private record Column(String name, String type) {}
+
+    /**
+     * Tabela de agregados: colunas da chave, depois as substituídas a cada gravação, as gravadas
+     * só na criação da linha e, por fim, as somadas (orders, units, revenue).
+     */
+    private record AggregateTable(String name, Class<?> entity, List<Column> keys,
+                                  List<Column> replaced, List<Column> insertOnly) {
+
+        private static final List<Column> SUMMED = List.of(
+                new Column("orders", "BIGINT"), new Column("units", "BIGINT"),
+                new Column("revenue", "NUMERIC(19,2)"));
+
+        private List<Column> columns() {
+            List<Column> columns = new ArrayList<>(keys);
+            columns.addAll(replaced);
+            columns.addAll(insertOnly);
+            columns.addAll(SUMMED);
+            return columns;
+        }
+
+        private String insertOnConflictSql(int rows) {
+            List<Column> columns = columns();
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(name).append(" (")
+                    .append(names(columns, "")).append(") VALUES ");
+            for (int row = 0; row < rows; row++) {
+                sql.append(row == 0 ? "(" : ", (");
+                for (int column = 0; column < columns.size(); column++) {
+                    sql.append(column == 0 ? ":" : ", :").append(parameter(row, column));
+                }
+                sql.append(')');
+            }
+            sql.append(" ON CONFLICT (").append(names(keys, "")).append(") DO UPDATE SET ")
+                    .append(updates(name + ".", "EXCLUDED."));
+            return sql.toString();
+        }
+
+        private String mergeSql(int rows) {
+            List<Column> columns = columns();
+            StringBuilder sql = new StringBuilder("MERGE INTO ").append(name).append(" t USING (VALUES ");
+            for (int row = 0; row < rows; row++) {
+                sql.append(row == 0 ? "(" : ", (");
+                for (int column = 0; column < columns.size(); column++) {
+                    sql.append(column == 0 ? "" : ", ").append("CAST(:").append(parameter(row, column))
+                            .append(" AS ").append(columns.get(column).type()).append(')');
+                }
+                sql.append(')');
+            }
+            sql.append(") AS v(").append(names(columns, "")).append(") ON ")
+                    .append(keys.stream()
+                            .map(key -> "t." + key.name() + " = v." + key.name())
+                            .collect(Collectors.joining(" AND ")))
+                    .append(" WHEN MATCHED THEN UPDATE SET ").append(updates("t.", "v."))
+                    .append(" WHEN NOT MATCHED THEN INSERT (").append(names(columns, ""))
+                    .append(") VALUES (").append(names(columns, "v.")).append(')');
+            return sql.toString();
+        }
+
+        private String updates(String current, String incoming) {
+            List<String> assignments = new ArrayList<>();
+            replaced.forEach(column -> assignments.add(column.name() + " = " + incoming + column.name()));
+            SUMMED.forEach(column -> assignments.add(
+                    column.name() + " = " + current + column.name() + " + " + incoming + column.name()));
+            return String.join(", ", assignments);
+        }
+
+        private static String names(List<Column> columns, String prefix) {
+            return columns.stream()
+                    .map(column -> prefix + column.name())
+                    .collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.SalesReportDimension;
+import com.ecommerce.domain.projections.SalesReportRow;
+import com.ecommerce.domain.repositories.SalesReportRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.ArchivedOrderJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.OrderJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.report.SalesAccumulator;
+import com.ecommerce.infrastructure.adapters.repositories.report.SalesLine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Calcula relatórios de vendas lendo os pedidos, em paralelo.
+ *
+ * O período é dividido ao meio recursivamente (fork/join) até trechos de no máximo chunk;
+ * cada trecho lê em streaming os itens das tabelas quentes e, se preciso, do arquivo, em uma
+ * transação somente leitura própria (logo, em uma conexão própria), e soma em um
+ * {@link SalesAccumulator}. Os trechos são somados na volta da recursão.
+ *
+ * Um semáforo compartilhado por todos os relatórios limita as conexões usadas ao mesmo tempo
+ * (max-connections), para que relatórios grandes não esgotem o pool usado pelas requisições.
+ * O arquivo colunar é lido fora do semáforo, já que não usa o banco.
+ */
+@Repository
+public class SalesReportRepositoryImpl implements SalesReportRepository {
+
+    private static final List<OrderStatus> SALE_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::countsAsSale)
+            .toList();
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final ArchivedOrderJpaRepository archivedOrderJpaRepository;
+    private final ColumnarOrderArchive columnarArchive;
+    private final OrderArchiver archiver;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration chunk;
+    private final Semaphore connections;
+    private final ForkJoinPool pool;
+
+    public SalesReportRepositoryImpl(OrderJpaRepository orderJpaRepository,
+                                     ArchivedOrderJpaRepository archivedOrderJpaRepository,
+                                     ColumnarOrderArchive columnarArchive,
+                                     OrderArchiver archiver,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.analytics.report.chunk:P1D}") Duration chunk,
+                                     @Value("${app.analytics.report.max-connections:2}") int maxConnections,
+                                     @Value("${app.analytics.report.parallelism:0}") int parallelism) {
+        if (chunk.isNegative() || chunk.isZero() || maxConnections <= 0 || parallelism < 0) {
+            throw new IllegalArgumentException("Report chunk and connection limit must be positive");
+        }
+        this.orderJpaRepository = orderJpaRepository;
+        this.archivedOrderJpaRepository = archivedOrderJpaRepository;
+        this.columnarArchive = columnarArchive;
+        this.archiver = archiver;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunk = chunk;
+        this.connections = new Semaphore(maxConnections, true);
+        // 0 = um worker por processador
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public List<SalesReportRow> computeSalesReport(SalesReportDimension dimension, LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        return pool.invoke(new ChunkTask(dimension, start, end)).rows();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Trecho [start, end) do período.
+     */
+    private final class ChunkTask extends RecursiveTask<SalesAccumulator> {
+
+        private final SalesReportDimension dimension;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private ChunkTask(SalesReportDimension dimension, LocalDateTime start, LocalDateTime end) {
+            this.dimension = dimension;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected SalesAccumulator compute() {
+            long chunks = (Duration.between(start, end).toNanos() + chunk.toNanos() - 1) / chunk.toNanos();
+            if (chunks <= 1) {
+                return scan();
+            }
+
+            // Divide em fronteiras de trecho, para que cada folha tenha no máximo chunk
+            LocalDateTime middle = start.plus(chunk.multipliedBy(chunks / 2));
+            ChunkTask left = new ChunkTask(dimension, start, middle);
+            left.fork();
+            SalesAccumulator right = new ChunkTask(dimension, middle, end).compute();
+            return left.join().merge(right);
+        }
+
+        private SalesAccumulator scan() {
+            SalesAccumulator accumulator = new SalesAccumulator(dimension);
+            try {
+                connections.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a report connection", e);
+            }
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<SalesLine> lines = orderJpaRepository.streamSalesLines(start, end, SALE_STATUSES)) {
+                        lines.forEach(accumulator::add);
+                    }
+                    if (archiver.mayContainCreatedAfter(start)) {
+                        try (Stream<SalesLine> lines =
+                                     archivedOrderJpaRepository.streamSalesLines(start, end, SALE_STATUSES)) {
+                            lines.forEach(accumulator::add);
+                        }
+                    }
+                });
+            } finally {
+                connections.release();
+            }
+
+            if (columnarArchive.isEnabled() && archiver.mayContainCreatedAfter(start)) {
+                // O arquivo colunar usa intervalo fechado; as datas têm precisão de microssegundos
+                for (Order order : columnarArchive.findByCreatedAtBetween(start, end.minusNanos(1000))) {
+                    if (order.getStatus().countsAsSale()) {
+                        for (OrderItem item : order.getItems()) {
+                            accumulator.add(new SalesLine(order.getId(), order.getCreatedAt(), item.getProductId(),
+                                    item.getProductName(), item.getQuantity(), item.getTotalPrice().getAmount(),
+                                    item.getTotalPrice().getCurrency()));
+                        }
+                    }
+                }
+            }
+            return accumulator;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Normalização e geração de trigramas para a busca de clientes.
+ *
+ * O texto é decomposto (NFD), perde os acentos, vai para minúsculas e tudo que não é
+ * letra ou dígito vira separador. Cada palavra indexada gera trigramas com dois espaços
+ * à esquerda e um à direita (como o pg_trgm), então "Ana" gera "  a", " an", "ana", "na ".
+ */
+public final class SearchTrigrams {
+
+    private SearchTrigrams() {}
+
+    /**
+     * Normaliza o texto e separa as palavras.
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                token.append(c);
+            } else if (!token.isEmpty()) {
+                tokens.add(token.toString().toLowerCase(Locale.ROOT));
+                token.setLength(0);
+            }
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString().toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    /**
+     * Trigramas a indexar para um cliente: nome, sobrenome e a parte local do email.
+     */
+    public static Set<String> forCustomer(String firstName, String lastName, String email) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        String localPart = email == null ? null : email.substring(0, Math.max(0, email.indexOf('@')));
+        for (String text : new String[] {firstName, lastName, localPart}) {
+            for (String token : tokens(text)) {
+                addPadded(token, trigrams);
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Trigramas que um cliente precisa ter para casar com a busca.
+     * Palavras com 3+ caracteres exigem todos os trigramas internos (a palavra aparece em
+     * qualquer posição); palavras menores exigem o trigrama de início de palavra.
+     */
+    public static Set<String> required(String query) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String token : tokens(query)) {
+            if (token.length() >= 3) {
+                for (int i = 0; i + 3 <= token.length(); i++) {
+                    trigrams.add(token.substring(i, i + 3));
+                }
+            } else {
+                trigrams.add(("  " + token).substring(token.length() - 1));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Trigramas usados para ordenar os resultados: os da busca com as bordas das palavras,
+     * de modo que início e fim de palavra coincidentes contam mais.
+     */
+    public static Set<String> ranking(String query) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String token : tokens(query)) {
+            addPadded(token, trigrams);
+        }
+        return trigrams;
+    }
+
+    private static void addPadded(String token, Set<String> trigrams) {
+        String padded = "  " + token + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter.StatementCounts;
+import java.util.Map;
+
+/**
+ * Orçamento de SQL por requisição.
+ *
+ * A mesma consulta preparada muitas vezes na mesma requisição é o sintoma típico de N+1
+ * (ex.: carregar os itens de cada pedido de uma lista, um por um). Escritas repetidas não
+ * entram nessa regra, já que o batching JDBC as agrupa; elas contam apenas no total.
+ *
+ * @param maxStatements máximo de statements por requisição
+ * @param maxRepetitions máximo de vezes que a mesma consulta pode ser preparada por requisição
+ * @param mode o que fazer quando o orçamento é ultrapassado
+ */
+public record SqlBudget(int maxStatements, int maxRepetitions, Mode mode) {
+
+    public enum Mode {
+        /** Só mede, sem verificar o orçamento. */
+        OFF,
+        /** Registra um aviso ao final da requisição. */
+        LOG,
+        /** Falha o statement que ultrapassar o orçamento (usado nos testes). */
+        FAIL
+    }
+
+    public SqlBudget {
+        if (maxStatements <= 0 || maxRepetitions <= 0) {
+            throw new IllegalArgumentException("SQL budget limits must be positive");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("SQL budget mode cannot be null");
+        }
+    }
+
+    /**
+     * Falha se o statement atual ultrapassou algum dos limites.
+     */
+    void check(int statements, String sql, int executions) {
+        if (executions > maxRepetitions && isQuery(sql)) {
+            throw new SqlBudgetExceededException("Possible N+1: statement prepared " + executions
+                    + " times in one request (limit " + maxRepetitions + "): " + sql);
+        }
+        if (statements > maxStatements) {
+            throw new SqlBudgetExceededException("Request exceeded SQL budget of "
+                    + maxStatements + " statements");
+        }
+    }
+
+    /**
+     * Descreve a violação do orçamento, ou devolve null se a requisição ficou dentro dele.
+     */
+    public String describeViolation(StatementCounts counts) {
+        for (Map.Entry<String, Integer> entry : counts.bySql().entrySet()) {
+            if (entry.getValue() > maxRepetitions && isQuery(entry.getKey())) {
+                return "possible N+1, statement prepared " + entry.getValue() + " times: " + entry.getKey();
+            }
+        }
+        if (counts.total() > maxStatements) {
+            return counts.total() + " statements (budget " + maxStatements + ")";
+        }
+        return null;
+    }
+
+    private static boolean isQuery(String sql) {
+        return sql.regionMatches(true, 0, "select", 0, 6);
+    }
+}
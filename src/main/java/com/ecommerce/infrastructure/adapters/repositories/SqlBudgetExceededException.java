@@ -0,0 +1,11 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+/**
+ * Lançada quando uma requisição ultrapassa o orçamento de SQL no modo FAIL.
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
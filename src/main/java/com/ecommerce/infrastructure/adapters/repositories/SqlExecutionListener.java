@@ -0,0 +1,45 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import com.ecommerce.infrastructure.observability.Tracer;
+import com.ecommerce.infrastructure.observability.Tracer.ActiveSpan;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Mede o tempo de execução dos statements e lotes JDBC de uma sessão do Hibernate e
+ * repassa ao {@link SqlStatementCounter} da thread atual. Com um trace amostrado, cada
+ * execução também vira um span "db" filho do span ativo.
+ *
+ * Registrado via hibernate.session.events.auto; o Hibernate cria uma instância por sessão.
+ */
+public class SqlExecutionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record("jdbc.execute", System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record("jdbc.batch", System.nanoTime() - executionStart);
+    }
+
+    private static void record(String operation, long elapsedNanos) {
+        SqlStatementCounter.recordExecution(elapsedNanos);
+        ActiveSpan span = Tracer.currentSpan();
+        if (span != null) {
+            span.recordChild("db", operation, elapsedNanos);
+        }
+    }
+}
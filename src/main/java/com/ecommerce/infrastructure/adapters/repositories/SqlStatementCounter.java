@@ -0,0 +1,125 @@
+package com.ecommerce.infrastructure.adapters.repositories;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Conta os statements SQL preparados pelo Hibernate na thread atual, o tempo gasto
+ * executando-os e as entidades carregadas.
+ *
+ * A contagem só acontece entre {@link #begin()} e {@link #end()} (ex.: durante uma
+ * requisição HTTP); fora disso o custo é uma leitura de ThreadLocal. Com batching JDBC,
+ * um lote de inserts do mesmo tipo é preparado uma única vez e conta como um statement.
+ *
+ * Se o orçamento estiver no modo {@link SqlBudget.Mode#FAIL}, o statement que ultrapassar
+ * o limite falha com {@link SqlBudgetExceededException} antes de ir ao banco.
+ */
+public class SqlStatementCounter implements StatementInspector, Interceptor {
+
+    // Estático porque o SqlExecutionListener é instanciado pelo Hibernate a cada sessão
+    private static final ThreadLocal<Counting> CURRENT = new ThreadLocal<>();
+
+    private final SqlBudget budget;
+
+    public SqlStatementCounter(SqlBudget budget) {
+        this.budget = budget;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counting counting = CURRENT.get();
+        if (counting != null) {
+            int executions = counting.bySql.merge(sql, 1, Integer::sum);
+            counting.total++;
+            if (budget.mode() == SqlBudget.Mode.FAIL) {
+                budget.check(counting.total, sql, executions);
+            }
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        Counting counting = CURRENT.get();
+        if (counting != null) {
+            counting.entitiesLoaded++;
+        }
+        return false;
+    }
+
+    /**
+     * Inicia a contagem na thread atual, descartando qualquer contagem anterior.
+     */
+    public void begin() {
+        CURRENT.set(new Counting());
+    }
+
+    /**
+     * Encerra a contagem na thread atual e devolve o que foi contado.
+     */
+    public StatementCounts end() {
+        Counting counting = CURRENT.get();
+        CURRENT.remove();
+        if (counting == null) {
+            return new StatementCounts(Map.of(), 0, 0);
+        }
+        return new StatementCounts(counting.bySql, counting.executionNanos, counting.entitiesLoaded);
+    }
+
+    public SqlBudget budget() {
+        return budget;
+    }
+
+    /**
+     * Entidades carregadas até agora na contagem da thread atual (0 fora de uma contagem).
+     */
+    public static int entitiesLoadedSoFar() {
+        Counting counting = CURRENT.get();
+        return counting != null ? counting.entitiesLoaded : 0;
+    }
+
+    static void recordExecution(long nanos) {
+        Counting counting = CURRENT.get();
+        if (counting != null) {
+            counting.executionNanos += nanos;
+        }
+    }
+
+    private static final class Counting {
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int total;
+        private long executionNanos;
+        private int entitiesLoaded;
+    }
+
+    /**
+     * Statements preparados, agrupados pelo SQL, com o tempo de execução no banco e as
+     * entidades carregadas.
+     */
+    public record StatementCounts(Map<String, Integer> bySql, long executionNanos, int entitiesLoaded) {
+
+        public int total() {
+            int total = 0;
+            for (int count : bySql.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Quantidade de statements cujo SQL começa com o prefixo informado (sem diferenciar caixa).
+         */
+        public int countStartingWith(String prefix) {
+            int total = 0;
+            for (Map.Entry<String, Integer> entry : bySql.entrySet()) {
+                if (entry.getKey().regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    total += entry.getValue();
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.ecommerce.infrastructure.adapters.repositories.columnar;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Segmento somente leitura do arquivo colunar de pedidos, mapeado em memória.
+ *
+ * Formato (big-endian): cabeçalho com contagens, menor/maior criação, maior atualização e o
+ * offset de cada seção; depois as seções, cada uma com uma coluna:
+ * <ul>
+ *   <li>dicionário de strings (status, moedas, campos de endereço e nomes de produto viram códigos int);</li>
+ *   <li>IDs de pedido e de cliente (16 bytes), status e moeda (código), total em centavos (long);</li>
+ *   <li>datas em microssegundos: delta da criação em relação ao pedido anterior e da atualização em
+ *       relação à criação, em varint (os pedidos ficam ordenados por criação);</li>
+ *   <li>endereço (8 códigos por pedido) e offsets dos itens de cada pedido;</li>
+ *   <li>colunas dos itens: ID, produto, nome (código), preço unitário em centavos, moeda e quantidade.
+ *       O total do item é derivado (preço × quantidade).</li>
+ * </ul>
+ *
+ * As consultas percorrem só as colunas do filtro; o pedido completo é montado apenas para as linhas
+ * que passam. A leitura usa apenas acessos absolutos ao buffer, então uma instância pode ser
+ * consultada por várias threads.
+ */
+public final class ColumnarOrderSegment {
+
+    static final int MAGIC = 0x45434F41;
+    static final int VERSION = 1;
+    public static final int NULL_CODE = -1;
+    static final int SECTION_COUNT = 15;
+    static final int HEADER_SIZE = 4 * 4 + 3 * 8 + SECTION_COUNT * 8;
+
+    private static final int DICTIONARY = 0;
+    private static final int ORDER_IDS = 1;
+    private static final int CUSTOMER_IDS = 2;
+    private static final int STATUSES = 3;
+    private static final int TOTALS = 4;
+    private static final int CURRENCIES = 5;
+    private static final int TIMESTAMPS = 6;
+    private static final int ADDRESSES = 7;
+    private static final int ITEM_OFFSETS = 8;
+    private static final int ITEM_IDS = 9;
+    private static final int PRODUCT_IDS = 10;
+    private static final int PRODUCT_NAMES = 11;
+    private static final int UNIT_PRICES = 12;
+    private static final int ITEM_CURRENCIES = 13;
+    private static final int QUANTITIES = 14;
+
+    private static final int ADDRESS_FIELDS = 8;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int orderCount;
+    private final int itemCount;
+    private final long minCreatedMicros;
+    private final long maxCreatedMicros;
+    private final long maxUpdatedMicros;
+    private final int[] sections = new int[SECTION_COUNT];
+    private final String[] dictionary;
+
+    private ColumnarOrderSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a columnar order segment: " + file);
+        }
+        this.orderCount = buffer.getInt(8);
+        this.itemCount = buffer.getInt(12);
+        this.minCreatedMicros = buffer.getLong(16);
+        this.maxCreatedMicros = buffer.getLong(24);
+        this.maxUpdatedMicros = buffer.getLong(32);
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            sections[i] = Math.toIntExact(buffer.getLong(40 + i * 8));
+        }
+        this.dictionary = readDictionary();
+    }
+
+    public static ColumnarOrderSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // O mapeamento continua válido depois que o canal é fechado
+            return new ColumnarOrderSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Filtro de linha. Recebe as datas já decodificadas, já que elas só podem ser lidas em sequência.
+     */
+    @FunctionalInterface
+    public interface RowFilter {
+        boolean matches(int row, long createdAtMicros, long updatedAtMicros);
+    }
+
+    /**
+     * Conversão de uma linha que passou pelo filtro.
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ColumnarOrderSegment segment, int row, long createdAtMicros, long updatedAtMicros);
+    }
+
+    public <T> List<T> scan(RowFilter filter, RowMapper<T> mapper) {
+        List<T> result = new ArrayList<>();
+        VarLongReader timestamps = new VarLongReader(sections[TIMESTAMPS]);
+        long created = minCreatedMicros;
+        for (int row = 0; row < orderCount; row++) {
+            created += timestamps.next();
+            long updatedDelta = timestamps.next();
+            long updated = created + ((updatedDelta >>> 1) ^ -(updatedDelta & 1));
+
+            if (filter.matches(row, created, updated)) {
+                result.add(mapper.map(this, row, created, updated));
+            }
+        }
+        return result;
+    }
+
+    public boolean orderIdEquals(int row, UUID id) {
+        return uuidEquals(sections[ORDER_IDS] + row * 16, id);
+    }
+
+    public boolean customerIdEquals(int row, UUID customerId) {
+        return uuidEquals(sections[CUSTOMER_IDS] + row * 16, customerId);
+    }
+
+    public UUID orderId(int row) {
+        return uuid(sections[ORDER_IDS] + row * 16);
+    }
+
+    /**
+     * Código do status no dicionário deste segmento, ou {@link #NULL_CODE} se nenhum pedido tem o status.
+     */
+    public int statusCode(OrderStatus status) {
+        for (int code = 0; code < dictionary.length; code++) {
+            if (dictionary[code].equals(status.name())) {
+                return code;
+            }
+        }
+        return NULL_CODE;
+    }
+
+    public int statusCodeAt(int row) {
+        return buffer.getInt(sections[STATUSES] + row * 4);
+    }
+
+    public Order order(int row, long createdAtMicros, long updatedAtMicros) {
+        int firstItem = buffer.getInt(sections[ITEM_OFFSETS] + row * 4);
+        int lastItem = buffer.getInt(sections[ITEM_OFFSETS] + (row + 1) * 4);
+        List<OrderItem> items = new ArrayList<>(lastItem - firstItem);
+        for (int item = firstItem; item < lastItem; item++) {
+            items.add(item(item));
+        }
+
+        return Order.reconstruct(orderId(row), customerId(row), items, address(row),
+                OrderStatus.valueOf(string(statusCodeAt(row))), total(row),
+                fromMicros(createdAtMicros), fromMicros(updatedAtMicros));
+    }
+
+    public OrderSummary summary(int row, long createdAtMicros) {
+        Money total = total(row);
+        return new OrderSummary(orderId(row), customerId(row), OrderStatus.valueOf(string(statusCodeAt(row))),
+                total.getAmount(), total.getCurrency(), fromMicros(createdAtMicros));
+    }
+
+    public Path file() { return file; }
+
+    public int orderCount() { return orderCount; }
+
+    public int itemCount() { return itemCount; }
+
+    public long minCreatedAtMicros() { return minCreatedMicros; }
+
+    public long maxCreatedAtMicros() { return maxCreatedMicros; }
+
+    public long maxUpdatedAtMicros() { return maxUpdatedMicros; }
+
+    // Mesma precisão das colunas timestamp do banco
+    public static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1000;
+    }
+
+    public static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    private OrderItem item(int item) {
+        String currency = string(buffer.getInt(sections[ITEM_CURRENCIES] + item * 4));
+        long unitMinor = buffer.getLong(sections[UNIT_PRICES] + item * 8);
+        int quantity = buffer.getInt(sections[QUANTITIES] + item * 4);
+        return OrderItem.reconstruct(
+                uuid(sections[ITEM_IDS] + item * 16),
+                uuid(sections[PRODUCT_IDS] + item * 16),
+                string(buffer.getInt(sections[PRODUCT_NAMES] + item * 4)),
+                Money.of(BigDecimal.valueOf(unitMinor, 2), currency),
+                quantity,
+                Money.of(BigDecimal.valueOf(Math.multiplyExact(unitMinor, quantity), 2), currency));
+    }
+
+    private Address address(int row) {
+        int base = sections[ADDRESSES] + row * ADDRESS_FIELDS * 4;
+        String street = string(buffer.getInt(base));
+        if (street == null) {
+            return null;
+        }
+        return Address.builder()
+                .street(street)
+                .number(string(buffer.getInt(base + 4)))
+                .complement(string(buffer.getInt(base + 8)))
+                .neighborhood(string(buffer.getInt(base + 12)))
+                .city(string(buffer.getInt(base + 16)))
+                .state(string(buffer.getInt(base + 20)))
+                .zipCode(string(buffer.getInt(base + 24)))
+                .country(string(buffer.getInt(base + 28)))
+                .build();
+    }
+
+    private Money total(int row) {
+        return Money.of(BigDecimal.valueOf(buffer.getLong(sections[TOTALS] + row * 8), 2),
+                string(buffer.getInt(sections[CURRENCIES] + row * 4)));
+    }
+
+    private UUID customerId(int row) {
+        return uuid(sections[CUSTOMER_IDS] + row * 16);
+    }
+
+    private String string(int code) {
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    private UUID uuid(int offset) {
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+    }
+
+    private boolean uuidEquals(int offset, UUID id) {
+        return buffer.getLong(offset) == id.getMostSignificantBits()
+                && buffer.getLong(offset + 8) == id.getLeastSignificantBits();
+    }
+
+    /**
+     * Lê em sequência os varints de uma coluna (7 bits por byte, bit mais alto indica continuação).
+     */
+    private final class VarLongReader {
+
+        private int position;
+
+        private VarLongReader(int position) {
+            this.position = position;
+        }
+
+        private long next() {
+            long value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = buffer.get(position++);
+                value |= (long) (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+            return value;
+        }
+    }
+
+    private String[] readDictionary() {
+        int position = sections[DICTIONARY];
+        String[] values = new String[buffer.getInt(position)];
+        position += 4;
+        for (int i = 0; i < values.length; i++) {
+            int length = buffer.getInt(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + 4, bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+            position += 4 + length;
+        }
+        return values;
+    }
+}
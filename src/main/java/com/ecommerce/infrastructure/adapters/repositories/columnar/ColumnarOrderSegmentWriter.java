@@ -0,0 +1,209 @@
+package com.ecommerce.infrastructure.adapters.repositories.columnar;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.ecommerce.infrastructure.adapters.repositories.columnar.ColumnarOrderSegment.*;
+
+/**
+ * Grava um segmento do arquivo colunar de pedidos (formato descrito em {@link ColumnarOrderSegment}).
+ *
+ * O arquivo é escrito em um temporário, sincronizado com o disco e só então renomeado,
+ * então um segmento visível está sempre completo. Segmentos nunca são reescritos.
+ */
+public final class ColumnarOrderSegmentWriter {
+
+    private ColumnarOrderSegmentWriter() {
+    }
+
+    public static void write(Path file, List<Order> orders) throws IOException {
+        if (orders.isEmpty()) {
+            throw new IllegalArgumentException("A segment must contain at least one order");
+        }
+        List<Order> sorted = orders.stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt))
+                .toList();
+
+        Columns columns = new Columns();
+        for (Order order : sorted) {
+            columns.add(order);
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            byte[][] sections = columns.sections();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(sorted.size())
+                    .putInt(columns.itemCount)
+                    .putLong(toMicros(sorted.get(0).getCreatedAt()))
+                    .putLong(toMicros(sorted.get(sorted.size() - 1).getCreatedAt()))
+                    .putLong(columns.maxUpdatedMicros);
+            long offset = HEADER_SIZE;
+            for (byte[] section : sections) {
+                header.putLong(offset);
+                offset += section.length;
+            }
+            header.flip();
+            writeFully(channel, header);
+            for (byte[] section : sections) {
+                writeFully(channel, ByteBuffer.wrap(section));
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Colunas em construção, uma stream por seção, na ordem de {@link ColumnarOrderSegment}.
+     */
+    private static final class Columns {
+
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+        private final Section orderIds = new Section();
+        private final Section customerIds = new Section();
+        private final Section statuses = new Section();
+        private final Section totals = new Section();
+        private final Section currencies = new Section();
+        private final Section timestamps = new Section();
+        private final Section addresses = new Section();
+        private final Section itemOffsets = new Section();
+        private final Section itemIds = new Section();
+        private final Section productIds = new Section();
+        private final Section productNames = new Section();
+        private final Section unitPrices = new Section();
+        private final Section itemCurrencies = new Section();
+        private final Section quantities = new Section();
+
+        private int itemCount;
+        private long previousCreatedMicros = Long.MIN_VALUE;
+        private long maxUpdatedMicros = Long.MIN_VALUE;
+
+        private void add(Order order) throws IOException {
+            orderIds.uuid(order.getId());
+            customerIds.uuid(order.getCustomerId());
+            statuses.out.writeInt(code(order.getStatus().name()));
+            totals.out.writeLong(minorUnits(order.getTotalAmount()));
+            currencies.out.writeInt(code(order.getTotalAmount().getCurrency()));
+
+            // Pedidos ordenados por criação: os deltas são sempre positivos e quase sempre pequenos
+            long createdMicros = toMicros(order.getCreatedAt());
+            long updatedMicros = toMicros(order.getUpdatedAt());
+            timestamps.varLong(previousCreatedMicros == Long.MIN_VALUE ? 0 : createdMicros - previousCreatedMicros);
+            timestamps.varLong(zigZag(updatedMicros - createdMicros));
+            previousCreatedMicros = createdMicros;
+            maxUpdatedMicros = Math.max(maxUpdatedMicros, updatedMicros);
+
+            Address address = order.getDeliveryAddress();
+            addresses.out.writeInt(code(address == null ? null : address.getStreet()));
+            addresses.out.writeInt(code(address == null ? null : address.getNumber()));
+            addresses.out.writeInt(code(address == null ? null : address.getComplement()));
+            addresses.out.writeInt(code(address == null ? null : address.getNeighborhood()));
+            addresses.out.writeInt(code(address == null ? null : address.getCity()));
+            addresses.out.writeInt(code(address == null ? null : address.getState()));
+            addresses.out.writeInt(code(address == null ? null : address.getZipCode()));
+            addresses.out.writeInt(code(address == null ? null : address.getCountry()));
+
+            itemOffsets.out.writeInt(itemCount);
+            for (OrderItem item : order.getItems()) {
+                itemIds.uuid(item.getId());
+                productIds.uuid(item.getProductId());
+                productNames.out.writeInt(code(item.getProductName()));
+                unitPrices.out.writeLong(minorUnits(item.getUnitPrice()));
+                itemCurrencies.out.writeInt(code(item.getUnitPrice().getCurrency()));
+                quantities.out.writeInt(item.getQuantity());
+                itemCount++;
+            }
+        }
+
+        private int code(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            return dictionary.computeIfAbsent(value, v -> dictionary.size());
+        }
+
+        private byte[][] sections() throws IOException {
+            // Fecha a coluna de offsets com o total de itens (o pedido i vai de offsets[i] a offsets[i + 1])
+            itemOffsets.out.writeInt(itemCount);
+
+            Section strings = new Section();
+            strings.out.writeInt(dictionary.size());
+            for (String value : dictionary.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                strings.out.writeInt(bytes.length);
+                strings.out.write(bytes);
+            }
+
+            return new byte[][] {
+                    strings.bytes(), orderIds.bytes(), customerIds.bytes(), statuses.bytes(), totals.bytes(),
+                    currencies.bytes(), timestamps.bytes(), addresses.bytes(), itemOffsets.bytes(),
+                    itemIds.bytes(), productIds.bytes(), productNames.bytes(), unitPrices.bytes(),
+                    itemCurrencies.bytes(), quantities.bytes()
+            };
+        }
+
+        // Atualização normalmente é posterior à criação, mas o formato não depende disso
+        private static long zigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        private static long minorUnits(Money money) {
+            // Money sempre tem escala 2
+            return money.getAmount().unscaledValue().longValueExact();
+        }
+    }
+
+    private static final class Section {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        private void uuid(UUID value) throws IOException {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+
+        // 7 bits por byte, bit mais alto indica continuação
+        private void varLong(long value) throws IOException {
+            if (value < 0) {
+                throw new IllegalArgumentException("Timestamps must not go backwards: " + value);
+            }
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+
+        private byte[] bytes() {
+            return bytes.toByteArray();
+        }
+    }
+}
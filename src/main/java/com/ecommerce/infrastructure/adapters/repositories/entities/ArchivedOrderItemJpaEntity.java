@@ -0,0 +1,63 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.valueobjects.Money;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Item de um pedido arquivado; mesmas colunas de order_items.
+ */
+@Entity
+@Immutable
+@Table(name = "order_items_archive", indexes = {
+        @Index(name = "idx_order_items_archive_order", columnList = "order_id")
+})
+public class ArchivedOrderItemJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(name = "unit_price_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal unitPriceAmount;
+
+    @Column(name = "unit_price_currency", nullable = false, length = 3)
+    private String unitPriceCurrency;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "total_price_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPriceAmount;
+
+    @Column(name = "total_price_currency", nullable = false, length = 3)
+    private String totalPriceCurrency;
+
+    // Construtor padrão para JPA
+    protected ArchivedOrderItemJpaEntity() {}
+
+    // Método para converter para Domain Entity
+    public OrderItem toDomain() {
+        Money unitPrice = Money.of(unitPriceAmount, unitPriceCurrency);
+        Money totalPrice = Money.of(totalPriceAmount, totalPriceCurrency);
+
+        return OrderItem.reconstruct(
+                id, productId, productName, unitPrice, quantity, totalPrice
+        );
+    }
+
+    public UUID getId() { return id; }
+
+    public UUID getOrderId() { return orderId; }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pedido finalizado (entregue ou cancelado) movido para o arquivo por OrderArchiver.
+ *
+ * Mesmas colunas de orders, mais a data de arquivamento. As linhas são gravadas com
+ * INSERT ... SELECT a partir de orders e não mudam mais, por isso a entidade é somente leitura.
+ */
+@Entity
+@Immutable
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_customer_created", columnList = "customer_id, created_at"),
+        @Index(name = "idx_orders_archive_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_orders_archive_created", columnList = "created_at"),
+        @Index(name = "idx_orders_archive_updated", columnList = "updated_at")
+})
+public class ArchivedOrderJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", insertable = false, updatable = false)
+    @BatchSize(size = 50)
+    private List<ArchivedOrderItemJpaEntity> items = new ArrayList<>();
+
+    @Column(name = "delivery_address_street")
+    private String deliveryAddressStreet;
+
+    @Column(name = "delivery_address_number")
+    private String deliveryAddressNumber;
+
+    @Column(name = "delivery_address_complement")
+    private String deliveryAddressComplement;
+
+    @Column(name = "delivery_address_neighborhood")
+    private String deliveryAddressNeighborhood;
+
+    @Column(name = "delivery_address_city")
+    private String deliveryAddressCity;
+
+    @Column(name = "delivery_address_state")
+    private String deliveryAddressState;
+
+    @Column(name = "delivery_address_zip_code")
+    private String deliveryAddressZipCode;
+
+    @Column(name = "delivery_address_country")
+    private String deliveryAddressCountry;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "total_currency", nullable = false, length = 3)
+    private String totalCurrency;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Construtor padrão para JPA
+    protected ArchivedOrderJpaEntity() {}
+
+    // Método para converter para Domain Entity
+    public Order toDomain() {
+        Address deliveryAddress = null;
+        if (deliveryAddressStreet != null) {
+            deliveryAddress = Address.builder()
+                    .street(deliveryAddressStreet)
+                    .number(deliveryAddressNumber)
+                    .complement(deliveryAddressComplement)
+                    .neighborhood(deliveryAddressNeighborhood)
+                    .city(deliveryAddressCity)
+                    .state(deliveryAddressState)
+                    .zipCode(deliveryAddressZipCode)
+                    .country(deliveryAddressCountry)
+                    .build();
+        }
+
+        List<OrderItem> orderItems = items.stream()
+                .map(ArchivedOrderItemJpaEntity::toDomain)
+                .toList();
+
+        return Order.reconstruct(
+                id, customerId, orderItems, deliveryAddress,
+                status, Money.of(totalAmount, totalCurrency), createdAt, updatedAt
+        );
+    }
+
+    public UUID getId() { return id; }
+
+    public UUID getCustomerId() { return customerId; }
+
+    public OrderStatus getStatus() { return status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,81 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Pré-agregação de vendas por dia, categoria e moeda, dividida em faixas como {@link DailySalesJpaEntity}.
+ * Um pedido com vários produtos da mesma categoria conta uma vez em orders.
+ */
+@Entity
+@Immutable
+@Table(name = "sales_daily_category")
+@IdClass(CategorySalesJpaEntity.Key.class)
+public class CategorySalesJpaEntity {
+
+    @Id
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Id
+    @Column(nullable = false)
+    private String category;
+
+    @Id
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Id
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(nullable = false)
+    private Long orders;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    // Construtor padrão para JPA
+    protected CategorySalesJpaEntity() {}
+
+    public LocalDate getSalesDate() { return salesDate; }
+    public String getCategory() { return category; }
+    public String getCurrency() { return currency; }
+    public Integer getSlot() { return slot; }
+    public Long getOrders() { return orders; }
+    public Long getUnits() { return units; }
+    public BigDecimal getRevenue() { return revenue; }
+
+    /**
+     * Chave composta: dia, categoria, moeda e faixa.
+     */
+    public static class Key implements Serializable {
+
+        private LocalDate salesDate;
+        private String category;
+        private String currency;
+        private Integer slot;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key key)) return false;
+            return Objects.equals(salesDate, key.salesDate) && Objects.equals(category, key.category)
+                    && Objects.equals(currency, key.currency) && Objects.equals(slot, key.slot);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, category, currency, slot);
+        }
+    }
+}
@@ -3,15 +3,23 @@ package com.ecommerce.infrastructure.adapters.repositories.entities;
 import com.ecommerce.domain.entities.Customer;
 import com.ecommerce.domain.valueobjects.Address;
 import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.domain.valueobjects.EmailInterner;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Entidade JPA para persistência de clientes.
+ * Fica no cache de segundo nível quando o profile l2cache está ativo.
  */
 @Entity
-@Table(name = "customers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+@Table(name = "customers", indexes = {
+        // Índice de cobertura para as consultas de existência/status (index-only scan)
+        @Index(name = "idx_customers_id_active", columnList = "id, active")
+})
 public class CustomerJpaEntity {
 
     @Id
@@ -94,7 +102,13 @@ public class CustomerJpaEntity {
 
     // Método para converter para Domain Entity
     public Customer toDomain() {
-        Email emailVo = Email.of(email);
+        return toDomain(null);
+    }
+
+    // Conversão compartilhando instâncias canônicas de Email (interner null = desligado)
+    public Customer toDomain(EmailInterner interner) {
+        // Valor gravado a partir de um Email válido: não precisa ser revalidado
+        Email emailVo = interner != null ? interner.intern(email) : Email.fromTrusted(email);
 
         Address address = null;
         if (addressStreet != null) {
@@ -0,0 +1,62 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumo dos pedidos de um cliente: contagem por status, total gasto e último pedido.
+ * Gravada somente por SQL nativo (ver CustomerOrderSummaryRepositoryImpl).
+ */
+@Entity
+@Immutable
+@Table(name = "customer_order_summary")
+public class CustomerOrderSummaryJpaEntity {
+
+    @Id
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "pending_orders", nullable = false)
+    private Long pendingOrders;
+
+    @Column(name = "confirmed_orders", nullable = false)
+    private Long confirmedOrders;
+
+    @Column(name = "preparing_orders", nullable = false)
+    private Long preparingOrders;
+
+    @Column(name = "shipped_orders", nullable = false)
+    private Long shippedOrders;
+
+    @Column(name = "delivered_orders", nullable = false)
+    private Long deliveredOrders;
+
+    @Column(name = "cancelled_orders", nullable = false)
+    private Long cancelledOrders;
+
+    @Column(name = "lifetime_spend", nullable = false, precision = 19, scale = 2)
+    private BigDecimal lifetimeSpend;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "last_order_at")
+    private LocalDateTime lastOrderAt;
+
+    // Construtor padrão para JPA
+    protected CustomerOrderSummaryJpaEntity() {}
+
+    public UUID getCustomerId() { return customerId; }
+    public Long getPendingOrders() { return pendingOrders; }
+    public Long getConfirmedOrders() { return confirmedOrders; }
+    public Long getPreparingOrders() { return preparingOrders; }
+    public Long getShippedOrders() { return shippedOrders; }
+    public Long getDeliveredOrders() { return deliveredOrders; }
+    public Long getCancelledOrders() { return cancelledOrders; }
+    public BigDecimal getLifetimeSpend() { return lifetimeSpend; }
+    public String getCurrency() { return currency; }
+    public LocalDateTime getLastOrderAt() { return lastOrderAt; }
+}
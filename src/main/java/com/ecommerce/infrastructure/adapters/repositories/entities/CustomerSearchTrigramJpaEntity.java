@@ -0,0 +1,65 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entrada do índice de busca de clientes: um trigrama de um cliente.
+ * A chave (trigram, customer_id) permite buscar por trigrama sem ler a tabela de clientes.
+ */
+@Entity
+@Table(name = "customer_search_trigrams", indexes = {
+        @Index(name = "idx_customer_search_trigrams_customer", columnList = "customer_id")
+})
+@IdClass(CustomerSearchTrigramJpaEntity.Key.class)
+public class CustomerSearchTrigramJpaEntity {
+
+    @Id
+    @Column(nullable = false, length = 3)
+    private String trigram;
+
+    @Id
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    // Construtor padrão para JPA
+    protected CustomerSearchTrigramJpaEntity() {}
+
+    public CustomerSearchTrigramJpaEntity(String trigram, UUID customerId) {
+        this.trigram = trigram;
+        this.customerId = customerId;
+    }
+
+    public String getTrigram() { return trigram; }
+    public UUID getCustomerId() { return customerId; }
+
+    /**
+     * Chave composta do índice.
+     */
+    public static class Key implements Serializable {
+
+        private String trigram;
+        private UUID customerId;
+
+        public Key() {}
+
+        public Key(String trigram, UUID customerId) {
+            this.trigram = trigram;
+            this.customerId = customerId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key key)) return false;
+            return Objects.equals(trigram, key.trigram) && Objects.equals(customerId, key.customerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(trigram, customerId);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Pré-agregação de vendas por dia (data de criação do pedido) e moeda.
+ *
+ * Cada dia é dividido em faixas (slot): um pedido sempre soma na faixa derivada do seu ID,
+ * para que confirmações simultâneas não disputem a mesma linha. As consultas somam as faixas.
+ * Gravada somente por SQL nativo (ver SalesAnalyticsRepositoryImpl).
+ */
+@Entity
+@Immutable
+@Table(name = "sales_daily")
+@IdClass(DailySalesJpaEntity.Key.class)
+public class DailySalesJpaEntity {
+
+    @Id
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Id
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Id
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(nullable = false)
+    private Long orders;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    // Construtor padrão para JPA
+    protected DailySalesJpaEntity() {}
+
+    public LocalDate getSalesDate() { return salesDate; }
+    public String getCurrency() { return currency; }
+    public Integer getSlot() { return slot; }
+    public Long getOrders() { return orders; }
+    public Long getUnits() { return units; }
+    public BigDecimal getRevenue() { return revenue; }
+
+    /**
+     * Chave composta: dia, moeda e faixa.
+     */
+    public static class Key implements Serializable {
+
+        private LocalDate salesDate;
+        private String currency;
+        private Integer slot;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key key)) return false;
+            return Objects.equals(salesDate, key.salesDate) && Objects.equals(currency, key.currency)
+                    && Objects.equals(slot, key.slot);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, currency, slot);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.ecommerce.domain.entities.OrderStatus;
 import com.ecommerce.domain.valueobjects.Address;
 import com.ecommerce.domain.valueobjects.Money;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -25,8 +26,11 @@ public class OrderJpaEntity {
     @Column(name = "customer_id", nullable = false)
     private UUID customerId;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id")
+    // Ao listar pedidos, os itens são carregados em lotes (IN) em vez de um SELECT por pedido.
+    // order_id é gravado pelo próprio item; item removido da lista é apagado, não desvinculado
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", insertable = false, updatable = false)
+    @BatchSize(size = 50)
     private List<OrderItemJpaEntity> items = new ArrayList<>();
 
     @Column(name = "delivery_address_street")
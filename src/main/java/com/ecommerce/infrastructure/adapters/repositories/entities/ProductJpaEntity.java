@@ -3,6 +3,8 @@ package com.ecommerce.infrastructure.adapters.repositories.entities;
 import com.ecommerce.domain.entities.Product;
 import com.ecommerce.domain.valueobjects.Money;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -10,8 +12,10 @@ import java.util.UUID;
 /**
  * Entidade JPA para persistência de produtos.
  * Separada da entidade de domínio para manter a arquitetura limpa.
+ * Fica no cache de segundo nível quando o profile l2cache está ativo.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
 @Table(name = "products")
 public class ProductJpaEntity {
 
@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Pré-agregação de vendas por dia, produto e moeda, dividida em faixas como {@link DailySalesJpaEntity}.
+ *
+ * A categoria é a do produto quando a linha foi criada e não muda depois: confirmações e
+ * cancelamentos seguintes no mesmo dia e faixa usam essa categoria, então os totais por
+ * categoria continuam batendo mesmo que o produto troque de categoria.
+ */
+@Entity
+@Immutable
+@Table(name = "sales_daily_product", indexes = {
+        @Index(name = "idx_sales_daily_product_product", columnList = "product_id, sales_date")
+})
+@IdClass(ProductSalesJpaEntity.Key.class)
+public class ProductSalesJpaEntity {
+
+    @Id
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Id
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private Long orders;
+
+    @Column(nullable = false)
+    private Long units;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    // Construtor padrão para JPA
+    protected ProductSalesJpaEntity() {}
+
+    public LocalDate getSalesDate() { return salesDate; }
+    public UUID getProductId() { return productId; }
+    public String getCurrency() { return currency; }
+    public Integer getSlot() { return slot; }
+    public String getProductName() { return productName; }
+    public String getCategory() { return category; }
+    public Long getOrders() { return orders; }
+    public Long getUnits() { return units; }
+    public BigDecimal getRevenue() { return revenue; }
+
+    /**
+     * Chave composta: dia, produto, moeda e faixa.
+     */
+    public static class Key implements Serializable {
+
+        private LocalDate salesDate;
+        private UUID productId;
+        private String currency;
+        private Integer slot;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key key)) return false;
+            return Objects.equals(salesDate, key.salesDate) && Objects.equals(productId, key.productId)
+                    && Objects.equals(currency, key.currency) && Objects.equals(slot, key.slot);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(salesDate, productId, currency, slot);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.adapters.repositories.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pedido já somado às pré-agregações de vendas. O cancelamento só subtrai pedidos presentes
+ * aqui, então pedidos confirmados antes dos agregados existirem não os tornam negativos.
+ * Gravada somente por SQL nativo (ver SalesAnalyticsRepositoryImpl).
+ */
+@Entity
+@Immutable
+@Table(name = "sales_counted_orders")
+public class SalesCountedOrderJpaEntity {
+
+    @Id
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "counted_at", nullable = false)
+    private LocalDateTime countedAt;
+
+    // Construtor padrão para JPA
+    protected SalesCountedOrderJpaEntity() {}
+
+    public UUID getOrderId() { return orderId; }
+    public LocalDateTime getCountedAt() { return countedAt; }
+}
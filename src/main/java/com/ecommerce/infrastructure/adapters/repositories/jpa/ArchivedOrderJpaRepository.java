@@ -0,0 +1,120 @@
+package com.ecommerce.infrastructure.adapters.repositories.jpa;
+
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ArchivedOrderJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.report.SalesLine;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Repository Spring Data JPA para pedidos arquivados.
+ * Espelha as consultas de OrderJpaRepository usadas pelo adapter de pedidos.
+ */
+@Repository
+public interface ArchivedOrderJpaRepository extends JpaRepository<ArchivedOrderJpaEntity, UUID> {
+
+    /**
+     * Busca somente a data de atualização do pedido arquivado.
+     */
+    @Query("SELECT o.updatedAt FROM ArchivedOrderJpaEntity o WHERE o.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Maior data de criação entre os pedidos arquivados (vazio se o arquivo está vazio).
+     */
+    @Query("SELECT MAX(o.createdAt) FROM ArchivedOrderJpaEntity o")
+    Optional<LocalDateTime> findMaxCreatedAt();
+
+    List<ArchivedOrderJpaEntity> findByCustomerIdOrderByCreatedAtDesc(UUID customerId);
+
+    List<ArchivedOrderJpaEntity> findByStatusOrderByCreatedAtDesc(OrderStatus status);
+
+    List<ArchivedOrderJpaEntity> findByCustomerIdAndStatusOrderByCreatedAtDesc(UUID customerId, OrderStatus status);
+
+    @Query("SELECT new com.ecommerce.domain.projections.OrderSummary(" +
+            "o.id, o.customerId, o.status, o.totalAmount, o.totalCurrency, o.createdAt) " +
+            "FROM ArchivedOrderJpaEntity o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC")
+    List<OrderSummary> findSummariesByCustomerId(@Param("customerId") UUID customerId);
+
+    @Query("SELECT new com.ecommerce.domain.projections.OrderSummary(" +
+            "o.id, o.customerId, o.status, o.totalAmount, o.totalCurrency, o.createdAt) " +
+            "FROM ArchivedOrderJpaEntity o WHERE o.status = :status ORDER BY o.createdAt DESC")
+    List<OrderSummary> findSummariesByStatus(@Param("status") OrderStatus status);
+
+    @Query("SELECT new com.ecommerce.domain.projections.OrderSummary(" +
+            "o.id, o.customerId, o.status, o.totalAmount, o.totalCurrency, o.createdAt) " +
+            "FROM ArchivedOrderJpaEntity o WHERE o.customerId = :customerId AND o.status = :status " +
+            "ORDER BY o.createdAt DESC")
+    List<OrderSummary> findSummariesByCustomerIdAndStatus(@Param("customerId") UUID customerId,
+                                                          @Param("status") OrderStatus status);
+
+    @Query("SELECT o FROM ArchivedOrderJpaEntity o WHERE o.createdAt >= :startDate AND o.createdAt <= :endDate ORDER BY o.createdAt DESC")
+    List<ArchivedOrderJpaEntity> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                        @Param("endDate") LocalDateTime endDate);
+
+    List<ArchivedOrderJpaEntity> findByUpdatedAtAfterOrderByUpdatedAtDesc(LocalDateTime date);
+
+    long countByStatus(OrderStatus status);
+
+    long countByCustomerId(UUID customerId);
+
+    long countByIdIn(Collection<UUID> ids);
+
+    /**
+     * Busca os IDs dos pedidos arquivados mais antigos, criados antes da data de corte.
+     */
+    @Query("SELECT o.id FROM ArchivedOrderJpaEntity o WHERE o.createdAt < :cutoff ORDER BY o.createdAt ASC")
+    List<UUID> findIdsByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Busca pedidos arquivados com os itens em uma única consulta.
+     */
+    @Query("SELECT DISTINCT o FROM ArchivedOrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<ArchivedOrderJpaEntity> findAllWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedOrderItemJpaEntity i WHERE i.orderId IN :orderIds")
+    int deleteItemsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedOrderJpaEntity o WHERE o.id IN :ids")
+    int deleteOrdersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Remove os itens de um pedido arquivado (a entidade não tem cascade).
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedOrderItemJpaEntity i WHERE i.orderId = :orderId")
+    int deleteItemsByOrderId(@Param("orderId") UUID orderId);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedOrderJpaEntity o WHERE o.id = :id")
+    int deleteOrderById(@Param("id") UUID id);
+
+    /**
+     * Itens dos pedidos criados em [start, end) com um dos status, em streaming e em sequência
+     * por pedido. Usado pelos relatórios de vendas; deve ser consumido dentro de uma transação.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ecommerce.infrastructure.adapters.repositories.report.SalesLine(" +
+            "o.id, o.createdAt, i.productId, i.productName, i.quantity, i.totalPriceAmount, i.totalPriceCurrency) " +
+            "FROM ArchivedOrderJpaEntity o JOIN o.items i " +
+            "WHERE o.createdAt >= :start AND o.createdAt < :end AND o.status IN :statuses ORDER BY o.id")
+    Stream<SalesLine> streamSalesLines(@Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end,
+                                       @Param("statuses") Collection<OrderStatus> statuses);
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.infrastructure.adapters.repositories.jpa;
+
+import com.ecommerce.domain.projections.CategorySales;
+import com.ecommerce.infrastructure.adapters.repositories.entities.CategorySalesJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository Spring Data JPA para a pré-agregação de vendas por categoria.
+ */
+@Repository
+public interface CategorySalesJpaRepository extends JpaRepository<CategorySalesJpaEntity, CategorySalesJpaEntity.Key> {
+
+    @Query("SELECT new com.ecommerce.domain.projections.CategorySales(" +
+            "s.category, s.currency, SUM(s.orders), SUM(s.units), SUM(s.revenue)) " +
+            "FROM CategorySalesJpaEntity s WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.category, s.currency HAVING SUM(s.orders) > 0 ORDER BY SUM(s.revenue) DESC, s.category")
+    List<CategorySales> findCategorySales(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,13 +1,22 @@
 package com.ecommerce.infrastructure.adapters.repositories.jpa;
 
+import com.ecommerce.domain.projections.CustomerStatus;
+import com.ecommerce.domain.projections.CustomerSummary;
 import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository Spring Data JPA para clientes.
@@ -15,6 +24,25 @@ import java.util.UUID;
 @Repository
 public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity, UUID> {
 
+    /**
+     * Busca somente a data de atualização do cliente.
+     */
+    @Query("SELECT c.updatedAt FROM CustomerJpaEntity c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Busca somente o status (ativo/inativo) do cliente.
+     */
+    @Query("SELECT c.active FROM CustomerJpaEntity c WHERE c.id = :id")
+    Optional<Boolean> findActiveById(@Param("id") UUID id);
+
+    /**
+     * Busca somente IDs e status dos clientes informados.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.CustomerStatus(c.id, c.active) " +
+            "FROM CustomerJpaEntity c WHERE c.id IN :ids")
+    List<CustomerStatus> findStatusByIdIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * Busca cliente por email.
      */
@@ -25,6 +53,14 @@ public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity,
      */
     List<CustomerJpaEntity> findByActiveTrueOrderByFirstNameAsc();
 
+    /**
+     * Busca resumos dos clientes ativos, sem endereço e telefone.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.CustomerSummary(" +
+            "c.id, c.firstName, c.lastName, c.email, c.active) " +
+            "FROM CustomerJpaEntity c WHERE c.active = true ORDER BY c.firstName ASC")
+    List<CustomerSummary> findActiveSummaries();
+
     /**
      * Busca clientes por nome (busca parcial, case-insensitive).
      */
@@ -34,6 +70,30 @@ public interface CustomerJpaRepository extends JpaRepository<CustomerJpaEntity,
             "ORDER BY c.firstName ASC, c.lastName ASC")
     List<CustomerJpaEntity> findByNameContaining(@Param("name") String name);
 
+    /**
+     * Percorre os emails de todos os clientes sem carregar as entidades.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @Query("SELECT c.email FROM CustomerJpaEntity c")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
+
+    /**
+     * Busca clientes ainda sem trigramas no índice de busca, em ordem de ID (primeira página).
+     */
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE NOT EXISTS " +
+            "(SELECT 1 FROM CustomerSearchTrigramJpaEntity t WHERE t.customerId = c.id) " +
+            "ORDER BY c.id ASC")
+    List<CustomerJpaEntity> findNotSearchIndexed(Pageable pageable);
+
+    /**
+     * Busca clientes ainda sem trigramas no índice de busca após o ID informado (paginação por cursor).
+     */
+    @Query("SELECT c FROM CustomerJpaEntity c WHERE c.id > :after AND NOT EXISTS " +
+            "(SELECT 1 FROM CustomerSearchTrigramJpaEntity t WHERE t.customerId = c.id) " +
+            "ORDER BY c.id ASC")
+    List<CustomerJpaEntity> findNotSearchIndexedAfter(@Param("after") UUID after, Pageable pageable);
+
     /**
      * Verifica se existe cliente com email específico.
      */
@@ -0,0 +1,13 @@
+package com.ecommerce.infrastructure.adapters.repositories.jpa;
+
+import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerOrderSummaryJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA para o resumo de pedidos por cliente.
+ */
+@Repository
+public interface CustomerOrderSummaryJpaRepository extends JpaRepository<CustomerOrderSummaryJpaEntity, UUID> {
+}
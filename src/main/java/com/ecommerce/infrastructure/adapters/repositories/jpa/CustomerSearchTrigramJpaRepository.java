@@ -0,0 +1,46 @@
+package com.ecommerce.infrastructure.adapters.repositories.jpa;
+
+import com.ecommerce.infrastructure.adapters.repositories.entities.CustomerSearchTrigramJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA para o índice de trigramas da busca de clientes.
+ */
+@Repository
+public interface CustomerSearchTrigramJpaRepository
+        extends JpaRepository<CustomerSearchTrigramJpaEntity, CustomerSearchTrigramJpaEntity.Key> {
+
+    /**
+     * Busca IDs de clientes que possuem todos os trigramas obrigatórios,
+     * ordenados pela quantidade de trigramas de ranking em comum.
+     */
+    @Query("SELECT t.customerId FROM CustomerSearchTrigramJpaEntity t " +
+            "WHERE t.trigram IN :ranking " +
+            "GROUP BY t.customerId " +
+            "HAVING SUM(CASE WHEN t.trigram IN :required THEN 1 ELSE 0 END) = :requiredCount " +
+            "ORDER BY COUNT(t) DESC, t.customerId ASC")
+    List<UUID> searchCustomerIds(@Param("ranking") Collection<String> ranking,
+                                 @Param("required") Collection<String> required,
+                                 @Param("requiredCount") long requiredCount,
+                                 Pageable pageable);
+
+    /**
+     * Remove todos os trigramas de um cliente.
+     */
+    @Modifying
+    @Query("DELETE FROM CustomerSearchTrigramJpaEntity t WHERE t.customerId = :customerId")
+    void deleteByCustomerId(@Param("customerId") UUID customerId);
+
+    /**
+     * Verifica se o cliente já está indexado.
+     */
+    boolean existsByCustomerId(UUID customerId);
+}
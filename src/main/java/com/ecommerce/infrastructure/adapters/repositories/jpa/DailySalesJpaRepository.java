@@ -0,0 +1,26 @@
+package com.ecommerce.infrastructure.adapters.repositories.jpa;
+
+import com.ecommerce.domain.projections.DailySales;
+import com.ecommerce.infrastructure.adapters.repositories.entities.DailySalesJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository Spring Data JPA para a pré-agregação de vendas por dia.
+ */
+@Repository
+public interface DailySalesJpaRepository extends JpaRepository<DailySalesJpaEntity, DailySalesJpaEntity.Key> {
+
+    /**
+     * Soma as faixas de cada dia; dias cujas vendas foram todas canceladas não aparecem.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.DailySales(" +
+            "s.salesDate, s.currency, SUM(s.orders), SUM(s.units), SUM(s.revenue)) " +
+            "FROM DailySalesJpaEntity s WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.salesDate, s.currency HAVING SUM(s.orders) > 0 ORDER BY s.salesDate, s.currency")
+    List<DailySales> findDailySales(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
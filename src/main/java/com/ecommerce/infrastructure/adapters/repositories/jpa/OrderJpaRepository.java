@@ -1,14 +1,25 @@
 package com.ecommerce.infrastructure.adapters.repositories.jpa;
 
 import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.OrderSummary;
 import com.ecommerce.infrastructure.adapters.repositories.entities.OrderJpaEntity;
+import com.ecommerce.infrastructure.adapters.repositories.report.SalesLine;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository Spring Data JPA para pedidos.
@@ -16,6 +27,25 @@ import java.util.UUID;
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID> {
 
+    /**
+     * Busca somente a data de atualização do pedido.
+     */
+    @Query("SELECT o.updatedAt FROM OrderJpaEntity o WHERE o.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Maior data de criação entre os pedidos informados.
+     */
+    @Query("SELECT MAX(o.createdAt) FROM OrderJpaEntity o WHERE o.id IN :ids")
+    Optional<LocalDateTime> findMaxCreatedAtByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Busca o pedido com SELECT ... FOR UPDATE.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OrderJpaEntity o WHERE o.id = :id")
+    Optional<OrderJpaEntity> findByIdForUpdate(@Param("id") UUID id);
+
     /**
      * Busca pedidos de um cliente.
      */
@@ -31,6 +61,32 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID>
      */
     List<OrderJpaEntity> findByCustomerIdAndStatusOrderByCreatedAtDesc(UUID customerId, OrderStatus status);
 
+    /**
+     * Busca resumos dos pedidos de um cliente, sem carregar itens.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.OrderSummary(" +
+            "o.id, o.customerId, o.status, o.totalAmount, o.totalCurrency, o.createdAt) " +
+            "FROM OrderJpaEntity o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC")
+    List<OrderSummary> findSummariesByCustomerId(@Param("customerId") UUID customerId);
+
+    /**
+     * Busca resumos de pedidos por status, sem carregar itens.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.OrderSummary(" +
+            "o.id, o.customerId, o.status, o.totalAmount, o.totalCurrency, o.createdAt) " +
+            "FROM OrderJpaEntity o WHERE o.status = :status ORDER BY o.createdAt DESC")
+    List<OrderSummary> findSummariesByStatus(@Param("status") OrderStatus status);
+
+    /**
+     * Busca resumos dos pedidos de um cliente com status específico, sem carregar itens.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.OrderSummary(" +
+            "o.id, o.customerId, o.status, o.totalAmount, o.totalCurrency, o.createdAt) " +
+            "FROM OrderJpaEntity o WHERE o.customerId = :customerId AND o.status = :status " +
+            "ORDER BY o.createdAt DESC")
+    List<OrderSummary> findSummariesByCustomerIdAndStatus(@Param("customerId") UUID customerId,
+                                                          @Param("status") OrderStatus status);
+
     /**
      * Busca pedidos criados em um período.
      */
@@ -43,6 +99,15 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID>
      */
     List<OrderJpaEntity> findByUpdatedAtAfterOrderByUpdatedAtDesc(LocalDateTime date);
 
+    /**
+     * Busca os IDs dos pedidos mais antigos com os status informados, criados antes da data de corte.
+     */
+    @Query("SELECT o.id FROM OrderJpaEntity o WHERE o.status IN :statuses AND o.createdAt < :cutoff " +
+            "ORDER BY o.createdAt ASC")
+    List<UUID> findIdsByStatusInAndCreatedAtBefore(@Param("statuses") Collection<OrderStatus> statuses,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   Pageable pageable);
+
     /**
      * Conta pedidos por status.
      */
@@ -52,4 +117,17 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID>
      * Conta total de pedidos de um cliente.
      */
     long countByCustomerId(UUID customerId);
-}
\ No newline at end of file
+
+    /**
+     * Itens dos pedidos criados em [start, end) com um dos status, em streaming e em sequência
+     * por pedido. Usado pelos relatórios de vendas; deve ser consumido dentro de uma transação.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ecommerce.infrastructure.adapters.repositories.report.SalesLine(" +
+            "o.id, o.createdAt, i.productId, i.productName, i.quantity, i.totalPriceAmount, i.totalPriceCurrency) " +
+            "FROM OrderJpaEntity o JOIN o.items i " +
+            "WHERE o.createdAt >= :start AND o.createdAt < :end AND o.status IN :statuses ORDER BY o.id")
+    Stream<SalesLine> streamSalesLines(@Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end,
+                                       @Param("statuses") Collection<OrderStatus> statuses);
+}
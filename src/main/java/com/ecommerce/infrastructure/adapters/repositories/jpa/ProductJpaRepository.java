@@ -1,11 +1,17 @@
 package com.ecommerce.infrastructure.adapters.repositories.jpa;
 
+import com.ecommerce.domain.projections.ProductSummary;
 import com.ecommerce.infrastructure.adapters.repositories.entities.ProductJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,6 +20,18 @@ import java.util.UUID;
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UUID> {
 
+    /**
+     * Busca somente a data de atualização do produto.
+     */
+    @Query("SELECT p.updatedAt FROM ProductJpaEntity p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    /**
+     * Busca somente o estoque do produto.
+     */
+    @Query("SELECT p.stockQuantity FROM ProductJpaEntity p WHERE p.id = :id")
+    Optional<Integer> findStockQuantityById(@Param("id") UUID id);
+
     /**
      * Busca produtos ativos.
      */
@@ -35,6 +53,30 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UU
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.active = true AND p.stockQuantity > 0 ORDER BY p.name ASC")
     List<ProductJpaEntity> findAvailableProducts();
 
+    /**
+     * Busca resumos dos produtos ativos, sem descrição e datas.
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.ProductSummary(" +
+            "p.id, p.name, p.priceAmount, p.priceCurrency, p.stockQuantity, p.category, p.active) " +
+            "FROM ProductJpaEntity p WHERE p.active = true ORDER BY p.name ASC")
+    List<ProductSummary> findActiveSummaries();
+
+    /**
+     * Busca resumos de produtos por categoria (case-insensitive).
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.ProductSummary(" +
+            "p.id, p.name, p.priceAmount, p.priceCurrency, p.stockQuantity, p.category, p.active) " +
+            "FROM ProductJpaEntity p WHERE UPPER(p.category) = UPPER(:category) ORDER BY p.name ASC")
+    List<ProductSummary> findSummariesByCategory(@Param("category") String category);
+
+    /**
+     * Busca resumos dos produtos disponíveis (ativos e com estoque).
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.ProductSummary(" +
+            "p.id, p.name, p.priceAmount, p.priceCurrency, p.stockQuantity, p.category, p.active) " +
+            "FROM ProductJpaEntity p WHERE p.active = true AND p.stockQuantity > 0 ORDER BY p.name ASC")
+    List<ProductSummary> findAvailableSummaries();
+
     /**
      * Busca produtos com estoque baixo.
      */
@@ -53,7 +95,13 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UU
 
     /**
      * Busca todas as categorias distintas.
+     * Com o cache de consultas ligado (profile l2cache), o resultado é reaproveitado até a
+     * próxima escrita na tabela products.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "product-categories")
+    })
     @Query("SELECT DISTINCT p.category FROM ProductJpaEntity p WHERE p.active = true ORDER BY p.category ASC")
     List<String> findAllDistinctCategories();
 }
\ No newline at end of file
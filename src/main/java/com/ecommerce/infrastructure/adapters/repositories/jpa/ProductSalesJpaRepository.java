@@ -0,0 +1,35 @@
+package com.ecommerce.infrastructure.adapters.repositories.jpa;
+
+import com.ecommerce.domain.projections.ProductSales;
+import com.ecommerce.infrastructure.adapters.repositories.entities.ProductSalesJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository Spring Data JPA para a pré-agregação de vendas por produto.
+ */
+@Repository
+public interface ProductSalesJpaRepository extends JpaRepository<ProductSalesJpaEntity, ProductSalesJpaEntity.Key> {
+
+    /**
+     * Linhas já existentes de uma faixa de um dia, para reaproveitar a categoria gravada nelas.
+     */
+    List<ProductSalesJpaEntity> findBySalesDateAndSlotAndProductIdIn(LocalDate salesDate, Integer slot,
+                                                                    Collection<UUID> productIds);
+
+    /**
+     * Se o produto mudou de nome ou de categoria no período, prevalece o maior valor (MAX).
+     */
+    @Query("SELECT new com.ecommerce.domain.projections.ProductSales(" +
+            "s.productId, MAX(s.productName), MAX(s.category), s.currency, SUM(s.orders), SUM(s.units), SUM(s.revenue)) " +
+            "FROM ProductSalesJpaEntity s WHERE s.salesDate BETWEEN :from AND :to " +
+            "GROUP BY s.productId, s.currency HAVING SUM(s.orders) > 0 ORDER BY SUM(s.revenue) DESC, s.productId")
+    List<ProductSales> findProductSales(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+}
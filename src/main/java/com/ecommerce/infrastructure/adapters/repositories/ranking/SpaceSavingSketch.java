@@ -0,0 +1,111 @@
+package com.ecommerce.infrastructure.adapters.repositories.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Contagem aproximada dos itens mais frequentes de um fluxo (algoritmo Space-Saving,
+ * Metwally et al.), com no máximo capacity contadores.
+ *
+ * Quando não há contador livre, o item novo assume o contador de menor contagem e herda
+ * essa contagem como erro. A contagem de um item monitorado nunca é menor que a real e
+ * passa dela em no máximo {@code error}; um item não monitorado teve no máximo
+ * {@link #minCount()}. Todo item com mais de total/capacity está entre os monitorados.
+ *
+ * Não é seguro para uso concorrente.
+ */
+public final class SpaceSavingSketch {
+
+    private static final Comparator<Counter> BY_COUNT =
+            Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.sequence);
+
+    private final int capacity;
+    private final Map<UUID, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+    private long sequence;
+
+    public SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Sketch capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(UUID key, String label, long weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive");
+        }
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            // A posição no TreeSet depende da contagem: remove antes de alterar
+            byCount.remove(counter);
+            counter.label = label;
+            counter.count += weight;
+        } else if (counters.size() < capacity) {
+            counter = new Counter(key, label, weight, 0);
+            counters.put(key, counter);
+        } else {
+            Counter smallest = byCount.pollFirst();
+            counters.remove(smallest.key);
+            counter = new Counter(key, label, smallest.count + weight, smallest.count);
+            counters.put(key, counter);
+        }
+        counter.sequence = sequence++;
+        byCount.add(counter);
+    }
+
+    /**
+     * Maior contagem possível de um item não monitorado: a menor contagem quando todos os
+     * contadores estão em uso, senão 0.
+     */
+    public long minCount() {
+        return counters.size() < capacity ? 0 : byCount.first().count;
+    }
+
+    /**
+     * Itens monitorados, sem ordem definida.
+     */
+    public List<Estimate> estimates() {
+        List<Estimate> estimates = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            estimates.add(new Estimate(counter.key, counter.label, counter.count, counter.error));
+        }
+        return estimates;
+    }
+
+    public void clear() {
+        counters.clear();
+        byCount.clear();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Contagem estimada de um item: a real está entre count - error e count.
+     */
+    public record Estimate(UUID key, String label, long count, long error) {}
+
+    private static final class Counter {
+
+        private final UUID key;
+        private final long error;
+        private String label;
+        private long count;
+        private long sequence;
+
+        private Counter(UUID key, String label, long count, long error) {
+            this.key = key;
+            this.label = label;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.infrastructure.adapters.repositories.ranking;
+
+import com.ecommerce.domain.projections.ProductRanking;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Itens mais frequentes em janelas deslizantes, com memória limitada.
+ *
+ * O tempo é dividido em intervalos de tamanho bucket, cada um com seu
+ * {@link SpaceSavingSketch}, num anel que cobre retention; o intervalo mais antigo é
+ * reaproveitado quando o tempo avança, então a memória é fixa em
+ * (retention / bucket) x capacity contadores. Uma consulta soma os intervalos da janela,
+ * incluindo o atual, ainda parcial: a janela tem a granularidade de bucket.
+ *
+ * Seguro para uso concorrente: cada intervalo tem seu próprio bloqueio.
+ */
+public final class WindowedTopK {
+
+    private static final Comparator<ProductRanking> RANKING_ORDER =
+            Comparator.comparingLong(ProductRanking::estimatedUnits).reversed()
+                    .thenComparing(Comparator.comparingLong(ProductRanking::guaranteedUnits).reversed())
+                    .thenComparing(ProductRanking::productId);
+
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+
+    public WindowedTopK(Duration bucket, Duration retention, int capacity) {
+        if (bucket.isNegative() || bucket.isZero() || retention.compareTo(bucket) < 0) {
+            throw new IllegalArgumentException("Bucket must be positive and not longer than the retention");
+        }
+        this.bucketMillis = bucket.toMillis();
+        this.buckets = new Bucket[(int) ((retention.toMillis() + bucketMillis - 1) / bucketMillis)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket(capacity);
+        }
+    }
+
+    public void add(UUID key, String label, long weight, Instant at) {
+        long epoch = epoch(at);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        synchronized (bucket) {
+            if (bucket.epoch != epoch) {
+                if (bucket.epoch > epoch) {
+                    // Evento mais antigo que a retenção
+                    return;
+                }
+                bucket.epoch = epoch;
+                bucket.sketch.clear();
+            }
+            bucket.sketch.add(key, label, weight);
+        }
+    }
+
+    /**
+     * Os {@code limit} itens com maior contagem estimada na janela que termina em now.
+     *
+     * Os intervalos são somados como resumos Space-Saving: num intervalo em que o item não é
+     * monitorado, a estimativa soma o {@link SpaceSavingSketch#minCount()} do intervalo e o
+     * mínimo garantido não soma nada.
+     */
+    public List<ProductRanking> top(Duration window, int limit, Instant now) {
+        long newest = epoch(now);
+        long count = Math.min(buckets.length, (window.toMillis() + bucketMillis - 1) / bucketMillis);
+
+        Map<UUID, Merged> merged = new HashMap<>();
+        long totalMin = 0;
+        for (long epoch = newest; epoch > newest - count; epoch--) {
+            Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+            List<SpaceSavingSketch.Estimate> estimates;
+            long min;
+            synchronized (bucket) {
+                if (bucket.epoch != epoch) {
+                    continue;
+                }
+                estimates = bucket.sketch.estimates();
+                min = bucket.sketch.minCount();
+            }
+
+            totalMin += min;
+            for (SpaceSavingSketch.Estimate estimate : estimates) {
+                Merged item = merged.computeIfAbsent(estimate.key(), key -> new Merged());
+                item.label = estimate.label();
+                item.count += estimate.count();
+                item.guaranteed += estimate.count() - estimate.error();
+                item.minWhereMonitored += min;
+            }
+        }
+
+        List<ProductRanking> ranking = new ArrayList<>(merged.size());
+        for (Map.Entry<UUID, Merged> entry : merged.entrySet()) {
+            Merged item = entry.getValue();
+            long estimated = item.count + totalMin - item.minWhereMonitored;
+            ranking.add(new ProductRanking(entry.getKey(), item.label, estimated, item.guaranteed));
+        }
+        ranking.sort(RANKING_ORDER);
+        return ranking.size() > limit ? List.copyOf(ranking.subList(0, limit)) : ranking;
+    }
+
+    public Duration retention() {
+        return Duration.ofMillis(bucketMillis * buckets.length);
+    }
+
+    private long epoch(Instant at) {
+        return Math.floorDiv(at.toEpochMilli(), bucketMillis);
+    }
+
+    private static final class Bucket {
+
+        private final SpaceSavingSketch sketch;
+        private long epoch = Long.MIN_VALUE;
+
+        private Bucket(int capacity) {
+            this.sketch = new SpaceSavingSketch(capacity);
+        }
+    }
+
+    private static final class Merged {
+
+        private String label;
+        private long count;
+        private long guaranteed;
+        private long minWhereMonitored;
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecommerce.infrastructure.adapters.repositories.report;
+
+import com.ecommerce.domain.projections.SalesReportDimension;
+import com.ecommerce.domain.projections.SalesReportRow;
+
+import java.math.BigDecimal;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Totais de vendas de um trecho do relatório, por valor da dimensão e moeda.
+ *
+ * Os totais são contadores long (receita em centavos), sem BigDecimal por linha; a conversão
+ * acontece uma vez por grupo em {@link #rows()}. Cada instância é usada por uma thread e os
+ * trechos são somados com {@link #merge}.
+ *
+ * As linhas de um mesmo pedido devem chegar em sequência: um pedido conta uma vez em cada
+ * grupo em que aparece.
+ */
+public final class SalesAccumulator {
+
+    private static final Locale LABEL_LOCALE = Locale.forLanguageTag("pt-BR");
+
+    private final SalesReportDimension dimension;
+    private final Map<GroupKey, Totals> groups = new HashMap<>();
+    private final Set<GroupKey> groupsOfCurrentOrder = new HashSet<>();
+    private UUID currentOrderId;
+
+    public SalesAccumulator(SalesReportDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public void add(SalesLine line) {
+        if (!line.orderId().equals(currentOrderId)) {
+            currentOrderId = line.orderId();
+            groupsOfCurrentOrder.clear();
+        }
+
+        GroupKey key = new GroupKey(key(line), line.totalPriceCurrency());
+        Totals totals = groups.get(key);
+        if (totals == null) {
+            totals = new Totals(label(line));
+            groups.put(key, totals);
+        }
+        if (groupsOfCurrentOrder.add(key)) {
+            totals.orders++;
+        }
+        totals.units += line.quantity();
+        totals.revenueCents += line.totalPriceAmount().movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Soma os totais de outro trecho (com outros pedidos) a este.
+     */
+    public SalesAccumulator merge(SalesAccumulator other) {
+        other.groups.forEach((key, totals) -> {
+            Totals mine = groups.get(key);
+            if (mine == null) {
+                groups.put(key, totals);
+            } else {
+                mine.orders += totals.orders;
+                mine.units += totals.units;
+                mine.revenueCents += totals.revenueCents;
+            }
+        });
+        return this;
+    }
+
+    public List<SalesReportRow> rows() {
+        List<SalesReportRow> rows = new ArrayList<>(groups.size());
+        groups.forEach((key, totals) -> rows.add(new SalesReportRow(key.value(), totals.label, key.currency(),
+                totals.orders, totals.units, BigDecimal.valueOf(totals.revenueCents, 2))));
+
+        Comparator<SalesReportRow> order = dimension == SalesReportDimension.PRODUCT
+                ? Comparator.comparing(SalesReportRow::revenue).reversed().thenComparing(SalesReportRow::key)
+                : Comparator.comparing(SalesReportRow::key);
+        rows.sort(order.thenComparing(SalesReportRow::currency));
+        return rows;
+    }
+
+    // Chaves de tempo ordenáveis como texto
+    private String key(SalesLine line) {
+        return switch (dimension) {
+            case DAY -> line.createdAt().toLocalDate().toString();
+            case HOUR_OF_DAY -> String.format("%02d", line.createdAt().getHour());
+            case DAY_OF_WEEK -> String.valueOf(line.createdAt().getDayOfWeek().getValue());
+            case PRODUCT -> line.productId().toString();
+        };
+    }
+
+    private String label(SalesLine line) {
+        return switch (dimension) {
+            case DAY -> line.createdAt().toLocalDate().toString();
+            case HOUR_OF_DAY -> String.format("%02d:00", line.createdAt().getHour());
+            case DAY_OF_WEEK -> line.createdAt().getDayOfWeek().getDisplayName(TextStyle.FULL, LABEL_LOCALE);
+            case PRODUCT -> line.productName();
+        };
+    }
+
+    private record GroupKey(String value, String currency) {}
+
+    private static final class Totals {
+
+        private final String label;
+        private long orders;
+        private long units;
+        private long revenueCents;
+
+        private Totals(String label) {
+            this.label = label;
+        }
+    }
+}
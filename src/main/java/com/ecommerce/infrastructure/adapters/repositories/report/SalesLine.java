@@ -0,0 +1,20 @@
+package com.ecommerce.infrastructure.adapters.repositories.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Item de pedido com os campos do pedido usados pelos relatórios, lido em streaming
+ * (sem montar entidades nem coleções).
+ */
+public record SalesLine(
+        UUID orderId,
+        LocalDateTime createdAt,
+        UUID productId,
+        String productName,
+        Integer quantity,
+        BigDecimal totalPriceAmount,
+        String totalPriceCurrency
+) {
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.adapters.repositories.DatabaseVendor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+
+/**
+ * Configuração dependente do banco de dados.
+ *
+ * O profile "postgres" (application-postgres.yml) aponta para um PostgreSQL e cria os
+ * índices parciais de db/postgresql/indexes.sql; sem ele a aplicação usa o H2 em memória.
+ */
+@Configuration
+public class DatabaseConfig {
+
+    @Bean
+    public DatabaseVendor databaseVendor(DataSource dataSource) {
+        return DatabaseVendor.detect(dataSource);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.domain.valueobjects.EmailInterner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Liga (opcionalmente) o interning de emails na reconstrução de clientes lidos do banco.
+ * Com capacidade 0 nenhum interner é registrado e cada leitura cria sua própria instância de Email.
+ */
+@Configuration
+public class EmailInterningConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailInterningConfig.class);
+
+    @Bean
+    @ConditionalOnExpression("${app.cache.customers.email-interning-capacity:0} > 0")
+    public EmailInterner emailInterner(@Value("${app.cache.customers.email-interning-capacity}") int capacity) {
+        EmailInterner interner = new EmailInterner(capacity);
+        log.info("Email interning enabled with {} slots", interner.capacity());
+        return interner;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.web.DatabaseBulkheadFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import java.time.Duration;
+
+/**
+ * Configuração do modo de execução das requisições (platform threads ou virtual threads).
+ *
+ * O modo virtual é ativado com o profile "virtual-threads" (spring.threads.virtual.enabled)
+ * e só tem efeito em Java 21+. Nesse modo a concorrência deixa de ser limitada pelo pool de
+ * threads do Tomcat, então um bulkhead passa a limitar o acesso ao banco ao tamanho do pool
+ * de conexões.
+ */
+@Configuration
+public class ExecutionModeConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeConfig.class);
+
+    private final Environment environment;
+
+    public ExecutionModeConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public FilterRegistrationBean<DatabaseBulkheadFilter> databaseBulkheadFilter(
+            ObjectMapper objectMapper,
+            @Value("${app.execution.bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${app.execution.bulkhead.acquire-timeout:2s}") Duration acquireTimeout) {
+
+        FilterRegistrationBean<DatabaseBulkheadFilter> registration =
+                new FilterRegistrationBean<>(new DatabaseBulkheadFilter(permits, acquireTimeout, objectMapper));
+        registration.addUrlPatterns("/products/*", "/orders/*", "/customers/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logExecutionMode() {
+        boolean virtualRequested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Execution mode: virtual threads (database bulkhead enabled)");
+        } else if (virtualRequested) {
+            log.warn("Virtual threads requested but running on Java {}; falling back to platform threads. " +
+                    "Build with -Pjava21 and run on Java 21+ to enable them.", Runtime.version().feature());
+        } else {
+            log.info("Execution mode: platform threads");
+        }
+    }
+}
@@ -3,12 +3,20 @@ package com.ecommerce.infrastructure.config;
 import com.ecommerce.application.exceptions.BusinessException;
 import com.ecommerce.application.exceptions.NotFoundException;
 import com.ecommerce.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -20,6 +28,14 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     /**
      * Trata exceptions de recursos não encontrados.
      */
@@ -34,6 +50,8 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
 
+        countException(ex, HttpStatus.NOT_FOUND);
+
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
@@ -51,6 +69,8 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
 
+        countException(ex, HttpStatus.BAD_REQUEST);
+
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -68,6 +88,8 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
 
+        countException(ex, HttpStatus.UNPROCESSABLE_ENTITY);
+
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
     }
 
@@ -92,6 +114,8 @@ public class GlobalExceptionHandler {
                 .fieldErrors(fieldErrors)
                 .build();
 
+        countException(ex, HttpStatus.BAD_REQUEST);
+
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -109,6 +133,72 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
 
+        countException(ex, HttpStatus.BAD_REQUEST);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Trata violações de constraints do banco (ex.: email duplicado em cadastros simultâneos).
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex,
+                                                                               WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("The request conflicts with existing data")
+                .errorCode("DATA_INTEGRITY_VIOLATION")
+                .path(getPath(request))
+                .build();
+
+        log.warn("Data integrity violation on {}: {}", errorResponse.getPath(), ex.getMostSpecificCause().getMessage());
+
+        countException(ex, HttpStatus.CONFLICT);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Trata esperas por bloqueio que excederam o tempo limite (ex.: muitas alterações
+     * simultâneas no mesmo pedido). A operação foi desfeita e pode ser repetida.
+     */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handlePessimisticLockingFailureException(
+            PessimisticLockingFailureException ex, WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message("The resource is being modified by another request, please retry")
+                .errorCode("LOCK_TIMEOUT")
+                .path(getPath(request))
+                .build();
+
+        log.warn("Lock not acquired on {}: {}", errorResponse.getPath(), ex.getMostSpecificCause().getMessage());
+
+        countException(ex, HttpStatus.CONFLICT);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Trata parâmetros de requisição ausentes ou em formato inválido (ex.: data fora do padrão ISO).
+     */
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidRequestParameter(Exception ex, WebRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Parameter")
+                .message(ex.getMessage())
+                .errorCode("INVALID_PARAMETER")
+                .path(getPath(request))
+                .build();
+
+        countException(ex, HttpStatus.BAD_REQUEST);
+
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -126,12 +216,26 @@ public class GlobalExceptionHandler {
                 .path(getPath(request))
                 .build();
 
-        // Log da exception real para debug
-        ex.printStackTrace();
+        // Log da exception real para debug (printStackTrace sincroniza no System.err)
+        log.error("Unexpected error on {}", errorResponse.getPath(), ex);
+
+        countException(ex, HttpStatus.INTERNAL_SERVER_ERROR);
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * Conta as exceptions tratadas por tipo e status HTTP.
+     */
+    private void countException(Exception ex, HttpStatus status) {
+        Counter.builder("http.server.exceptions")
+                .description("Exceptions handled by the global exception handler")
+                .tag("exception", ex.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
+
     private String getPath(WebRequest request) {
         return request.getDescription(false).replace("uri=", "");
     }
@@ -0,0 +1,114 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.application.concurrency.SingleFlight;
+import com.ecommerce.application.usecases.order.FindOrdersUseCase;
+import com.ecommerce.application.usecases.product.FindProductsUseCase;
+import com.ecommerce.infrastructure.adapters.repositories.CachingCustomerRepository;
+import com.ecommerce.infrastructure.adapters.repositories.EmailBloomFilter;
+import com.ecommerce.infrastructure.observability.LayerMetricsAspect;
+import com.ecommerce.infrastructure.web.CatalogResponseCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas da aplicação, expostas em /actuator/prometheus.
+ *
+ * Além dos timers de use cases e repositórios, publica os contadores que os componentes
+ * já mantinham (coalescência de leituras, caches e filtro de emails). Esses valores são
+ * lidos só quando as métricas são coletadas, sem custo no caminho das requisições.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public LayerMetricsAspect layerMetricsAspect(MeterRegistry meterRegistry) {
+        return new LayerMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder coalescingMetrics(FindProductsUseCase findProductsUseCase,
+                                         FindOrdersUseCase findOrdersUseCase) {
+        return registry -> {
+            bindSingleFlight(registry, "products", findProductsUseCase,
+                    FindProductsUseCase::findByIdCoalescingStats);
+            bindSingleFlight(registry, "orders", findOrdersUseCase,
+                    FindOrdersUseCase::findByIdCoalescingStats);
+        };
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(CatalogResponseCache catalogResponseCache,
+                                    CachingCustomerRepository customerRepository) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", catalogResponseCache, CatalogResponseCache::getHits)
+                    .tags("cache", "catalog-responses", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", catalogResponseCache, CatalogResponseCache::getMisses)
+                    .tags("cache", "catalog-responses", "result", "miss")
+                    .register(registry);
+
+            bindCaffeineStats(registry, "customers-by-id", customerRepository,
+                    CachingCustomerRepository::byIdStats);
+            bindCaffeineStats(registry, "customers-by-email", customerRepository,
+                    CachingCustomerRepository::byEmailStats);
+            bindCaffeineStats(registry, "customer-status-by-id", customerRepository,
+                    CachingCustomerRepository::activeStatusStats);
+        };
+    }
+
+    @Bean
+    public MeterBinder emailFilterMetrics(EmailBloomFilter emailFilter) {
+        return registry -> {
+            bindFilterCounter(registry, emailFilter, "checks", EmailBloomFilter.Stats::checks);
+            bindFilterCounter(registry, emailFilter, "definite.negatives",
+                    EmailBloomFilter.Stats::definiteNegatives);
+            bindFilterCounter(registry, emailFilter, "false.positives",
+                    EmailBloomFilter.Stats::falsePositives);
+            bindFilterCounter(registry, emailFilter, "confirmed.positives",
+                    EmailBloomFilter.Stats::confirmedPositives);
+            bindFilterCounter(registry, emailFilter, "rebuilds", EmailBloomFilter.Stats::rebuilds);
+            Gauge.builder("email.filter.expected.false.positive.rate", emailFilter,
+                            filter -> filter.stats().expectedFalsePositiveRate())
+                    .register(registry);
+        };
+    }
+
+    // O Micrometer guarda o objeto observado por referência fraca, por isso o dono (um bean) é passado
+    private static <T> void bindSingleFlight(MeterRegistry registry, String resource, T owner,
+                                             Function<T, SingleFlight.Stats> stats) {
+        FunctionCounter.builder("single.flight.calls", owner, o -> stats.apply(o).calls())
+                .description("Lookups received by the request coalescer")
+                .tag("resource", resource)
+                .register(registry);
+        FunctionCounter.builder("single.flight.coalesced", owner, o -> stats.apply(o).coalesced())
+                .description("Lookups served by an in-flight execution")
+                .tag("resource", resource)
+                .register(registry);
+    }
+
+    private static <T> void bindCaffeineStats(MeterRegistry registry, String cache, T owner,
+                                              Function<T, CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", owner, o -> stats.apply(o).hitCount())
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", owner, o -> stats.apply(o).missCount())
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", owner, o -> stats.apply(o).evictionCount())
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private static void bindFilterCounter(MeterRegistry registry, EmailBloomFilter filter, String name,
+                                          ToDoubleFunction<EmailBloomFilter.Stats> value) {
+        FunctionCounter.builder("email.filter." + name, filter, f -> value.applyAsDouble(f.stats()))
+                .register(registry);
+    }
+}
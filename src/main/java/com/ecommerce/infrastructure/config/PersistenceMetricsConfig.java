@@ -0,0 +1,54 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.adapters.repositories.SqlBudget;
+import com.ecommerce.infrastructure.adapters.repositories.SqlExecutionListener;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter;
+import com.ecommerce.infrastructure.web.SqlStatementMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Métricas da camada de persistência.
+ *
+ * As métricas do pool (hikaricp.connections.active, hikaricp.connections.acquire etc.)
+ * são registradas pelo actuator; aqui são adicionadas as métricas de SQL por requisição
+ * (statements, tempo no banco e entidades carregadas) e o orçamento de SQL, que detecta
+ * N+1. Nos testes o orçamento falha a requisição em vez de só registrar um aviso.
+ */
+@Configuration
+public class PersistenceMetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter(
+            @Value("${app.sql-budget.max-statements:50}") int maxStatements,
+            @Value("${app.sql-budget.max-repetitions:10}") int maxRepetitions,
+            @Value("${app.sql-budget.mode:LOG}") SqlBudget.Mode mode) {
+        return new SqlStatementCounter(new SqlBudget(maxStatements, maxRepetitions, mode));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter counter) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+            properties.put(AvailableSettings.INTERCEPTOR, counter);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlExecutionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(
+            SqlStatementCounter counter, MeterRegistry meterRegistry) {
+
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(counter, meterRegistry));
+        registration.addUrlPatterns("/products/*", "/orders/*", "/customers/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
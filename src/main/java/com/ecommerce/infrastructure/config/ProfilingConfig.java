@@ -0,0 +1,30 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.observability.JfrRecordingService;
+import com.ecommerce.infrastructure.observability.JfrUseCaseAspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Profiling sob demanda com Java Flight Recorder (ver /admin/profiling/recording).
+ */
+@Configuration
+public class ProfilingConfig {
+
+    @Bean(destroyMethod = "close")
+    public JfrRecordingService jfrRecordingService(
+            @Value("${app.profiling.dump-directory:${java.io.tmpdir}/ecommerce-jfr}") Path dumpDirectory,
+            @Value("${app.profiling.max-age:30m}") Duration maxAge,
+            @Value("${app.profiling.max-size:256MB}") DataSize maxSize) {
+        return new JfrRecordingService(dumpDirectory, maxAge, maxSize.toBytes());
+    }
+
+    @Bean
+    public JfrUseCaseAspect jfrUseCaseAspect() {
+        return new JfrUseCaseAspect();
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (@Scheduled), como a reconstrução do filtro de emails.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.infrastructure.observability.AdaptiveSampler;
+import com.ecommerce.infrastructure.observability.FileSpanExporter;
+import com.ecommerce.infrastructure.observability.InMemorySpanExporter;
+import com.ecommerce.infrastructure.observability.SpanExporter;
+import com.ecommerce.infrastructure.observability.Tracer;
+import com.ecommerce.infrastructure.observability.TracingAspect;
+import com.ecommerce.infrastructure.web.TracingFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import java.nio.file.Path;
+
+/**
+ * Tracing das requisições: spans por camada (http, controller, use case, repositório,
+ * mapeamento e banco) para atribuir a latência sem precisar de um profiler.
+ *
+ * O exportador é escolhido por app.tracing.exporter: none (padrão; só propaga o ID do
+ * trace), file (JSON por linha em app.tracing.file) ou memory (usado nos testes).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "none", matchIfMissing = true)
+    public SpanExporter noopSpanExporter() {
+        return SpanExporter.NONE;
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(
+            ObjectMapper objectMapper,
+            @Value("${app.tracing.file:traces.jsonl}") Path file,
+            @Value("${app.tracing.queue-capacity:10000}") int queueCapacity) {
+        return new FileSpanExporter(file, queueCapacity, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(
+            @Value("${app.tracing.queue-capacity:10000}") int capacity) {
+        return new InMemorySpanExporter(capacity);
+    }
+
+    @Bean
+    public Tracer tracer(SpanExporter exporter,
+                         @Value("${app.tracing.sampler.traces-per-second:10}") int tracesPerSecond,
+                         @Value("${app.tracing.sampler.ratio:0.01}") double ratio) {
+        return new Tracer(new AdaptiveSampler(tracesPerSecond, ratio), exporter);
+    }
+
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer) {
+        return new TracingAspect(tracer);
+    }
+
+    // Antes do bulkhead e das métricas de SQL, para que a espera por permissão entre no trace
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        registration.addUrlPatterns("/products/*", "/orders/*", "/customers/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
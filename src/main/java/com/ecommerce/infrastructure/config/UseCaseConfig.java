@@ -1,6 +1,8 @@
 package com.ecommerce.infrastructure.config;
 
+import com.ecommerce.application.usecases.analytics.SalesAnalyticsUseCase;
 import com.ecommerce.application.usecases.customer.RegisterCustomerUseCase;
+import com.ecommerce.application.usecases.customer.SearchCustomersUseCase;
 import com.ecommerce.application.usecases.order.AddItemToOrderUseCase;
 import com.ecommerce.application.usecases.order.CancelOrderUseCase;
 import com.ecommerce.application.usecases.order.ConfirmOrderUseCase;
@@ -9,10 +11,15 @@ import com.ecommerce.application.usecases.order.FindOrdersUseCase;
 import com.ecommerce.application.usecases.order.RemoveItemFromOrderUseCase;
 import com.ecommerce.application.usecases.product.CreateProductUseCase;
 import com.ecommerce.application.usecases.product.FindProductsUseCase;
+import com.ecommerce.application.usecases.product.FindTopProductsUseCase;
 import com.ecommerce.application.usecases.product.UpdateProductUseCase;
+import com.ecommerce.domain.repositories.CustomerOrderSummaryRepository;
 import com.ecommerce.domain.repositories.CustomerRepository;
 import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.domain.repositories.ProductRankingRepository;
 import com.ecommerce.domain.repositories.ProductRepository;
+import com.ecommerce.domain.repositories.SalesAnalyticsRepository;
+import com.ecommerce.domain.repositories.SalesReportRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -40,6 +47,11 @@ public class UseCaseConfig {
         return new UpdateProductUseCase(productRepository);
     }
 
+    @Bean
+    public FindTopProductsUseCase findTopProductsUseCase(ProductRankingRepository productRankingRepository) {
+        return new FindTopProductsUseCase(productRankingRepository);
+    }
+
     // ===== CUSTOMER USE CASES =====
 
     @Bean
@@ -47,18 +59,25 @@ public class UseCaseConfig {
         return new RegisterCustomerUseCase(customerRepository);
     }
 
+    @Bean
+    public SearchCustomersUseCase searchCustomersUseCase(CustomerRepository customerRepository) {
+        return new SearchCustomersUseCase(customerRepository);
+    }
+
     // ===== ORDER USE CASES =====
 
     @Bean
     public CreateOrderUseCase createOrderUseCase(OrderRepository orderRepository,
-                                                 CustomerRepository customerRepository) {
-        return new CreateOrderUseCase(orderRepository, customerRepository);
+                                                 CustomerRepository customerRepository,
+                                                 CustomerOrderSummaryRepository customerOrderSummaryRepository) {
+        return new CreateOrderUseCase(orderRepository, customerRepository, customerOrderSummaryRepository);
     }
 
     @Bean
     public AddItemToOrderUseCase addItemToOrderUseCase(OrderRepository orderRepository,
-                                                       ProductRepository productRepository) {
-        return new AddItemToOrderUseCase(orderRepository, productRepository);
+                                                       ProductRepository productRepository,
+                                                       ProductRankingRepository productRankingRepository) {
+        return new AddItemToOrderUseCase(orderRepository, productRepository, productRankingRepository);
     }
 
     @Bean
@@ -68,19 +87,35 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public ConfirmOrderUseCase confirmOrderUseCase(OrderRepository orderRepository) {
-        return new ConfirmOrderUseCase(orderRepository);
+    public ConfirmOrderUseCase confirmOrderUseCase(OrderRepository orderRepository,
+                                                   SalesAnalyticsRepository salesAnalyticsRepository,
+                                                   ProductRankingRepository productRankingRepository,
+                                                   CustomerOrderSummaryRepository customerOrderSummaryRepository) {
+        return new ConfirmOrderUseCase(orderRepository, salesAnalyticsRepository, productRankingRepository,
+                customerOrderSummaryRepository);
     }
 
     @Bean
     public CancelOrderUseCase cancelOrderUseCase(OrderRepository orderRepository,
-                                                 ProductRepository productRepository) {
-        return new CancelOrderUseCase(orderRepository, productRepository);
+                                                 ProductRepository productRepository,
+                                                 SalesAnalyticsRepository salesAnalyticsRepository,
+                                                 CustomerOrderSummaryRepository customerOrderSummaryRepository) {
+        return new CancelOrderUseCase(orderRepository, productRepository, salesAnalyticsRepository,
+                customerOrderSummaryRepository);
     }
 
     @Bean
     public FindOrdersUseCase findOrdersUseCase(OrderRepository orderRepository,
-                                               CustomerRepository customerRepository) {
-        return new FindOrdersUseCase(orderRepository, customerRepository);
+                                               CustomerRepository customerRepository,
+                                               CustomerOrderSummaryRepository customerOrderSummaryRepository) {
+        return new FindOrdersUseCase(orderRepository, customerRepository, customerOrderSummaryRepository);
+    }
+
+    // ===== ANALYTICS USE CASES =====
+
+    @Bean
+    public SalesAnalyticsUseCase salesAnalyticsUseCase(SalesAnalyticsRepository salesAnalyticsRepository,
+                                                       SalesReportRepository salesReportRepository) {
+        return new SalesAnalyticsUseCase(salesAnalyticsRepository, salesReportRepository);
     }
 }
\ No newline at end of file
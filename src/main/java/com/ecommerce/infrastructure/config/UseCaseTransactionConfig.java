@@ -0,0 +1,41 @@
+package com.ecommerce.infrastructure.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * Transações dos use cases que criam ou alteram pedidos e estoque.
+ *
+ * Os use cases não dependem do Spring; a transação é aplicada aqui. Dentro dela os
+ * use cases bloqueiam o pedido e os produtos (SELECT ... FOR UPDATE), então leitura,
+ * validação e gravação acontecem sem intercalar com outra alteração do mesmo pedido
+ * ou do estoque dos mesmos produtos. Qualquer RuntimeException desfaz tudo.
+ */
+@Configuration
+public class UseCaseTransactionConfig {
+
+    private static final String ORDER_MUTATIONS =
+            "execution(public * com.ecommerce.application.usecases.order.CreateOrderUseCase.execute(..))"
+                    + " || execution(public * com.ecommerce.application.usecases.order.AddItemToOrderUseCase.execute(..))"
+                    + " || execution(public * com.ecommerce.application.usecases.order.RemoveItemFromOrderUseCase.execute(..))"
+                    + " || execution(public * com.ecommerce.application.usecases.order.ConfirmOrderUseCase.execute(..))"
+                    + " || execution(public * com.ecommerce.application.usecases.order.CancelOrderUseCase.execute(..))";
+
+    @Bean
+    public Advisor orderMutationTransactionAdvisor(TransactionManager transactionManager) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(ORDER_MUTATIONS);
+
+        MatchAlwaysTransactionAttributeSource attributes = new MatchAlwaysTransactionAttributeSource();
+        attributes.setTransactionAttribute(new RuleBasedTransactionAttribute());
+
+        return new DefaultPointcutAdvisor(pointcut, new TransactionInterceptor(transactionManager, attributes));
+    }
+}
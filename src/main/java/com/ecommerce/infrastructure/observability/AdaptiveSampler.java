@@ -0,0 +1,50 @@
+package com.ecommerce.infrastructure.observability;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decide quais traces são amostrados, adaptando-se ao volume de tráfego.
+ *
+ * Os primeiros {@code tracesPerSecond} traces de cada segundo são sempre amostrados;
+ * acima disso, só uma fração {@code ratio}. Com pouco tráfego toda requisição é
+ * rastreada; com muito, o custo de exportação fica limitado a uma taxa quase constante.
+ */
+public class AdaptiveSampler {
+
+    private final int tracesPerSecond;
+    private final double ratio;
+    private final LongSupplier clockMillis;
+    private final AtomicLong currentSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger sampledInSecond = new AtomicInteger();
+
+    public AdaptiveSampler(int tracesPerSecond, double ratio) {
+        this(tracesPerSecond, ratio, System::currentTimeMillis);
+    }
+
+    public AdaptiveSampler(int tracesPerSecond, double ratio, LongSupplier clockMillis) {
+        if (tracesPerSecond < 0) {
+            throw new IllegalArgumentException("Traces per second cannot be negative");
+        }
+        if (ratio < 0.0 || ratio > 1.0) {
+            throw new IllegalArgumentException("Sampling ratio must be between 0 and 1");
+        }
+        this.tracesPerSecond = tracesPerSecond;
+        this.ratio = ratio;
+        this.clockMillis = clockMillis;
+    }
+
+    public boolean sample() {
+        long second = clockMillis.getAsLong() / 1000;
+        long window = currentSecond.get();
+        if (second != window && currentSecond.compareAndSet(window, second)) {
+            sampledInSecond.set(0);
+        }
+        if (sampledInSecond.get() < tracesPerSecond && sampledInSecond.incrementAndGet() <= tracesPerSecond) {
+            return true;
+        }
+        return ratio > 0.0 && ThreadLocalRandom.current().nextDouble() < ratio;
+    }
+}
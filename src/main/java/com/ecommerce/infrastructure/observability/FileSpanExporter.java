@@ -0,0 +1,106 @@
+package com.ecommerce.infrastructure.observability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grava os spans em um arquivo local, um JSON por linha.
+ *
+ * A thread da requisição só enfileira o span; a escrita acontece em uma thread própria,
+ * em lotes. Com a fila cheia o span é descartado (e contado) em vez de segurar a requisição.
+ */
+public class FileSpanExporter implements SpanExporter, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+    private static final int BATCH_SIZE = 256;
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<SpanData> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public FileSpanExporter(Path file, int queueCapacity, ObjectMapper objectMapper) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "span-file-exporter");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void export(SpanData span) {
+        if (!queue.offer(span)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drain() {
+        List<SpanData> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                SpanData first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Encerramento: grava o que restou na fila
+                running = false;
+            }
+            queue.drainTo(batch, BATCH_SIZE - batch.size());
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<SpanData> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (SpanData span : batch) {
+                out.write(toJson(span));
+                out.newLine();
+            }
+        } catch (IOException e) {
+            dropped.addAndGet(batch.size());
+            log.warn("Could not write {} spans to {}: {}", batch.size(), file, e.getMessage());
+        }
+    }
+
+    private String toJson(SpanData span) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(span);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.infrastructure.observability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Guarda os spans mais recentes em memória. Usado nos testes para verificar a
+ * árvore de spans de uma requisição.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final ConcurrentLinkedDeque<SpanData> spans = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemorySpanExporter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void export(SpanData span) {
+        spans.addLast(span);
+        // Descarta os mais antigos ao atingir a capacidade
+        if (size.incrementAndGet() > capacity && spans.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    public List<SpanData> spansOf(String traceId) {
+        List<SpanData> result = new ArrayList<>();
+        for (SpanData span : spans) {
+            if (span.traceId().equals(traceId)) {
+                result.add(span);
+            }
+        }
+        return result;
+    }
+
+    public List<SpanData> getSpans() {
+        return List.copyOf(spans);
+    }
+
+    public void clear() {
+        spans.clear();
+        size.set(0);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecommerce.infrastructure.observability;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Controla uma gravação do Java Flight Recorder sob demanda, sem reiniciar a aplicação.
+ *
+ * Há no máximo uma gravação por vez. Ela é limitada por idade e tamanho (buffer circular)
+ * e, se uma duração for informada, para sozinha. Os dumps vão sempre para o diretório
+ * configurado; o nome do arquivo é gerado aqui e não vem da requisição.
+ */
+public class JfrRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private String settings;
+
+    public JfrRecordingService(Path dumpDirectory, Duration maxAge, long maxSizeBytes) {
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("Recording max size must be positive");
+        }
+        this.dumpDirectory = dumpDirectory;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Inicia uma gravação com as configurações "default" (overhead ~1%) ou "profile"
+     * (amostragem de CPU e alocação mais detalhada, ~2%).
+     *
+     * @return vazio se já existe uma gravação em andamento
+     */
+    public synchronized Optional<RecordingStatus> start(String settings, Duration duration) {
+        if (!SETTINGS.contains(settings)) {
+            throw new IllegalArgumentException("Recording settings must be one of " + SETTINGS);
+        }
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException("Recording duration must be positive");
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        closeRecording();
+
+        Recording newRecording;
+        try {
+            newRecording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load JFR settings " + settings, e);
+        }
+        newRecording.setName("ecommerce-on-demand");
+        newRecording.setMaxAge(maxAge);
+        newRecording.setMaxSize(maxSizeBytes);
+        newRecording.setDuration(duration);
+        newRecording.enable(UseCaseExecutionEvent.class);
+        newRecording.start();
+
+        this.recording = newRecording;
+        this.settings = settings;
+        log.info("JFR recording started with '{}' settings{}", settings,
+                duration != null ? " for " + duration : "");
+        return Optional.of(status());
+    }
+
+    /**
+     * Para a gravação em andamento. Os dados continuam disponíveis para dump até a próxima gravação.
+     */
+    public synchronized Optional<RecordingStatus> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        recording.stop();
+        log.info("JFR recording stopped");
+        return Optional.of(status());
+    }
+
+    /**
+     * Grava o conteúdo da gravação atual (em andamento ou parada) em um arquivo .jfr.
+     */
+    public synchronized Optional<Path> dump() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED
+                || recording.getState() == RecordingState.NEW) {
+            return Optional.empty();
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve("ecommerce-" + LocalDateTime.now().format(FILE_TIMESTAMP)
+                    + "-" + recording.getId() + ".jfr");
+            recording.dump(file);
+            log.info("JFR recording dumped to {}", file);
+            return Optional.of(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not dump JFR recording", e);
+        }
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus(RecordingState.NEW.name(), null, null, null, 0);
+        }
+        return new RecordingStatus(
+                recording.getState().name(),
+                settings,
+                recording.getStartTime(),
+                recording.getDuration(),
+                recording.getSize()
+        );
+    }
+
+    public synchronized void close() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            settings = null;
+        }
+    }
+
+    public record RecordingStatus(String state, String settings, Instant startTime, Duration duration,
+                                  long sizeBytes) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.infrastructure.observability;
+
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+
+/**
+ * Emite um {@link UseCaseExecutionEvent} por execução de use case.
+ *
+ * Sem gravação JFR ativa o evento fica desabilitado e o custo é a checagem de
+ * {@code isEnabled()}; a alocação e o endpoint só são lidos durante uma gravação.
+ */
+@Aspect
+public class JfrUseCaseAspect {
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCountingThreadBean();
+
+    @Around("execution(public * com.ecommerce.application.usecases..*(..)) && !execution(* *..*Stats())")
+    public Object recordUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        UseCaseExecutionEvent event = new UseCaseExecutionEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        long allocatedBefore = allocatedBytes();
+        int rowsBefore = SqlStatementCounter.entitiesLoadedSoFar();
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.outcome = "success";
+            return result;
+        } catch (Throwable e) {
+            event.outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+                event.useCase = method.getDeclaringClass().getSimpleName();
+                event.method = method.getName();
+                event.endpoint = currentEndpoint();
+                event.rowsLoaded = SqlStatementCounter.entitiesLoadedSoFar() - rowsBefore;
+                event.allocatedBytes = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+                event.commit();
+            }
+        }
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCountingThreadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ecommerce.infrastructure.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede latência, throughput e falhas dos use cases e dos adapters de repositório.
+ *
+ * Cada método público vira um timer (usecase.execution / repository.invocation) com as
+ * tags de classe, método, resultado e exceção. Os timers publicam histograma, então os
+ * percentis (p50/p95/p99) são calculados no Prometheus com histogram_quantile e podem
+ * ser agregados entre instâncias.
+ *
+ * Os timers ficam em cache por método: no caminho feliz o custo é uma leitura
+ * de mapa e duas chamadas a System.nanoTime().
+ */
+@Aspect
+public class LayerMetricsAspect {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public LayerMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Os getters de estatísticas são lidos pela coleta de métricas e não são medidos
+    @Around("execution(public * com.ecommerce.application.usecases..*(..)) && !execution(* *..*Stats())")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "usecase.execution", "usecase", "Use case execution time");
+    }
+
+    @Around("execution(public * com.ecommerce.infrastructure.adapters.repositories.*RepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository.invocation", "repository", "Repository adapter invocation time");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, String classTag, String description)
+            throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, m -> new MethodTimers(name, classTag, description, m));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.failure(e.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Timers de um método: um para sucesso e um por tipo de exceção lançada.
+     */
+    private final class MethodTimers {
+
+        private final String name;
+        private final String classTag;
+        private final String description;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        private MethodTimers(String name, String classTag, String description, Method method) {
+            this.name = name;
+            this.classTag = classTag;
+            this.description = description;
+            this.className = method.getDeclaringClass().getSimpleName();
+            this.methodName = method.getName();
+            this.success = timer("success", "none");
+        }
+
+        private Timer failure(Class<?> exceptionType) {
+            return failures.computeIfAbsent(exceptionType, type -> timer("failure", type.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(name)
+                    .description(description)
+                    .tag(classTag, className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(meterRegistry);
+        }
+    }
+}
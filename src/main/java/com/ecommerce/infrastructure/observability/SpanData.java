@@ -0,0 +1,25 @@
+package com.ecommerce.infrastructure.observability;
+
+/**
+ * Span finalizado, pronto para exportação.
+ *
+ * @param traceId      ID do trace (32 caracteres hex, formato W3C)
+ * @param spanId       ID do span (16 caracteres hex)
+ * @param parentSpanId span pai, ou null no span raiz de um trace iniciado aqui
+ * @param layer        camada que gerou o span (http, controller, usecase, repository, mapping, db)
+ * @param name         operação, ex.: "OrderController.getOrderById"
+ * @param startEpochMillis início do span
+ * @param durationNanos    duração do span
+ * @param error        nome simples da exceção que encerrou o span, ou null
+ */
+public record SpanData(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String layer,
+        String name,
+        long startEpochMillis,
+        long durationNanos,
+        String error
+) {
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.infrastructure.observability;
+
+/**
+ * Destino dos spans finalizados. É chamado na thread da requisição, então
+ * implementações não devem bloquear.
+ */
+public interface SpanExporter {
+
+    void export(SpanData span);
+
+    SpanExporter NONE = span -> { };
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.infrastructure.observability;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Contexto propagado entre serviços no header W3C traceparent
+ * ({@code 00-<trace-id>-<parent-id>-<flags>}).
+ */
+public record TraceContext(String traceId, String spanId, boolean sampled) {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    /**
+     * Lê um header traceparent; retorna null se ausente ou malformado, caso em que
+     * um novo trace é iniciado.
+     */
+    public static TraceContext parse(String traceparent) {
+        if (traceparent == null || traceparent.length() != 55) {
+            return null;
+        }
+        String[] parts = traceparent.split("-");
+        if (parts.length != 4 || !"00".equals(parts[0])
+                || !isHex(parts[1], 32) || !isHex(parts[2], 16) || !isHex(parts[3], 2)
+                || INVALID_TRACE_ID.equals(parts[1]) || INVALID_SPAN_ID.equals(parts[2])) {
+            return null;
+        }
+        boolean sampled = (HexFormat.fromHexDigits(parts[3]) & 0x01) == 1;
+        return new TraceContext(parts[1], parts[2], sampled);
+    }
+
+    public String toTraceparent() {
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong() | 1L);
+    }
+
+    static String newSpanId() {
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong() | 1L);
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+package com.ecommerce.infrastructure.observability;
+
+import java.util.function.Supplier;
+
+/**
+ * Tracer leve para atribuir a latência de uma requisição às camadas da aplicação.
+ *
+ * O span ativo fica em um ThreadLocal: o filtro HTTP abre o span raiz, o aspecto abre
+ * spans de controller, use case e repositório, os repositórios abrem spans de mapeamento
+ * e o listener do Hibernate registra o tempo de cada execução JDBC. Se o trace não foi
+ * amostrado, nenhum span filho é criado e o custo por camada é uma leitura do ThreadLocal.
+ */
+public class Tracer {
+
+    private static final ThreadLocal<ActiveSpan> CURRENT = new ThreadLocal<>();
+
+    private final AdaptiveSampler sampler;
+    private final SpanExporter exporter;
+    // Sem exportador os spans seriam descartados: nenhum trace é amostrado
+    private final boolean recording;
+
+    public Tracer(AdaptiveSampler sampler, SpanExporter exporter) {
+        this.sampler = sampler;
+        this.exporter = exporter;
+        this.recording = exporter != SpanExporter.NONE;
+    }
+
+    /**
+     * Inicia o span raiz da requisição. Segue a decisão de amostragem de quem chamou,
+     * quando o header traceparent é válido; senão consulta o sampler. Com o exportador
+     * {@link SpanExporter#NONE} o trace só propaga o ID e nunca é amostrado.
+     */
+    public ActiveSpan startTrace(String name, String traceparent) {
+        TraceContext parent = TraceContext.parse(traceparent);
+        String traceId = parent != null ? parent.traceId() : TraceContext.newTraceId();
+        String parentSpanId = parent != null ? parent.spanId() : null;
+        boolean sampled = recording && (parent != null ? parent.sampled() : sampler.sample());
+        return open(traceId, parentSpanId, "http", name, sampled);
+    }
+
+    /**
+     * Abre um span filho do span ativo, ou retorna null se não há trace amostrado
+     * nesta thread.
+     */
+    public ActiveSpan startSpan(String layer, String name) {
+        ActiveSpan parent = CURRENT.get();
+        if (parent == null || !parent.sampled) {
+            return null;
+        }
+        return open(parent.traceId, parent.spanId, layer, name, true);
+    }
+
+    /**
+     * Executa {@code work} em um span filho do span ativo. Estático para ser usado em
+     * pontos sem injeção de dependências; sem trace amostrado apenas executa.
+     */
+    public static <T> T inSpan(String layer, String name, Supplier<T> work) {
+        ActiveSpan parent = CURRENT.get();
+        if (parent == null || !parent.sampled) {
+            return work.get();
+        }
+        ActiveSpan span = parent.tracer.startSpan(layer, name);
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    public static ActiveSpan currentSpan() {
+        return CURRENT.get();
+    }
+
+    private ActiveSpan open(String traceId, String parentSpanId, String layer, String name, boolean sampled) {
+        ActiveSpan span = new ActiveSpan(this, traceId, TraceContext.newSpanId(), parentSpanId,
+                layer, name, sampled, CURRENT.get());
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Span em andamento. Deve ser encerrado na mesma thread em que foi aberto.
+     */
+    public static final class ActiveSpan implements AutoCloseable {
+
+        private final Tracer tracer;
+        private final String traceId;
+        private final String spanId;
+        private final String parentSpanId;
+        private final String layer;
+        private String name;
+        private final boolean sampled;
+        private final ActiveSpan previous;
+        private final long startEpochMillis = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+        private String error;
+
+        private ActiveSpan(Tracer tracer, String traceId, String spanId, String parentSpanId, String layer,
+                           String name, boolean sampled, ActiveSpan previous) {
+            this.tracer = tracer;
+            this.traceId = traceId;
+            this.spanId = spanId;
+            this.parentSpanId = parentSpanId;
+            this.layer = layer;
+            this.name = name;
+            this.sampled = sampled;
+            this.previous = previous;
+        }
+
+        public TraceContext context() {
+            return new TraceContext(traceId, spanId, sampled);
+        }
+
+        public String getTraceId() {
+            return traceId;
+        }
+
+        public boolean isSampled() {
+            return sampled;
+        }
+
+        public void rename(String name) {
+            this.name = name;
+        }
+
+        public void error(Throwable e) {
+            this.error = e.getClass().getSimpleName();
+        }
+
+        /**
+         * Registra um span filho já concluído, medido por quem chamou
+         * (ex.: a execução de um statement JDBC).
+         */
+        public void recordChild(String layer, String name, long durationNanos) {
+            if (!sampled) {
+                return;
+            }
+            long startEpochMillis = System.currentTimeMillis() - durationNanos / 1_000_000;
+            tracer.exporter.export(new SpanData(traceId, TraceContext.newSpanId(), spanId, layer, name,
+                    startEpochMillis, durationNanos, null));
+        }
+
+        public void end() {
+            long durationNanos = System.nanoTime() - startNanos;
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            if (sampled) {
+                tracer.exporter.export(new SpanData(traceId, spanId, parentSpanId, layer, name,
+                        startEpochMillis, durationNanos, error));
+            }
+        }
+
+        @Override
+        public void close() {
+            end();
+        }
+    }
+}
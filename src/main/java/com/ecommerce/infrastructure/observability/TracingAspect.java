@@ -0,0 +1,64 @@
+package com.ecommerce.infrastructure.observability;
+
+import com.ecommerce.infrastructure.observability.Tracer.ActiveSpan;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Abre spans em torno dos controllers, use cases e adapters de repositório, formando
+ * a árvore http → controller → usecase → repository → mapping/db de cada requisição.
+ */
+@Aspect
+public class TracingAspect {
+
+    private final Tracer tracer;
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * com.ecommerce.infrastructure.adapters.controllers..*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
+    }
+
+    @Around("execution(public * com.ecommerce.application.usecases..*(..)) && !execution(* *..*Stats())")
+    public Object traceUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "usecase");
+    }
+
+    @Around("execution(public * com.ecommerce.infrastructure.adapters.repositories.*RepositoryImpl.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        ActiveSpan current = Tracer.currentSpan();
+        if (current == null || !current.isSampled()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String name = spanNames.get(method);
+        if (name == null) {
+            name = spanNames.computeIfAbsent(method,
+                    m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+        }
+
+        ActiveSpan span = tracer.startSpan(layer, name);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
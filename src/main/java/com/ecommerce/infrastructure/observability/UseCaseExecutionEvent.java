@@ -0,0 +1,43 @@
+package com.ecommerce.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR emitido a cada execução de use case enquanto houver uma gravação ativa.
+ * A duração é a do próprio evento (begin/commit).
+ */
+@Name("com.ecommerce.UseCaseExecution")
+@Label("Use Case Execution")
+@Category({"E-commerce", "Application"})
+@Description("Execution of an application use case")
+@StackTrace(false)
+public class UseCaseExecutionEvent extends Event {
+
+    @Label("Use Case")
+    String useCase;
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("HTTP method and URI template of the request, if any")
+    String endpoint;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Rows Loaded")
+    @Description("Entities loaded by Hibernate during the execution")
+    int rowsLoaded;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the executing thread (estimate)")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,197 @@
+package com.ecommerce.infrastructure.web;
+
+import com.ecommerce.application.concurrency.SingleFlight;
+import com.ecommerce.infrastructure.adapters.repositories.ProductCatalogChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de respostas pré-serializadas das listagens do catálogo.
+ *
+ * Cada listagem é serializada em JSON uma única vez por versão do catálogo e guardada
+ * também comprimida em gzip. Enquanto nenhum produto mudar, as requisições são atendidas
+ * copiando os bytes prontos, sem passar pelo use case, pelo banco ou pelo Jackson.
+ *
+ * Qualquer escrita de produto incrementa a geração do catálogo (após o commit), e entradas
+ * calculadas com uma geração antiga são descartadas em vez de guardadas.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    /**
+     * Listagens cacheadas.
+     */
+    public enum Listing {
+        ACTIVE_PRODUCTS, AVAILABLE_PRODUCTS, CATEGORIES,
+        ACTIVE_PRODUCT_SUMMARIES, AVAILABLE_PRODUCT_SUMMARIES
+    }
+
+    private final ObjectMapper objectMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Listing, AtomicReference<Entry>> entries = new EnumMap<>(Listing.class);
+    // Por listagem e geração: quem chega depois de uma escrita não recebe um carregamento anterior a ela
+    private final SingleFlight<FillKey, Entry> fills = new SingleFlight<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CatalogResponseCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Listing listing : Listing.values()) {
+            entries.put(listing, new AtomicReference<>());
+        }
+    }
+
+    /**
+     * Responde a listagem a partir do cache, carregando-a com o loader em caso de miss.
+     */
+    public ResponseEntity<byte[]> serve(Listing listing, Supplier<?> loader, WebRequest request) {
+        Entry entry = get(listing, loader);
+
+        if (ResourceVersions.matchesIfNoneMatch(request, entry.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entry.etag())
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(entry.etag())
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzip());
+        }
+        return response.body(entry.identity());
+    }
+
+    /**
+     * Invalida todas as listagens quando o catálogo muda.
+     * Executa após o commit; sem transação ativa, executa imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductCatalogChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.values().forEach(reference -> reference.set(null));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    Entry get(Listing listing, Supplier<?> loader) {
+        AtomicReference<Entry> reference = entries.get(listing);
+        long currentGeneration = generation.get();
+
+        Entry cached = reference.get();
+        if (cached != null && cached.generation() == currentGeneration) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        return fills.execute(new FillKey(listing, currentGeneration), () -> {
+            Entry entry = serialize(loader.get(), currentGeneration);
+
+            // Só guarda se nenhuma escrita aconteceu durante o carregamento
+            if (generation.get() == currentGeneration) {
+                reference.set(entry);
+            }
+            return entry;
+        });
+    }
+
+    private Entry serialize(Object body, long entryGeneration) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(identity) + "\"";
+            return new Entry(identity, gzip(identity), etag, entryGeneration);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog listing", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Avalia o Accept-Encoding respeitando q-values (gzip;q=0 recusa gzip).
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    record Entry(byte[] identity, byte[] gzip, String etag, long generation) {}
+
+    private record FillKey(Listing listing, long generation) {}
+}
@@ -0,0 +1,100 @@
+package com.ecommerce.infrastructure.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Suporte a GET condicional (ETag / Last-Modified) baseado no updatedAt das entidades.
+ *
+ * O ETag é derivado do updatedAt truncado em microssegundos (precisão da coluna no banco),
+ * então a versão lida pela consulta leve e a versão do DTO completo geram o mesmo valor.
+ */
+public final class ResourceVersions {
+
+    private ResourceVersions() {}
+
+    public static String etag(LocalDateTime updatedAt) {
+        Instant instant = toInstant(updatedAt);
+        long micros = instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+        return "\"" + Long.toHexString(micros) + "\"";
+    }
+
+    public static long lastModified(LocalDateTime updatedAt) {
+        return toInstant(updatedAt).toEpochMilli();
+    }
+
+    /**
+     * Indica se o cliente enviou If-None-Match e, portanto, vale a pena consultar só a versão.
+     */
+    public static boolean hasIfNoneMatch(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    /**
+     * Compara o If-None-Match da requisição com a versão atual (comparação fraca, RFC 9110).
+     */
+    public static boolean matchesIfNoneMatch(WebRequest request, Optional<LocalDateTime> version) {
+        return version.isPresent() && matchesIfNoneMatch(request, etag(version.get()));
+    }
+
+    /**
+     * Compara o If-None-Match da requisição com um ETag forte já calculado (comparação fraca, RFC 9110).
+     */
+    public static boolean matchesIfNoneMatch(WebRequest request, String current) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resposta 304 com os mesmos cabeçalhos de validação da resposta completa.
+     */
+    public static <T> ResponseEntity<T> notModified(LocalDateTime updatedAt, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag(updatedAt))
+                .lastModified(lastModified(updatedAt))
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    /**
+     * Resposta 200 com ETag e Last-Modified.
+     * Se só If-Modified-Since foi enviado, o Spring converte em 304 ao escrever a resposta.
+     */
+    public static <T> ResponseEntity<T> ok(T body, LocalDateTime updatedAt, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .eTag(etag(updatedAt))
+                .lastModified(lastModified(updatedAt))
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    private static Instant toInstant(LocalDateTime updatedAt) {
+        return updatedAt.truncatedTo(ChronoUnit.MICROS)
+                .atZone(ZoneId.systemDefault())
+                .toInstant();
+    }
+}
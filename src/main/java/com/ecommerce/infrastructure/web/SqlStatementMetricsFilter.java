@@ -0,0 +1,109 @@
+package com.ecommerce.infrastructure.web;
+
+import com.ecommerce.infrastructure.adapters.repositories.SqlBudget;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter.StatementCounts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registra, por endpoint, quantos statements SQL cada requisição executou, o tempo gasto
+ * no banco e as entidades carregadas, e verifica o orçamento de SQL da requisição.
+ *
+ * Um aumento nessas métricas após um deploy costuma indicar N+1 ou perda de batching.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final Map<RouteKey, RouteMeters> metersByRoute = new ConcurrentHashMap<>();
+
+    public SqlStatementMetricsFilter(SqlStatementCounter counter, MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        counter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, counter.end());
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementCounts counts) {
+        RouteMeters meters = metersByRoute.computeIfAbsent(
+                new RouteKey(request.getMethod(), uriTemplate(request)), this::register);
+
+        meters.statements().record(counts.total());
+        meters.entities().record(counts.entitiesLoaded());
+        meters.time().record(counts.executionNanos(), TimeUnit.NANOSECONDS);
+
+        SqlBudget budget = counter.budget();
+        if (budget.mode() == SqlBudget.Mode.OFF) {
+            return;
+        }
+        String violation = budget.describeViolation(counts);
+        if (violation != null) {
+            meters.budgetExceeded().increment();
+            log.warn("SQL budget exceeded on {} {}: {}", request.getMethod(), request.getRequestURI(), violation);
+        }
+    }
+
+    // Registrado uma única vez por rota; o caminho da requisição só incrementa
+    private RouteMeters register(RouteKey route) {
+        Tags tags = Tags.of("method", route.method(), "uri", route.uri());
+        return new RouteMeters(
+                DistributionSummary.builder("http.server.requests.sql.statements")
+                        .description("SQL statements prepared per HTTP request")
+                        .baseUnit("statements")
+                        .tags(tags)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                DistributionSummary.builder("http.server.requests.sql.entities")
+                        .description("Entities loaded per HTTP request")
+                        .baseUnit("entities")
+                        .tags(tags)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                Timer.builder("http.server.requests.sql.time")
+                        .description("Time spent executing SQL per HTTP request")
+                        .tags(tags)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                Counter.builder("http.server.requests.sql.budget.exceeded")
+                        .description("HTTP requests that exceeded the SQL budget")
+                        .tags(tags)
+                        .register(meterRegistry));
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private record RouteKey(String method, String uri) {}
+
+    private record RouteMeters(DistributionSummary statements, DistributionSummary entities,
+                               Timer time, Counter budgetExceeded) {}
+}
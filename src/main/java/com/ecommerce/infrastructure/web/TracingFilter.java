@@ -0,0 +1,50 @@
+package com.ecommerce.infrastructure.web;
+
+import com.ecommerce.infrastructure.observability.TraceContext;
+import com.ecommerce.infrastructure.observability.Tracer;
+import com.ecommerce.infrastructure.observability.Tracer.ActiveSpan;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+
+/**
+ * Abre o span raiz de cada requisição.
+ *
+ * O trace continua o do chamador quando o header traceparent é enviado; o ID do trace
+ * volta no header X-Trace-Id (mesmo quando não amostrado), para que o cliente possa
+ * citá-lo ao reportar uma requisição lenta.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ActiveSpan span = tracer.startTrace(request.getMethod() + " " + request.getRequestURI(),
+                request.getHeader(TraceContext.TRACEPARENT_HEADER));
+        response.setHeader(TRACE_ID_HEADER, span.getTraceId());
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                span.rename(request.getMethod() + " " + pattern);
+            }
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+-- Índices das consultas quentes; aplicados na inicialização pelo profile postgres.
+-- Índices parciais cobrem só os produtos ativos, que são os únicos listados no catálogo.
+
+-- findByActiveTrueOrderByNameAsc, findActiveSummaries
+CREATE INDEX IF NOT EXISTS idx_products_active_name
+    ON products (name) WHERE active = true;
+
+-- findAvailableProducts, findAvailableSummaries
+CREATE INDEX IF NOT EXISTS idx_products_available_name
+    ON products (name) WHERE active = true AND stock_quantity > 0;
+
+-- findAllDistinctCategories
+CREATE INDEX IF NOT EXISTS idx_products_active_category
+    ON products (category) WHERE active = true;
+
+-- findProductsWithLowStock
+CREATE INDEX IF NOT EXISTS idx_products_active_stock
+    ON products (stock_quantity) WHERE active = true;
+
+-- findByCategoryIgnoreCaseOrderByNameAsc (compara upper(category))
+CREATE INDEX IF NOT EXISTS idx_products_upper_category_name
+    ON products (upper(category), name);
+
+-- findByCustomerIdOrderByCreatedAtDesc e variantes por status
+CREATE INDEX IF NOT EXISTS idx_orders_customer_created
+    ON orders (customer_id, created_at DESC);
+
+-- findByStatusOrderByCreatedAtDesc, findSummariesByStatus
+CREATE INDEX IF NOT EXISTS idx_orders_status_created
+    ON orders (status, created_at DESC);
+
+-- findByCreatedAtBetween
+CREATE INDEX IF NOT EXISTS idx_orders_created
+    ON orders (created_at DESC);
+
+-- findByUpdatedAtAfterOrderByUpdatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_orders_updated
+    ON orders (updated_at DESC);
+
+-- Carga dos itens de vários pedidos (IN nos order_id)
+CREATE INDEX IF NOT EXISTS idx_order_items_order
+    ON order_items (order_id);
@@ -0,0 +1,93 @@
+package com.ecommerce.benchmark;
+
+import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.domain.valueobjects.EmailInterner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara a validação de Email com a implementação anterior baseada em regex.
+ *
+ * Executar com:
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.ecommerce.benchmark.EmailValidationBenchmark
+ * Use -prof gc (via args) para ver a alocação por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    // Implementação anterior, mantida aqui apenas como referência
+    private static final Pattern LEGACY_PATTERN =
+            Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+
+    @Param({"maria.souza+promo@mail.example.com.br", "  Maria.Souza@Example.COM ",
+            "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa@aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.a"})
+    private String input;
+
+    private String storedValue;
+    private EmailInterner interner;
+
+    @Setup
+    public void setUp() {
+        storedValue = input.trim().toLowerCase();
+        interner = new EmailInterner(1024);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        String normalized = input.trim().toLowerCase();
+        return LEGACY_PATTERN.matcher(normalized).matches();
+    }
+
+    @Benchmark
+    public Object linearValidator() {
+        try {
+            return Email.of(input);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object legacyRehydration() {
+        // toDomain antes: revalidava o valor gravado a cada leitura
+        return LEGACY_PATTERN.matcher(storedValue.trim().toLowerCase()).matches()
+                ? storedValue
+                : null;
+    }
+
+    @Benchmark
+    public Email trustedRehydration() {
+        return Email.fromTrusted(storedValue);
+    }
+
+    @Benchmark
+    public Email internedRehydration() {
+        return interner.intern(storedValue);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EmailValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce.config;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Banco PostgreSQL para os testes de repositório, na ordem:
+ * <ol>
+ *   <li>um servidor local informado por -Dtest.postgres.url (com -Dtest.postgres.username/password);</li>
+ *   <li>um container postgres:16-alpine, quando há Docker disponível;</li>
+ *   <li>o H2 em modo PostgreSQL do profile test, quando nenhum dos dois está disponível.</li>
+ * </ol>
+ * Uso: {@code @ActiveProfiles(resolver = PostgresTestDatabase.ProfilesResolver.class)} e
+ * {@link #registerProperties(DynamicPropertyRegistry)} em um {@code @DynamicPropertySource}.
+ */
+public final class PostgresTestDatabase {
+
+    public enum Backend { LOCAL, CONTAINER, H2 }
+
+    private static final String IMAGE = "postgres:16-alpine";
+
+    private static Backend backend;
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresTestDatabase() {
+    }
+
+    public static synchronized Backend backend() {
+        if (backend == null) {
+            backend = detect();
+        }
+        return backend;
+    }
+
+    public static boolean isPostgres() {
+        return backend() != Backend.H2;
+    }
+
+    public static void registerProperties(DynamicPropertyRegistry registry) {
+        switch (backend()) {
+            case LOCAL -> {
+                registry.add("spring.datasource.url", () -> System.getProperty("test.postgres.url"));
+                registry.add("spring.datasource.username",
+                        () -> System.getProperty("test.postgres.username", "postgres"));
+                registry.add("spring.datasource.password",
+                        () -> System.getProperty("test.postgres.password", "postgres"));
+            }
+            case CONTAINER -> {
+                PostgreSQLContainer<?> postgres = startContainer();
+                registry.add("spring.datasource.url", postgres::getJdbcUrl);
+                registry.add("spring.datasource.username", postgres::getUsername);
+                registry.add("spring.datasource.password", postgres::getPassword);
+            }
+            case H2 -> {
+                // Mantém a configuração do profile test
+            }
+        }
+    }
+
+    private static Backend detect() {
+        if (System.getProperty("test.postgres.url") != null) {
+            return Backend.LOCAL;
+        }
+        try {
+            return DockerClientFactory.instance().isDockerAvailable() ? Backend.CONTAINER : Backend.H2;
+        } catch (RuntimeException e) {
+            return Backend.H2;
+        }
+    }
+
+    // Um container por JVM; o Testcontainers o remove ao final da execução
+    private static synchronized PostgreSQLContainer<?> startContainer() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>(IMAGE);
+            container.start();
+        }
+        return container;
+    }
+
+    /**
+     * Ativa o profile postgres somente quando há um PostgreSQL real.
+     */
+    public static class ProfilesResolver implements ActiveProfilesResolver {
+
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return isPostgres() ? new String[] {"test", "postgres"} : new String[] {"test"};
+        }
+    }
+}
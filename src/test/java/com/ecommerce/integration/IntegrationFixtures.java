@@ -0,0 +1,87 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.dto.AddItemToOrderDTO;
+import com.ecommerce.application.dto.AddressDTO;
+import com.ecommerce.application.dto.CreateOrderDTO;
+import com.ecommerce.application.dto.CreateProductDTO;
+import com.ecommerce.application.dto.RegisterCustomerDTO;
+import com.ecommerce.application.usecases.customer.RegisterCustomerUseCase;
+import com.ecommerce.application.usecases.order.AddItemToOrderUseCase;
+import com.ecommerce.application.usecases.order.CreateOrderUseCase;
+import com.ecommerce.application.usecases.product.CreateProductUseCase;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Dados de teste criados pelos use cases, compartilhados pelos testes de integração.
+ *
+ * Nomes, emails e produtos são únicos por chamada, já que todos os testes usam o mesmo banco.
+ * Testes que medem o próprio cadastro (HTTP, SQL) continuam fazendo a requisição eles mesmos.
+ */
+@Component
+public class IntegrationFixtures {
+
+    private final RegisterCustomerUseCase registerCustomerUseCase;
+    private final CreateProductUseCase createProductUseCase;
+    private final CreateOrderUseCase createOrderUseCase;
+    private final AddItemToOrderUseCase addItemToOrderUseCase;
+
+    public IntegrationFixtures(RegisterCustomerUseCase registerCustomerUseCase,
+                               CreateProductUseCase createProductUseCase,
+                               CreateOrderUseCase createOrderUseCase,
+                               AddItemToOrderUseCase addItemToOrderUseCase) {
+        this.registerCustomerUseCase = registerCustomerUseCase;
+        this.createProductUseCase = createProductUseCase;
+        this.createOrderUseCase = createOrderUseCase;
+        this.addItemToOrderUseCase = addItemToOrderUseCase;
+    }
+
+    public UUID registerCustomer() {
+        return registerCustomer("Maria", "Souza");
+    }
+
+    public UUID registerCustomer(String firstName, String lastName) {
+        return registerCustomer(firstName, lastName, UUID.randomUUID() + "@fixtures.example.com");
+    }
+
+    public UUID registerCustomer(String firstName, String lastName, String email) {
+        return registerCustomerUseCase.execute(new RegisterCustomerDTO(
+                firstName, lastName, email, null, address())).id();
+    }
+
+    public UUID createProduct(String category, String price) {
+        return createProduct(category, price, 100);
+    }
+
+    public UUID createProduct(String category, String price, int stock) {
+        return createProduct("Produto " + UUID.randomUUID(), category, price, stock);
+    }
+
+    public UUID createProduct(String name, String category, String price, int stock) {
+        return createProductUseCase.execute(new CreateProductDTO(
+                name, "Produto de teste", new BigDecimal(price), stock, category)).id();
+    }
+
+    /**
+     * Pedido pendente, sem itens.
+     */
+    public UUID createOrder(UUID customerId) {
+        return createOrderUseCase.execute(new CreateOrderDTO(customerId, address())).id();
+    }
+
+    public UUID createOrder(UUID customerId, UUID productId, int quantity) {
+        UUID orderId = createOrder(customerId);
+        addItem(orderId, productId, quantity);
+        return orderId;
+    }
+
+    public void addItem(UUID orderId, UUID productId, int quantity) {
+        addItemToOrderUseCase.execute(orderId, new AddItemToOrderDTO(productId, quantity));
+    }
+
+    public AddressDTO address() {
+        return new AddressDTO("Rua A", "10", null, "Centro", "São Paulo", "SP", "01000-000", "Brasil");
+    }
+}
@@ -0,0 +1,122 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.integration.IntegrationFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Catalog Listing Cache Integration Tests")
+class CatalogListingCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Test
+    @DisplayName("Deve servir a mesma listagem em gzip e identity conforme Accept-Encoding")
+    void shouldNegotiateGzipAndIdentity() throws Exception {
+        // Given
+        fixtures.createProduct("Gzip Product " + UUID.randomUUID(), "Gzip", "10.00", 10);
+
+        // When
+        MvcResult identity = mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+        MvcResult gzip = mockMvc.perform(get("/products").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        MvcResult refused = mockMvc.perform(get("/products").header(HttpHeaders.ACCEPT_ENCODING, "*, gzip;q=0"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        byte[] json = identity.getResponse().getContentAsByteArray();
+        assertThat(gunzip(gzip.getResponse().getContentAsByteArray())).isEqualTo(json);
+        assertThat(refused.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(json, StandardCharsets.UTF_8)).startsWith("[");
+    }
+
+    @Test
+    @DisplayName("Deve invalidar listagens quando um produto é criado")
+    void shouldInvalidateListingsOnProductWrite() throws Exception {
+        // Given
+        String category = "Category " + UUID.randomUUID();
+        String before = mockMvc.perform(get("/products/categories")).andReturn().getResponse().getContentAsString();
+        String etag = mockMvc.perform(get("/products/available")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        String name = "Invalidation Product " + UUID.randomUUID();
+        fixtures.createProduct(name, category, "10.00", 10);
+
+        // Then
+        assertThat(before).doesNotContain(category);
+        mockMvc.perform(get("/products/categories"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(category)));
+        mockMvc.perform(get("/products/available").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(name)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 quando a listagem não mudou")
+    void shouldReturnNotModifiedForUnchangedListing() throws Exception {
+        // Given
+        fixtures.createProduct("Etag Listing Product " + UUID.randomUUID(), "Etag", "10.00", 10);
+        String etag = mockMvc.perform(get("/products")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar ETag fraco, lista de ETags e * no If-None-Match")
+    void shouldMatchWeakListedAndWildcardEtags() throws Exception {
+        // Given
+        fixtures.createProduct("Weak Etag Product " + UUID.randomUUID(), "Etag", "10.00", 10);
+        String etag = mockMvc.perform(get("/products")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, "\"outro\", " + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/products").header(HttpHeaders.IF_NONE_MATCH, "\"outro\""))
+                .andExpect(status().isOk());
+    }
+
+    private byte[] gunzip(byte[] compressed) throws Exception {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return input.readAllBytes();
+        }
+    }
+}
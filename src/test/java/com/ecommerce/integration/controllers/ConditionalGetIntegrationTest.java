@@ -0,0 +1,106 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.integration.IntegrationFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Conditional GET Integration Tests")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Test
+    @DisplayName("Deve retornar 304 para produto não modificado e 200 após atualização")
+    void shouldReturnNotModifiedForUnchangedProduct() throws Exception {
+        // Given
+        UUID productId = fixtures.createProduct("Tests", "10.00", 10);
+        MvcResult first = mockMvc.perform(get("/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(put("/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Updated %s","description":"Nova descrição","price":20.00,
+                                 "stockQuantity":5,"category":"Tests"}
+                                """.formatted(productId)))
+                .andExpect(status().isOk());
+
+        MvcResult afterUpdate = mockMvc.perform(get("/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(afterUpdate.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar ETag fraco e lista de ETags no If-None-Match")
+    void shouldMatchWeakAndListedEtags() throws Exception {
+        // Given
+        UUID productId = fixtures.createProduct("Tests", "10.00", 10);
+        String etag = mockMvc.perform(get("/products/{id}", productId))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 quando produto condicional não existe")
+    void shouldReturnNotFoundForMissingProduct() throws Exception {
+        mockMvc.perform(get("/products/{id}", UUID.randomUUID()).header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 para cliente e pedido não modificados")
+    void shouldReturnNotModifiedForCustomerAndOrder() throws Exception {
+        // Given
+        UUID customerId = fixtures.registerCustomer();
+        String customerEtag = mockMvc.perform(get("/customers/{id}", customerId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        UUID orderId = fixtures.createOrder(customerId);
+        String orderEtag = mockMvc.perform(get("/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/customers/{id}", customerId).header(HttpHeaders.IF_NONE_MATCH, customerEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/orders/{id}", orderId).header(HttpHeaders.IF_NONE_MATCH, orderEtag))
+                .andExpect(status().isNotModified());
+    }
+}
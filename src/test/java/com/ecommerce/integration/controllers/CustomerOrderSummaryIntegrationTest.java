@@ -0,0 +1,139 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.application.usecases.order.CancelOrderUseCase;
+import com.ecommerce.application.usecases.order.ConfirmOrderUseCase;
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.CustomerOrderSummaryJpaRepository;
+import com.ecommerce.integration.IntegrationFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Customer Order Summary Integration Tests")
+class CustomerOrderSummaryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private CancelOrderUseCase cancelOrderUseCase;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerOrderSummaryJpaRepository summaryJpaRepository;
+
+    @Test
+    @DisplayName("Deve manter contagem por status e total gasto a cada mudança de pedido")
+    void shouldMaintainSummaryOnOrderChanges() throws Exception {
+        // Given
+        UUID customerId = fixtures.registerCustomer();
+        UUID product = fixtures.createProduct("Resumo", "150.00");
+        JsonNode empty = summary(customerId);
+        assertThat(empty.get("totalOrders").asLong()).isZero();
+        assertThat(empty.get("lastOrderAt").isNull()).isTrue();
+
+        // When
+        UUID kept = fixtures.createOrder(customerId, product, 2);
+        UUID cancelled = fixtures.createOrder(customerId, product, 1);
+        fixtures.createOrder(customerId, product, 4); // pendente
+        confirmOrderUseCase.execute(kept);
+        confirmOrderUseCase.execute(cancelled);
+        cancelOrderUseCase.execute(cancelled);
+
+        // Then
+        JsonNode summary = summary(customerId);
+        assertThat(summary.get("totalOrders").asLong()).isEqualTo(3);
+        assertThat(summary.get("ordersByStatus").get("PENDING").asLong()).isEqualTo(1);
+        assertThat(summary.get("ordersByStatus").get("CONFIRMED").asLong()).isEqualTo(1);
+        assertThat(summary.get("ordersByStatus").get("CANCELLED").asLong()).isEqualTo(1);
+        assertThat(summary.get("ordersByStatus").get("DELIVERED").asLong()).isZero();
+        assertThat(summary.get("lifetimeSpend").get("amount").decimalValue()).isEqualByComparingTo("300.00");
+        assertThat(summary.get("lifetimeSpend").get("currency").asText()).isEqualTo("BRL");
+        assertThat(summary.get("averageOrderValue").get("amount").decimalValue()).isEqualByComparingTo("300.00");
+        assertThat(summary.get("lastOrderAt").isNull()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve partir do histórico existente para pedidos anteriores ao resumo")
+    void shouldStartFromExistingHistory() throws Exception {
+        // Given: pedidos gravados sem passar pelos use cases, como os anteriores ao resumo
+        UUID customerId = fixtures.registerCustomer();
+        LocalDateTime lastYear = LocalDateTime.now().minusYears(1).withNano(0);
+        saveOrder(customerId, OrderStatus.DELIVERED, lastYear, "80.00");
+        saveOrder(customerId, OrderStatus.CANCELLED, lastYear.minusDays(3), "55.00");
+
+        JsonNode fromHistory = summary(customerId);
+        assertThat(fromHistory.get("totalOrders").asLong()).isEqualTo(2);
+        assertThat(fromHistory.get("lifetimeSpend").get("amount").decimalValue()).isEqualByComparingTo("80.00");
+        assertThat(summaryJpaRepository.existsById(customerId)).isTrue();
+
+        // When: a leitura já gravou o resumo; as alterações seguintes o atualizam
+        UUID product = fixtures.createProduct("Resumo", "20.00");
+        UUID orderId = fixtures.createOrder(customerId, product, 1);
+        confirmOrderUseCase.execute(orderId);
+
+        // Then
+        JsonNode summary = summary(customerId);
+        assertThat(summary.get("totalOrders").asLong()).isEqualTo(3);
+        assertThat(summary.get("ordersByStatus").get("DELIVERED").asLong()).isEqualTo(1);
+        assertThat(summary.get("ordersByStatus").get("CANCELLED").asLong()).isEqualTo(1);
+        assertThat(summary.get("ordersByStatus").get("CONFIRMED").asLong()).isEqualTo(1);
+        assertThat(summary.get("ordersByStatus").get("PENDING").asLong()).isZero();
+        assertThat(summary.get("lifetimeSpend").get("amount").decimalValue()).isEqualByComparingTo("100.00");
+        assertThat(summary.get("averageOrderValue").get("amount").decimalValue()).isEqualByComparingTo("50.00");
+        assertThat(LocalDateTime.parse(summary.get("lastOrderAt").asText())).isAfter(lastYear);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para cliente inexistente")
+    void shouldReturnNotFoundForUnknownCustomer() throws Exception {
+        mockMvc.perform(get("/orders/customer/{customerId}/summary", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode summary(UUID customerId) throws Exception {
+        String body = mockMvc.perform(get("/orders/customer/{customerId}/summary", customerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private void saveOrder(UUID customerId, OrderStatus status, LocalDateTime createdAt, String price) {
+        OrderItem item = OrderItem.create(UUID.randomUUID(), "Produto antigo", Money.ofBRL(new BigDecimal(price)), 1);
+        orderRepository.save(Order.reconstruct(UUID.randomUUID(), customerId, List.of(item),
+                fixtures.address().toDomain(), status, item.getTotalPrice(), createdAt, createdAt));
+    }
+}
@@ -0,0 +1,122 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.integration.IntegrationFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Customer Search Integration Tests")
+class CustomerSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Test
+    @DisplayName("Deve encontrar clientes ignorando acentos e caixa, por parte do nome")
+    void shouldFindIgnoringAccentsAndCase() throws Exception {
+        // Given
+        String surname = uniqueWord();
+        String id = fixtures.registerCustomer("Conceição", surname, UUID.randomUUID() + "@example.com").toString();
+
+        // When & Then
+        assertThat(search("CONCEICAO " + surname)).contains(id);
+        assertThat(search(surname.substring(2, 8))).contains(id);
+        assertThat(search("ceiçã " + surname)).contains(id);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar clientes pela parte local do email")
+    void shouldFindByEmailLocalPart() throws Exception {
+        // Given
+        String localPart = uniqueWord();
+        String id = fixtures.registerCustomer("Maria", "Souza", localPart + "@example.com").toString();
+
+        // When & Then
+        assertThat(search(localPart)).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por relevância e paginar os resultados")
+    void shouldRankAndPaginate() throws Exception {
+        // Given
+        String word = uniqueWord();
+        String exact = fixtures.registerCustomer(word, "Lima", UUID.randomUUID() + "@example.com").toString();
+        List<String> partial = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            partial.add(fixtures.registerCustomer("x" + word + "x", "Lima", UUID.randomUUID() + "@example.com").toString());
+        }
+
+        // When
+        List<String> firstPage = search(word, 0, 2);
+        List<String> secondPage = search(word, 1, 2);
+
+        // Then
+        assertThat(firstPage).hasSize(2).startsWith(exact);
+        assertThat(secondPage).hasSize(2);
+        assertThat(new ArrayList<>(firstPage) {{ addAll(secondPage); }})
+                .containsExactlyInAnyOrder(exact, partial.get(0), partial.get(1), partial.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar termo vazio e paginação inválida")
+    void shouldRejectInvalidSearch() throws Exception {
+        mockMvc.perform(get("/customers/search").param("name", "   "))
+                .andExpect(status().isBadRequest());
+        assertThat(search("  -- ")).isEmpty();
+        mockMvc.perform(get("/customers/search").param("name", "ana").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<String> search(String term) throws Exception {
+        return search(term, 0, 20);
+    }
+
+    private List<String> search(String term, int page, int size) throws Exception {
+        MvcResult result = mockMvc.perform(get("/customers/search")
+                        .param("name", term)
+                        .param("page", String.valueOf(page))
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<String> ids = new ArrayList<>();
+        for (JsonNode customer : objectMapper.readTree(result.getResponse().getContentAsString())) {
+            ids.add(customer.get("id").asText());
+        }
+        return ids;
+    }
+
+    /**
+     * Palavra aleatória só com letras, para não colidir com clientes de outros testes.
+     */
+    private String uniqueWord() {
+        StringBuilder word = new StringBuilder();
+        for (char c : UUID.randomUUID().toString().replace("-", "").substring(0, 10).toCharArray()) {
+            word.append((char) ('a' + Character.digit(c, 16)));
+        }
+        return word.toString();
+    }
+}
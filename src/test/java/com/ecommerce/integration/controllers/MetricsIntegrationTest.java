@@ -0,0 +1,64 @@
+package com.ecommerce.integration.controllers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("Metrics Integration Tests")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve expor métricas de use cases, repositórios e exceptions no formato Prometheus")
+    void shouldExposeLayerMetricsForPrometheus() throws Exception {
+        // Given
+        mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Produto %s","description":"Descrição","price":25.00,
+                                 "stockQuantity":5,"category":"Métricas"}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/products/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        assertThat(scrape)
+                .contains("usecase_execution_seconds_bucket{exception=\"none\",method=\"execute\","
+                        + "outcome=\"success\",usecase=\"CreateProductUseCase\"")
+                .contains("usecase_execution_seconds_count{exception=\"NotFoundException\",method=\"findById\","
+                        + "outcome=\"failure\",usecase=\"FindProductsUseCase\"")
+                .contains("repository_invocation_seconds_count{exception=\"none\",method=\"save\","
+                        + "outcome=\"success\",repository=\"ProductRepositoryImpl\"")
+                .contains("http_server_exceptions_total{exception=\"NotFoundException\",status=\"404\"")
+                .contains("single_flight_calls_total{resource=\"products\"")
+                .contains("cache_gets_total{cache=\"customers-by-id\",result=\"hit\"")
+                .contains("email_filter_checks_total")
+                .doesNotContain("method=\"findByIdCoalescingStats\"");
+    }
+}
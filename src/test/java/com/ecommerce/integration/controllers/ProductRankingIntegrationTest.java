@@ -0,0 +1,103 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.application.usecases.order.ConfirmOrderUseCase;
+import com.ecommerce.integration.IntegrationFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Product Ranking Integration Tests")
+class ProductRankingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Test
+    @DisplayName("Deve ranquear produtos adicionados e vendidos na janela")
+    void shouldRankAddedAndSoldProducts() throws Exception {
+        // Given: quantidades altas para que os produtos fiquem no topo do ranking
+        UUID bestSeller = fixtures.createProduct("Ranking", "10.00", 1000);
+        UUID abandoned = fixtures.createProduct("Ranking", "10.00", 1000);
+        UUID customerId = fixtures.registerCustomer("Lia", "Prado");
+
+        UUID confirmed = fixtures.createOrder(customerId, bestSeller, 900);
+        confirmOrderUseCase.execute(confirmed);
+        fixtures.createOrder(customerId, abandoned, 950);
+
+        // When
+        JsonNode sold = top("SOLD", "PT1H");
+        JsonNode added = top("ADDED", "P1D");
+
+        // Then
+        JsonNode soldRow = row(sold, bestSeller);
+        assertThat(soldRow.get("estimatedUnits").asLong()).isEqualTo(900);
+        assertThat(soldRow.get("guaranteedUnits").asLong()).isEqualTo(900);
+        assertThat(soldRow.get("rank").asInt()).isPositive();
+        assertThat(find(sold, abandoned)).isNull();
+
+        assertThat(row(added, abandoned).get("estimatedUnits").asLong()).isEqualTo(950);
+        assertThat(row(added, bestSeller).get("estimatedUnits").asLong()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar métrica, janela e limite inválidos")
+    void shouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/products/top").param("metric", "VIEWED"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/top").param("window", "P30D"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/top").param("window", "ontem"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/products/top").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode top(String metric, String window) throws Exception {
+        String body = mockMvc.perform(get("/products/top")
+                        .param("metric", metric)
+                        .param("window", window)
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode row(JsonNode rows, UUID productId) {
+        JsonNode row = find(rows, productId);
+        assertThat(row).as("ranking row for %s", productId).isNotNull();
+        return row;
+    }
+
+    private JsonNode find(JsonNode rows, UUID productId) {
+        for (JsonNode row : rows) {
+            if (row.get("productId").asText().equals(productId.toString())) {
+                return row;
+            }
+        }
+        return null;
+    }
+}
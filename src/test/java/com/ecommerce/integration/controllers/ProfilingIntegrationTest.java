@@ -0,0 +1,101 @@
+package com.ecommerce.integration.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Profiling Integration Tests")
+class ProfilingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Path dumpFile;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockMvc.perform(post("/admin/profiling/recording/stop"));
+        if (dumpFile != null) {
+            Files.deleteIfExists(dumpFile);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar eventos JFR de use cases com o endpoint de origem")
+    void shouldRecordUseCaseEvents() throws Exception {
+        // Given
+        mockMvc.perform(post("/admin/profiling/recording").param("settings", "default"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(post("/admin/profiling/recording"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name":"Produto %s","description":"Descrição","price":10.00,
+                                 "stockQuantity":3,"category":"Profiling"}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isCreated());
+
+        // When
+        mockMvc.perform(post("/admin/profiling/recording/stop"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("STOPPED"));
+        String dump = mockMvc.perform(post("/admin/profiling/recording/dump"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        dumpFile = Path.of(objectMapper.readTree(dump).get("file").asText());
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dumpFile).stream()
+                .filter(event -> event.getEventType().getName().equals("com.ecommerce.UseCaseExecution"))
+                .toList();
+        assertThat(events)
+                .filteredOn(event -> "CreateProductUseCase".equals(event.getString("useCase")))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getString("method")).isEqualTo("execute");
+                    assertThat(event.getString("endpoint")).isEqualTo("POST /products");
+                    assertThat(event.getString("outcome")).isEqualTo("success");
+                    assertThat(event.getLong("allocatedBytes")).isPositive();
+                    assertThat(event.getDuration()).isPositive();
+                });
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configurações de gravação desconhecidas")
+    void shouldRejectUnknownSettings() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/admin/profiling/recording").param("settings", "/etc/passwd"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/admin/profiling/recording/stop"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,212 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.application.usecases.order.CancelOrderUseCase;
+import com.ecommerce.application.usecases.order.ConfirmOrderUseCase;
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.integration.IntegrationFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Sales Analytics Integration Tests")
+class SalesAnalyticsIntegrationTest {
+
+    private static final String TODAY = LocalDate.now().toString();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private CancelOrderUseCase cancelOrderUseCase;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("Deve somar confirmações e descontar cancelamentos por dia, categoria e produto")
+    void shouldAggregateConfirmedOrders() throws Exception {
+        // Given: preços altos para que os produtos fiquem entre os de maior receita do dia
+        String category = "Analytics " + UUID.randomUUID();
+        String otherCategory = "Analytics " + UUID.randomUUID();
+        UUID productA = fixtures.createProduct(category, "1000.00");
+        UUID productB = fixtures.createProduct(category, "2500.00");
+        UUID productC = fixtures.createProduct(otherCategory, "1200.00");
+        UUID customerId = fixtures.registerCustomer("Paula", "Reis");
+        JsonNode dayBefore = today(report("/analytics/sales/daily"));
+
+        UUID first = createOrder(customerId, productA, 2, productB, 1);
+        UUID second = createOrder(customerId, productA, 1, productC, 3);
+        createOrder(customerId, productA, 5, productC, 1); // pendente: não conta
+
+        // When
+        confirmOrderUseCase.execute(first);
+        confirmOrderUseCase.execute(second);
+
+        // Then
+        JsonNode categoryRow = row(report("/analytics/sales/categories"), "category", category);
+        assertThat(categoryRow.get("orders").asLong()).isEqualTo(2);
+        assertThat(categoryRow.get("unitsSold").asLong()).isEqualTo(4);
+        assertThat(categoryRow.get("revenue").get("amount").decimalValue()).isEqualByComparingTo("5500.00");
+        assertThat(categoryRow.get("averageOrderValue").get("amount").decimalValue()).isEqualByComparingTo("2750.00");
+        assertThat(row(report("/analytics/sales/categories"), "category", otherCategory).get("unitsSold").asLong())
+                .isEqualTo(3);
+
+        JsonNode productRow = row(report("/analytics/sales/products"), "productId", productA.toString());
+        assertThat(productRow.get("orders").asLong()).isEqualTo(2);
+        assertThat(productRow.get("unitsSold").asLong()).isEqualTo(3);
+        assertThat(productRow.get("revenue").get("amount").decimalValue()).isEqualByComparingTo("3000.00");
+        assertThat(productRow.get("category").asText()).isEqualTo(category);
+
+        JsonNode dayAfter = today(report("/analytics/sales/daily"));
+        assertThat(dayAfter.get("orders").asLong() - orders(dayBefore)).isEqualTo(2);
+        assertThat(dayAfter.get("revenue").get("amount").decimalValue().subtract(revenue(dayBefore)))
+                .isEqualByComparingTo("9100.00");
+
+        // When
+        cancelOrderUseCase.execute(first);
+
+        // Then
+        categoryRow = row(report("/analytics/sales/categories"), "category", category);
+        assertThat(categoryRow.get("orders").asLong()).isEqualTo(1);
+        assertThat(categoryRow.get("unitsSold").asLong()).isEqualTo(1);
+        assertThat(categoryRow.get("revenue").get("amount").decimalValue()).isEqualByComparingTo("1000.00");
+        assertThat(find(report("/analytics/sales/products"), "productId", productB.toString())).isNull();
+        assertThat(today(report("/analytics/sales/daily")).get("orders").asLong() - orders(dayBefore)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve descontar o cancelamento de pedidos confirmados antes dos agregados existirem")
+    void shouldIgnoreCancellationOfUncountedOrders() throws Exception {
+        // Given: pedido confirmado direto no repositório, sem passar pelos agregados
+        String category = "Analytics " + UUID.randomUUID();
+        UUID product = fixtures.createProduct(category, "1300.00");
+        UUID otherProduct = fixtures.createProduct(category, "1400.00");
+        UUID customerId = fixtures.registerCustomer("Caio", "Prado");
+        UUID counted = createOrder(customerId, product, 1, otherProduct, 1);
+        confirmOrderUseCase.execute(counted);
+        Order legacy = orderRepository.findById(createOrder(customerId, product, 2, otherProduct, 2)).orElseThrow();
+        legacy.confirm();
+        orderRepository.save(legacy);
+
+        // When
+        cancelOrderUseCase.execute(legacy.getId());
+
+        // Then
+        JsonNode categoryRow = row(report("/analytics/sales/categories"), "category", category);
+        assertThat(categoryRow.get("orders").asLong()).isEqualTo(1);
+        assertThat(categoryRow.get("unitsSold").asLong()).isEqualTo(2);
+        assertThat(categoryRow.get("revenue").get("amount").decimalValue()).isEqualByComparingTo("2700.00");
+    }
+
+    @Test
+    @DisplayName("Deve calcular a partir dos pedidos os mesmos números das pré-agregações")
+    void shouldComputeReportFromOrders() throws Exception {
+        // Given
+        UUID product = fixtures.createProduct("Analytics " + UUID.randomUUID(), "1500.00");
+        UUID otherProduct = fixtures.createProduct("Analytics " + UUID.randomUUID(), "1100.00");
+        UUID customerId = fixtures.registerCustomer("Rui", "Lima");
+        confirmOrderUseCase.execute(createOrder(customerId, product, 2, otherProduct, 1));
+        confirmOrderUseCase.execute(createOrder(customerId, product, 1, otherProduct, 2));
+
+        // When
+        JsonNode reportRow = row(report("/analytics/sales/report?dimension=PRODUCT"), "key", product.toString());
+
+        // Then
+        JsonNode aggregatedRow = row(report("/analytics/sales/products"), "productId", product.toString());
+        assertThat(reportRow.get("orders").asLong()).isEqualTo(aggregatedRow.get("orders").asLong()).isEqualTo(2);
+        assertThat(reportRow.get("unitsSold").asLong()).isEqualTo(aggregatedRow.get("unitsSold").asLong()).isEqualTo(3);
+        assertThat(reportRow.get("revenue").get("amount").decimalValue())
+                .isEqualByComparingTo(aggregatedRow.get("revenue").get("amount").decimalValue())
+                .isEqualByComparingTo("4500.00");
+        assertThat(reportRow.get("label").asText()).isEqualTo(aggregatedRow.get("productName").asText());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar períodos inválidos")
+    void shouldRejectInvalidRanges() throws Exception {
+        mockMvc.perform(get("/analytics/sales/daily").param("from", "2024-02-10").param("to", "2024-02-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/analytics/sales/categories").param("from", "2022-01-01").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/analytics/sales/products").param("from", TODAY))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/analytics/sales/products").param("from", "10/02/2024").param("to", TODAY))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/analytics/sales/products").param("from", TODAY).param("to", TODAY)
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/analytics/sales/report").param("dimension", "COLOR").param("from", TODAY)
+                        .param("to", TODAY))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode report(String path) throws Exception {
+        String body = mockMvc.perform(get(path)
+                        .param("from", TODAY)
+                        .param("to", TODAY)
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode today(JsonNode days) {
+        return find(days, "date", TODAY);
+    }
+
+    private JsonNode row(JsonNode rows, String field, String value) {
+        JsonNode row = find(rows, field, value);
+        assertThat(row).as("row with %s = %s", field, value).isNotNull();
+        return row;
+    }
+
+    private JsonNode find(JsonNode rows, String field, String value) {
+        for (JsonNode row : rows) {
+            if (row.get(field).asText().equals(value)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private long orders(JsonNode day) {
+        return day == null ? 0 : day.get("orders").asLong();
+    }
+
+    private BigDecimal revenue(JsonNode day) {
+        return day == null ? BigDecimal.ZERO : day.get("revenue").get("amount").decimalValue();
+    }
+
+    private UUID createOrder(UUID customerId, UUID product, int quantity, UUID otherProduct, int otherQuantity) {
+        UUID orderId = fixtures.createOrder(customerId, product, quantity);
+        fixtures.addItem(orderId, otherProduct, otherQuantity);
+        return orderId;
+    }
+}
@@ -0,0 +1,105 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.integration.IntegrationFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("SQL Budget Integration Tests")
+class SqlBudgetIntegrationTest {
+
+    // Acima do limite de repetições do profile de teste (5)
+    private static final int ORDER_COUNT = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Test
+    @DisplayName("Deve listar pedidos com itens sem uma consulta por pedido")
+    void shouldListOrdersWithinBudget() throws Exception {
+        // Given
+        UUID customerId = fixtures.registerCustomer();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            fixtures.createOrder(customerId);
+        }
+
+        // When & Then
+        mockMvc.perform(get("/orders/customer/{customerId}", customerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ORDER_COUNT));
+    }
+
+    @Test
+    @DisplayName("Deve registrar métricas de SQL por endpoint")
+    void shouldRecordPerEndpointMetrics() throws Exception {
+        // Given: cadastro pela API, para que o POST também seja medido
+        String customerId = createCustomer();
+
+        // When
+        mockMvc.perform(get("/customers/{id}", customerId))
+                .andExpect(status().isOk());
+
+        // Then
+        DistributionSummary statements = meterRegistry.find("http.server.requests.sql.statements")
+                .tags("method", "GET", "uri", "/customers/{id}")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+        assertThat(meterRegistry.find("http.server.requests.sql.statements")
+                .tags("method", "POST", "uri", "/customers")
+                .summary()).isNotNull();
+
+        Timer time = meterRegistry.find("http.server.requests.sql.time")
+                .tags("uri", "/customers/{id}")
+                .timer();
+        assertThat(time).isNotNull();
+        assertThat(meterRegistry.find("http.server.requests.sql.entities")
+                .tags("uri", "/customers/{id}")
+                .summary()).isNotNull();
+    }
+
+    private String createCustomer() throws Exception {
+        MvcResult result = mockMvc.perform(post("/customers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"firstName":"Maria","lastName":"Souza","email":"%s@example.com","address":%s}
+                                """.formatted(UUID.randomUUID(), addressJson())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+    }
+
+    private String addressJson() {
+        return """
+                {"street":"Rua A","number":"10","neighborhood":"Centro","city":"São Paulo",
+                 "state":"SP","zipCode":"01000-000","country":"Brasil"}""";
+    }
+}
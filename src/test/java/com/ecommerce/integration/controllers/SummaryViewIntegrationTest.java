@@ -0,0 +1,111 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.integration.IntegrationFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Summary View Integration Tests")
+class SummaryViewIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Test
+    @DisplayName("Deve retornar resumo dos pedidos do cliente sem itens nem endereço")
+    void shouldReturnOrderSummariesByCustomer() throws Exception {
+        // Given
+        UUID customerId = fixtures.registerCustomer();
+        UUID orderId = fixtures.createOrder(customerId);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/orders/customer/{customerId}", customerId)
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        JsonNode summaries = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(summaries).hasSize(1);
+        JsonNode summary = summaries.get(0);
+        assertThat(summary.get("id").asText()).isEqualTo(orderId.toString());
+        assertThat(summary.get("customerId").asText()).isEqualTo(customerId.toString());
+        assertThat(summary.get("status").asText()).isEqualTo("PENDING");
+        assertThat(summary.get("statusDescription").asText()).isEqualTo("Pendente");
+        assertThat(summary.get("totalAmount").get("currency").asText()).isEqualTo("BRL");
+        assertThat(summary.has("createdAt")).isTrue();
+        assertThat(summary.has("items")).isFalse();
+        assertThat(summary.has("deliveryAddress")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve manter a visão completa quando view não é summary")
+    void shouldKeepFullViewByDefault() throws Exception {
+        // Given
+        UUID customerId = fixtures.registerCustomer();
+        fixtures.createOrder(customerId);
+
+        // When & Then
+        mockMvc.perform(get("/orders/customer/{customerId}/status/{status}", customerId, "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].items").isArray())
+                .andExpect(jsonPath("$[0].deliveryAddress").exists());
+
+        mockMvc.perform(get("/orders/customer/{customerId}/status/{status}", customerId, "PENDING")
+                        .param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PENDING"))
+                .andExpect(jsonPath("$[0].items").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 no resumo de pedidos de cliente inexistente")
+    void shouldReturnNotFoundForUnknownCustomerSummary() throws Exception {
+        mockMvc.perform(get("/orders/customer/{customerId}", UUID.randomUUID()).param("view", "summary"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumos de produtos por categoria e de clientes ativos")
+    void shouldReturnProductAndCustomerSummaries() throws Exception {
+        // Given
+        String category = "Summary " + UUID.randomUUID();
+        fixtures.createProduct(category, "15.50", 0);
+        UUID customerId = fixtures.registerCustomer();
+
+        // When & Then
+        mockMvc.perform(get("/products/category/{category}", category.toUpperCase()).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].price.amount").value(15.50))
+                .andExpect(jsonPath("$[0].available").value(false))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        mockMvc.perform(get("/customers").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == '%s')].fullName".formatted(customerId)).value("Maria Souza"))
+                .andExpect(jsonPath("$[0].address").doesNotExist());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.integration.controllers;
+
+import com.ecommerce.infrastructure.observability.InMemorySpanExporter;
+import com.ecommerce.infrastructure.observability.SpanData;
+import com.ecommerce.integration.IntegrationFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tracing Integration Tests")
+class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String CALLER_SPAN_ID = "00f067aa0ba902b7";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Test
+    @DisplayName("Deve continuar o trace do chamador com spans de cada camada")
+    void shouldCreateSpansForEachLayer() throws Exception {
+        // Given
+        UUID orderId = fixtures.createOrder(fixtures.registerCustomer());
+
+        // When
+        mockMvc.perform(get("/orders/{id}", orderId)
+                        .header("traceparent", "00-" + TRACE_ID + "-" + CALLER_SPAN_ID + "-01"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Trace-Id", TRACE_ID));
+
+        // Then
+        List<SpanData> spans = spanExporter.spansOf(TRACE_ID);
+        SpanData http = span(spans, "http", "GET /orders/{id}");
+        SpanData controller = span(spans, "controller", "OrderController.getOrderById");
+        SpanData useCase = span(spans, "usecase", "FindOrdersUseCase.findById");
+        SpanData repository = span(spans, "repository", "OrderRepositoryImpl.findById");
+        SpanData mapping = span(spans, "mapping", "OrderJpaEntity.toDomain");
+
+        assertThat(http.parentSpanId()).isEqualTo(CALLER_SPAN_ID);
+        assertThat(controller.parentSpanId()).isEqualTo(http.spanId());
+        assertThat(useCase.parentSpanId()).isEqualTo(controller.spanId());
+        assertThat(repository.parentSpanId()).isEqualTo(useCase.spanId());
+        assertThat(mapping.parentSpanId()).isEqualTo(repository.spanId());
+        assertThat(spans)
+                .filteredOn(span -> span.layer().equals("db"))
+                .isNotEmpty()
+                .allSatisfy(db -> assertThat(List.of(repository.spanId(), mapping.spanId()))
+                        .contains(db.parentSpanId()));
+        assertThat(http.durationNanos()).isGreaterThanOrEqualTo(controller.durationNanos());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a exceção no span da camada que falhou")
+    void shouldRecordErrorOnFailingSpan() throws Exception {
+        // When
+        String traceId = mockMvc.perform(get("/orders/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Trace-Id");
+
+        // Then
+        assertThat(traceId).matches("[0-9a-f]{32}");
+        List<SpanData> spans = spanExporter.spansOf(traceId);
+        assertThat(span(spans, "usecase", "FindOrdersUseCase.findById").error()).isEqualTo("NotFoundException");
+        assertThat(span(spans, "http", "GET /orders/{id}").error()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar a decisão de não amostrar do chamador")
+    void shouldNotExportUnsampledTrace() throws Exception {
+        // Given
+        String traceId = UUID.randomUUID().toString().replace("-", "");
+
+        // When
+        mockMvc.perform(get("/orders/{id}", UUID.randomUUID())
+                        .header("traceparent", "00-" + traceId + "-" + CALLER_SPAN_ID + "-00"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("X-Trace-Id", traceId));
+
+        // Then
+        assertThat(spanExporter.spansOf(traceId)).isEmpty();
+    }
+
+    private static SpanData span(List<SpanData> spans, String layer, String name) {
+        return spans.stream()
+                .filter(span -> span.layer().equals(layer) && span.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + layer + " span " + name + " in " + spans));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.integration.repositories;
+
+import com.ecommerce.domain.entities.Customer;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.infrastructure.adapters.repositories.CustomerRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Customer Repository Probe Integration Tests")
+class CustomerRepositoryProbeIntegrationTest {
+
+    @Autowired
+    private CustomerRepositoryImpl customerRepository;
+
+    @Test
+    @DisplayName("Deve verificar existência e status sem carregar o cliente")
+    void shouldProbeExistenceAndStatus() {
+        // Given
+        Customer active = customerRepository.save(createCustomer());
+        Customer inactive = createCustomer();
+        inactive.deactivate();
+        inactive = customerRepository.save(inactive);
+        UUID unknownId = UUID.randomUUID();
+
+        // When & Then
+        assertThat(customerRepository.existsById(active.getId())).isTrue();
+        assertThat(customerRepository.existsById(unknownId)).isFalse();
+        assertThat(customerRepository.findActiveStatusById(active.getId())).contains(true);
+        assertThat(customerRepository.findActiveStatusById(inactive.getId())).contains(false);
+        assertThat(customerRepository.findActiveStatusById(unknownId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve verificar vários clientes em uma única consulta")
+    void shouldProbeManyIdsAtOnce() {
+        // Given
+        Customer active = customerRepository.save(createCustomer());
+        Customer inactive = createCustomer();
+        inactive.deactivate();
+        inactive = customerRepository.save(inactive);
+        UUID unknownId = UUID.randomUUID();
+        List<UUID> ids = List.of(active.getId(), inactive.getId(), unknownId);
+
+        // When
+        Map<UUID, Boolean> statuses = customerRepository.findActiveStatusByIds(ids);
+
+        // Then
+        assertThat(statuses).containsOnly(
+                entry(active.getId(), true),
+                entry(inactive.getId(), false));
+        assertThat(customerRepository.findExistingIds(ids))
+                .containsExactlyInAnyOrder(active.getId(), inactive.getId());
+        assertThat(customerRepository.findActiveStatusByIds(List.of())).isEmpty();
+    }
+
+    private Customer createCustomer() {
+        return Customer.create("Maria", "Souza", Email.of(UUID.randomUUID() + "@example.com"), null,
+                Address.builder()
+                        .street("Rua das Flores")
+                        .number("123")
+                        .neighborhood("Centro")
+                        .city("São Paulo")
+                        .state("SP")
+                        .zipCode("01234-567")
+                        .country("Brasil")
+                        .build());
+    }
+}
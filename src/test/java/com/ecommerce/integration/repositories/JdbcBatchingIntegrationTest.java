@@ -0,0 +1,102 @@
+package com.ecommerce.integration.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.OrderRepositoryImpl;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter.StatementCounts;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// O profile prod exige DB_URL e só valida o schema; aqui ele usa um banco em memória próprio
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batching;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "prod"})
+@DisplayName("JDBC Batching Integration Tests")
+class JdbcBatchingIntegrationTest {
+
+    private static final int ITEM_COUNT = 12;
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Deve inserir os itens do pedido em um único lote")
+    void shouldBatchOrderItemInserts() {
+        // Given
+        Order order = Order.create(UUID.randomUUID(), createAddress());
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            order.addItem(OrderItem.create(UUID.randomUUID(), "Produto " + i,
+                    Money.ofBRL(new BigDecimal("10.00")), 1));
+        }
+
+        // When
+        statementCounter.begin();
+        Order saved = orderRepository.save(order);
+        StatementCounts counts = statementCounter.end();
+
+        // Then
+        assertThat(saved.getItems()).hasSize(ITEM_COUNT);
+        assertThat(counts.countStartingWith("insert into order_items")).isEqualTo(1);
+        assertThat(counts.countStartingWith("update order_items")).isLessThanOrEqualTo(1);
+        assertThat(counts.countStartingWith("select")).isLessThanOrEqualTo(1);
+        assertThat(orderRepository.findById(saved.getId()).orElseThrow().getItems()).hasSize(ITEM_COUNT);
+    }
+
+    @Test
+    @DisplayName("Deve expor métricas do pool e de statements por requisição")
+    void shouldExposePoolAndStatementMetrics() throws Exception {
+        // When
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+        DistributionSummary statements = meterRegistry.find("http.server.requests.sql.statements").summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+        assertThat(statements.totalAmount()).isPositive();
+    }
+
+    private Address createAddress() {
+        return Address.builder()
+                .street("Rua das Flores")
+                .number("123")
+                .neighborhood("Centro")
+                .city("São Paulo")
+                .state("SP")
+                .zipCode("01234-567")
+                .country("Brasil")
+                .build();
+    }
+}
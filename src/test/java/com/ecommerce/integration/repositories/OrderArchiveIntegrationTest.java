@@ -0,0 +1,199 @@
+package com.ecommerce.integration.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.ColumnarOrderArchive;
+import com.ecommerce.infrastructure.adapters.repositories.OrderArchiver;
+import com.ecommerce.infrastructure.adapters.repositories.OrderRepositoryImpl;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.ArchivedOrderJpaRepository;
+import com.ecommerce.infrastructure.adapters.repositories.jpa.OrderJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Order Archive Integration Tests")
+class OrderArchiveIntegrationTest {
+
+    // Anterior à retenção padrão (30 dias): nenhum outro teste cria pedidos tão antigos
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(90);
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+
+    @Autowired
+    private OrderArchiver archiver;
+
+    @Autowired
+    private OrderJpaRepository hotRepository;
+
+    @Autowired
+    private ArchivedOrderJpaRepository archiveRepository;
+
+    @Autowired
+    private ColumnarOrderArchive columnarArchive;
+
+    @Test
+    @DisplayName("Deve arquivar só pedidos finalizados antigos e continuar encontrando-os")
+    void shouldArchiveOldFinalOrdersTransparently() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Order delivered = orderRepository.save(order(customerId, OrderStatus.DELIVERED, OLD));
+        Order pending = orderRepository.save(order(customerId, OrderStatus.PENDING, OLD.plusDays(1)));
+        Order recent = orderRepository.save(order(customerId, OrderStatus.CANCELLED, LocalDateTime.now()));
+
+        // When
+        int archived = archiver.archive(LocalDateTime.now().minusDays(30));
+
+        // Then
+        assertThat(archived).isPositive();
+        assertThat(hotRepository.existsById(delivered.getId())).isFalse();
+        assertThat(archiveRepository.existsById(delivered.getId())).isTrue();
+        assertThat(hotRepository.existsById(pending.getId())).isTrue();
+        assertThat(hotRepository.existsById(recent.getId())).isTrue();
+
+        Order found = orderRepository.findById(delivered.getId()).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(found.getItems()).hasSize(2);
+        assertThat(found.getTotalAmount()).isEqualTo(delivered.getTotalAmount());
+
+        assertThat(orderRepository.findByCustomerId(customerId))
+                .extracting(Order::getId)
+                .containsExactly(recent.getId(), pending.getId(), delivered.getId());
+        assertThat(orderRepository.findSummariesByCustomerIdAndStatus(customerId, OrderStatus.DELIVERED))
+                .hasSize(1);
+        assertThat(orderRepository.countByCustomerId(customerId)).isEqualTo(3);
+        assertThat(orderRepository.findByCreatedAtBetween(OLD.minusDays(1), OLD.plusDays(2)))
+                .extracting(Order::getId)
+                .contains(delivered.getId(), pending.getId());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o arquivo só para períodos que alcançam o pedido arquivado mais recente")
+    void shouldTrackNewestArchivedCreationDate() {
+        // Given
+        orderRepository.save(order(UUID.randomUUID(), OrderStatus.DELIVERED, OLD));
+
+        // When
+        archiver.archive(LocalDateTime.now().minusDays(30));
+
+        // Then
+        assertThat(archiver.mayContainCreatedAfter(OLD)).isTrue();
+        assertThat(archiver.mayContainCreatedAfter(LocalDateTime.now().minusDays(45))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve remover pedidos arquivados")
+    void shouldDeleteArchivedOrder() {
+        // Given
+        Order cancelled = orderRepository.save(order(UUID.randomUUID(), OrderStatus.CANCELLED, OLD));
+        archiver.archive(LocalDateTime.now().minusDays(30));
+
+        // When
+        orderRepository.deleteById(cancelled.getId());
+
+        // Then
+        assertThat(orderRepository.findById(cancelled.getId())).isEmpty();
+        assertThat(archiveRepository.existsById(cancelled.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve mover o histórico mais antigo para o arquivo colunar e continuar encontrando-o")
+    void shouldCompactArchivedOrdersIntoColumnarSegments() {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Order delivered = orderRepository.save(order(customerId, OrderStatus.DELIVERED, OLD));
+        Order cancelled = orderRepository.save(order(customerId, OrderStatus.CANCELLED, OLD.plusHours(1)));
+        archiver.archive(LocalDateTime.now().minusDays(30));
+
+        // When
+        int compacted = archiver.compact(LocalDateTime.now().minusDays(60));
+
+        // Then
+        assertThat(compacted).isGreaterThanOrEqualTo(2);
+        assertThat(archiveRepository.existsById(delivered.getId())).isFalse();
+        assertThat(columnarArchive.segmentCount()).isPositive();
+
+        Order found = orderRepository.findById(delivered.getId()).orElseThrow();
+        assertThat(found.getItems()).hasSize(2);
+        assertThat(found.getTotalAmount()).isEqualTo(delivered.getTotalAmount());
+        assertThat(orderRepository.findByCustomerId(customerId))
+                .extracting(Order::getId)
+                .containsExactly(cancelled.getId(), delivered.getId());
+        assertThat(orderRepository.findSummariesByCustomerIdAndStatus(customerId, OrderStatus.CANCELLED))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.id()).isEqualTo(cancelled.getId()));
+        assertThat(orderRepository.findByCreatedAtBetween(OLD.minusMinutes(1), OLD.plusMinutes(1)))
+                .extracting(Order::getId)
+                .contains(delivered.getId())
+                .doesNotContain(cancelled.getId());
+
+        // When
+        orderRepository.deleteById(delivered.getId());
+
+        // Then
+        assertThat(orderRepository.findById(delivered.getId())).isEmpty();
+        assertThat(orderRepository.countByCustomerId(customerId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve publicar segmentos pendentes já commitados e descartar os demais na inicialização")
+    void shouldResolvePendingSegmentsOnStartup() {
+        // Given: um segmento cujos pedidos já saíram das tabelas (commit feito, queda antes de publicar)
+        Order committed = order(UUID.randomUUID(), OrderStatus.DELIVERED, OLD);
+        Path committedSegment = columnarArchive.write(List.of(committed));
+        // e um cujos pedidos continuam nas tabelas de arquivo (transação não concluída)
+        Order stillArchived = orderRepository.save(order(UUID.randomUUID(), OrderStatus.CANCELLED, OLD));
+        archiver.archive(LocalDateTime.now().minusDays(30));
+        Path uncommittedSegment = columnarArchive.write(
+                List.of(orderRepository.findById(stillArchived.getId()).orElseThrow()));
+
+        // When
+        archiver.loadArchiveState();
+
+        // Then
+        assertThat(columnarArchive.pendingSegments()).isEmpty();
+        assertThat(Files.exists(uncommittedSegment)).isFalse();
+        assertThat(Files.exists(committedSegment)).isFalse();
+        assertThat(orderRepository.findById(committed.getId())).isPresent();
+        assertThat(orderRepository.findByCustomerId(stillArchived.getCustomerId())).hasSize(1);
+    }
+
+    private Order order(UUID customerId, OrderStatus status, LocalDateTime createdAt) {
+        List<OrderItem> items = List.of(
+                OrderItem.create(UUID.randomUUID(), "Produto A", Money.ofBRL(new BigDecimal("10.00")), 2),
+                OrderItem.create(UUID.randomUUID(), "Produto B", Money.ofBRL(new BigDecimal("5.50")), 1));
+        Money total = items.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(Money.ofBRL(BigDecimal.ZERO), Money::add);
+        return Order.reconstruct(UUID.randomUUID(), customerId, items, createAddress(),
+                status, total, createdAt, createdAt);
+    }
+
+    private Address createAddress() {
+        return Address.builder()
+                .street("Rua das Flores")
+                .number("123")
+                .neighborhood("Centro")
+                .city("São Paulo")
+                .state("SP")
+                .zipCode("01234-567")
+                .country("Brasil")
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.integration.repositories;
+
+import com.ecommerce.config.PostgresTestDatabase;
+import com.ecommerce.domain.entities.Product;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.DatabaseVendor;
+import com.ecommerce.infrastructure.adapters.repositories.ProductRepositoryImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Roda contra um PostgreSQL real quando disponível (ver PostgresTestDatabase);
+ * caso contrário, contra o H2 em modo PostgreSQL, exercitando as consultas portáveis.
+ */
+@SpringBootTest
+@ActiveProfiles(resolver = PostgresTestDatabase.ProfilesResolver.class)
+@DisplayName("PostgreSQL Product Repository Integration Tests")
+class PostgresProductRepositoryIntegrationTest {
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.registerProperties(registry);
+    }
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private DatabaseVendor databaseVendor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve detectar o banco em uso")
+    void shouldDetectDatabaseVendor() {
+        assertThat(databaseVendor).isEqualTo(PostgresTestDatabase.isPostgres()
+                ? DatabaseVendor.POSTGRESQL
+                : DatabaseVendor.OTHER);
+    }
+
+    @Test
+    @DisplayName("Deve ajustar o estoque sem deixá-lo negativo")
+    void shouldAdjustStockAtomically() {
+        // Given
+        Product product = productRepository.save(createProduct(5));
+
+        // When & Then
+        assertThat(productRepository.adjustStock(product.getId(), -3)).contains(2);
+        assertThat(productRepository.adjustStock(product.getId(), -3)).isEmpty();
+        assertThat(productRepository.adjustStock(product.getId(), 4)).contains(6);
+        assertThat(productRepository.adjustStock(UUID.randomUUID(), 1)).isEmpty();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar um produto existente preservando a data de criação")
+    void shouldUpsertExistingProduct() {
+        // Given
+        Product product = productRepository.save(createProduct(5));
+        Product loaded = productRepository.findById(product.getId()).orElseThrow();
+
+        // When
+        loaded.updatePrice(Money.ofBRL(new BigDecimal("42.50")));
+        productRepository.save(loaded);
+
+        // Then
+        Product updated = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(updated.getPrice().getAmount()).isEqualByComparingTo("42.50");
+        assertThat(updated.getCreatedAt()).isEqualTo(loaded.getCreatedAt());
+        assertThat(productRepository.findAvailableProducts())
+                .extracting(Product::getId)
+                .contains(product.getId());
+    }
+
+    @Test
+    @DisplayName("Deve criar os índices parciais de produtos ativos")
+    void shouldCreatePartialIndexes() {
+        assumeTrue(PostgresTestDatabase.isPostgres(), "PostgreSQL not available");
+
+        // When
+        var definitions = jdbcTemplate.queryForList(
+                "SELECT indexdef FROM pg_indexes WHERE tablename = 'products'", String.class);
+
+        // Then
+        assertThat(definitions)
+                .anyMatch(definition -> definition.contains("idx_products_active_name")
+                        && definition.contains("WHERE (active = true)"));
+    }
+
+    private Product createProduct(int stock) {
+        return Product.create("Produto " + UUID.randomUUID(), "Descrição",
+                Money.ofBRL(new BigDecimal("10.00")), stock, "Postgres");
+    }
+}
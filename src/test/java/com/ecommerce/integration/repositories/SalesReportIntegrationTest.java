@@ -0,0 +1,125 @@
+package com.ecommerce.integration.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.projections.SalesReportDimension;
+import com.ecommerce.domain.projections.SalesReportRow;
+import com.ecommerce.domain.repositories.OrderRepository;
+import com.ecommerce.domain.repositories.SalesReportRepository;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.OrderArchiver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Sales Report Integration Tests")
+class SalesReportIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private SalesReportRepository salesReportRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderArchiver archiver;
+
+    @Test
+    @DisplayName("Deve calcular o relatório em trechos paralelos em todas as camadas do histórico")
+    void shouldComputeReportAcrossChunksAndArchiveTiers() {
+        // Given: um produto vendido em dias diferentes, inclusive em um pedido antigo arquivável
+        UUID productId = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+        save(customerId, OrderStatus.CONFIRMED, TODAY.atTime(10, 0), productId, 2);
+        save(customerId, OrderStatus.PREPARING, TODAY.minusDays(3).atTime(15, 30), productId, 1);
+        save(customerId, OrderStatus.DELIVERED, TODAY.minusDays(100).atTime(8, 0), productId, 4);
+        save(customerId, OrderStatus.PENDING, TODAY.atTime(11, 0), productId, 7);
+        save(customerId, OrderStatus.CANCELLED, TODAY.minusDays(2).atTime(9, 0), productId, 9);
+
+        // When & Then: pedidos nas tabelas quentes
+        assertProductSales(productId);
+
+        // When & Then: pedido antigo movido para orders_archive
+        archiver.archive(LocalDateTime.now().minusDays(30));
+        assertProductSales(productId);
+
+        // When & Then: pedido antigo movido para o arquivo colunar
+        archiver.compact(LocalDateTime.now().minusDays(60));
+        assertProductSales(productId);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por dia somente o período pedido")
+    void shouldGroupByDayWithinRange() {
+        // Given
+        UUID productId = UUID.randomUUID();
+        save(UUID.randomUUID(), OrderStatus.CONFIRMED, TODAY.minusDays(5).atTime(23, 59, 59), productId, 1);
+        save(UUID.randomUUID(), OrderStatus.CONFIRMED, TODAY.minusDays(4).atStartOfDay(), productId, 2);
+
+        // When
+        List<SalesReportRow> rows = salesReportRepository.computeSalesReport(
+                SalesReportDimension.DAY, TODAY.minusDays(5), TODAY.minusDays(4));
+
+        // Then
+        assertThat(rows).extracting(SalesReportRow::key)
+                .containsExactly(TODAY.minusDays(5).toString(), TODAY.minusDays(4).toString());
+        assertThat(salesReportRepository.computeSalesReport(
+                SalesReportDimension.PRODUCT, TODAY.minusDays(4), TODAY.minusDays(4)))
+                .filteredOn(row -> row.key().equals(productId.toString()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.units()).isEqualTo(2));
+    }
+
+    private void assertProductSales(UUID productId) {
+        List<SalesReportRow> rows = salesReportRepository.computeSalesReport(
+                SalesReportDimension.PRODUCT, TODAY.minusDays(120), TODAY);
+
+        assertThat(rows).filteredOn(row -> row.key().equals(productId.toString()))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(row.orders()).isEqualTo(3);
+                    assertThat(row.units()).isEqualTo(7);
+                    assertThat(row.revenue()).isEqualByComparingTo("87.50");
+                    assertThat(row.label()).isEqualTo("Produto do relatório");
+                });
+    }
+
+    private void save(UUID customerId, OrderStatus status, LocalDateTime createdAt, UUID productId, int quantity) {
+        List<OrderItem> items = List.of(
+                OrderItem.create(productId, "Produto do relatório", Money.ofBRL(new BigDecimal("12.50")), quantity),
+                OrderItem.create(UUID.randomUUID(), "Outro produto", Money.ofBRL(new BigDecimal("3.00")), 1));
+        Money total = items.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(Money.ofBRL(BigDecimal.ZERO), Money::add);
+        orderRepository.save(Order.reconstruct(UUID.randomUUID(), customerId, items, address(),
+                status, total, createdAt, createdAt));
+    }
+
+    private Address address() {
+        return Address.builder()
+                .street("Rua das Flores")
+                .number("123")
+                .neighborhood("Centro")
+                .city("São Paulo")
+                .state("SP")
+                .zipCode("01234-567")
+                .country("Brasil")
+                .build();
+    }
+}
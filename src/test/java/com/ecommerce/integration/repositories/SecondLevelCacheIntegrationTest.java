@@ -0,0 +1,173 @@
+package com.ecommerce.integration.repositories;
+
+import com.ecommerce.domain.entities.Customer;
+import com.ecommerce.domain.entities.Product;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.CustomerRepositoryImpl;
+import com.ecommerce.infrastructure.adapters.repositories.ProductRepositoryImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "l2cache"})
+// Banco próprio: o contexto com cache não compartilha tabelas com os demais testes
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE")
+@DisplayName("Second Level Cache Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private CustomerRepositoryImpl customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve servir produto do cache e refletir atualização e remoção")
+    void shouldServeProductFromCacheAndInvalidateOnWrites() {
+        // Given
+        Product product = productRepository.save(createProduct("Eletrônicos"));
+        long hitsBefore = regionHits("products");
+
+        // When
+        Product cached = productRepository.findById(product.getId()).orElseThrow();
+
+        // Then
+        assertThat(regionHits("products")).isGreaterThan(hitsBefore);
+        assertThat(cached.getPrice()).isEqualTo(product.getPrice());
+
+        // When
+        cached.updatePrice(Money.ofBRL(new BigDecimal("149.90")));
+        productRepository.save(cached);
+
+        // Then
+        assertThat(productRepository.findById(product.getId()))
+                .get()
+                .extracting(Product::getPrice)
+                .isEqualTo(Money.ofBRL(new BigDecimal("149.90")));
+
+        // When
+        productRepository.deleteById(product.getId());
+
+        // Then
+        assertThat(productRepository.findById(product.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a lista de categorias até a próxima escrita em produtos")
+    void shouldCacheCategoriesUntilProductsChange() {
+        // Given
+        productRepository.save(createProduct("Livros"));
+        productRepository.findAllCategories();
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        // When
+        productRepository.findAllCategories();
+
+        // Then
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(hitsBefore);
+
+        // When
+        String newCategory = "Categoria " + UUID.randomUUID();
+        productRepository.save(createProduct(newCategory));
+
+        // Then
+        assertThat(productRepository.findAllCategories()).contains("Livros", newCategory);
+    }
+
+    @Test
+    @DisplayName("Deve servir cliente do cache e refletir troca de email")
+    void shouldServeCustomerFromCacheAndInvalidateOnUpdate() {
+        // Given
+        Customer customer = customerRepository.save(createCustomer());
+        long hitsBefore = regionHits("customers");
+
+        // When
+        Customer cached = customerRepository.findById(customer.getId()).orElseThrow();
+
+        // Then
+        assertThat(regionHits("customers")).isGreaterThan(hitsBefore);
+
+        // When
+        Email newEmail = Email.of(UUID.randomUUID() + "@example.com");
+        cached.updateEmail(newEmail);
+        customerRepository.save(cached);
+
+        // Then
+        assertThat(customerRepository.findById(customer.getId()))
+                .get()
+                .extracting(Customer::getEmail)
+                .isEqualTo(newEmail);
+    }
+
+    @Test
+    @DisplayName("Deve expor estatísticas das regiões do cache")
+    void shouldExposeRegionStatistics() throws Exception {
+        // Given
+        Product product = productRepository.save(createProduct("Games"));
+        productRepository.findById(product.getId());
+
+        // When & Then
+        mockMvc.perform(get("/admin/cache/second-level"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.queryCacheEnabled").value(true))
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.regions[?(@.name == 'products')].hits").isNotEmpty());
+    }
+
+    private long regionHits(String region) {
+        return statistics.getCacheRegionStatistics(region).getHitCount();
+    }
+
+    private Product createProduct(String category) {
+        return Product.create("Produto " + UUID.randomUUID(), "Descrição do produto",
+                Money.ofBRL(new BigDecimal("99.90")), 10, category);
+    }
+
+    private Customer createCustomer() {
+        return Customer.create("Maria", "Souza", Email.of(UUID.randomUUID() + "@example.com"), null,
+                Address.builder()
+                        .street("Rua das Flores")
+                        .number("123")
+                        .neighborhood("Centro")
+                        .city("São Paulo")
+                        .state("SP")
+                        .zipCode("01234-567")
+                        .country("Brasil")
+                        .build());
+    }
+}
@@ -0,0 +1,224 @@
+package com.ecommerce.integration.usecases;
+
+import com.ecommerce.application.dto.CustomerOrderSummaryDTO;
+import com.ecommerce.application.dto.OrderDTO;
+import com.ecommerce.application.dto.OrderItemDTO;
+import com.ecommerce.application.dto.ProductSalesDTO;
+import com.ecommerce.application.exceptions.BusinessException;
+import com.ecommerce.application.exceptions.NotFoundException;
+import com.ecommerce.application.usecases.analytics.SalesAnalyticsUseCase;
+import com.ecommerce.application.usecases.order.CancelOrderUseCase;
+import com.ecommerce.application.usecases.order.ConfirmOrderUseCase;
+import com.ecommerce.application.usecases.order.FindOrdersUseCase;
+import com.ecommerce.application.usecases.order.RemoveItemFromOrderUseCase;
+import com.ecommerce.application.usecases.product.FindProductsUseCase;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.integration.IntegrationFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Executa adições, remoções, confirmações e cancelamentos aleatórios de várias threads
+ * sobre os mesmos produtos e pedidos e verifica, ao final, os invariantes de estoque:
+ * para cada produto, estoque + quantidades reservadas em pedidos não cancelados é igual
+ * ao estoque inicial, nenhum estoque fica negativo e o total de cada pedido é a soma dos itens.
+ * Também confere que os agregados de vendas de cada produto batem com os pedidos confirmados.
+ *
+ * Intensidade ajustável com -Dstress.threads e -Dstress.operations (por thread).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Order Stock Concurrency Integration Tests")
+class OrderStockConcurrencyIntegrationTest {
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 8);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("stress.operations", 40);
+    private static final int PRODUCTS = 6;
+    private static final int INITIAL_ORDERS = 8;
+    // Estoque baixo o bastante para que a falta de estoque também seja exercitada
+    private static final int INITIAL_STOCK = 40;
+
+    @Autowired
+    private IntegrationFixtures fixtures;
+
+    @Autowired
+    private FindProductsUseCase findProductsUseCase;
+
+    @Autowired
+    private FindOrdersUseCase findOrdersUseCase;
+
+    @Autowired
+    private RemoveItemFromOrderUseCase removeItemFromOrderUseCase;
+
+    @Autowired
+    private ConfirmOrderUseCase confirmOrderUseCase;
+
+    @Autowired
+    private CancelOrderUseCase cancelOrderUseCase;
+
+    @Autowired
+    private SalesAnalyticsUseCase salesAnalyticsUseCase;
+
+    @Test
+    @DisplayName("Deve preservar estoque e totais sob operações concorrentes")
+    void shouldPreserveStockInvariantsUnderConcurrency() throws Exception {
+        // Given
+        List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(fixtures.createProduct("Stress", "12.50", INITIAL_STOCK));
+        }
+        UUID customerId = fixtures.registerCustomer("Carlos", "Mendes");
+        // Novos pedidos são criados durante o teste, já que confirmados e cancelados não aceitam alterações
+        List<UUID> orderIds = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < INITIAL_ORDERS; i++) {
+            orderIds.add(fixtures.createOrder(customerId));
+        }
+
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        Queue<Throwable> lockFailures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        String outcome = randomOperation(customerId, productIds, orderIds, unexpected, lockFailures);
+                        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(unexpected).as("unexpected exceptions (outcomes: %s)", outcomes).isEmpty();
+        // Deadlock ou espera por bloqueio indica ordem de bloqueio errada entre pedido e estoque
+        assertThat(lockFailures).as("lock failures (outcomes: %s)", outcomes).isEmpty();
+        assertThat(outcomes.get("added")).as("successful additions (outcomes: %s)", outcomes).isNotNull();
+
+        List<OrderDTO> orders = orderIds.stream().map(findOrdersUseCase::findById).toList();
+        for (OrderDTO order : orders) {
+            BigDecimal itemsTotal = order.items().stream()
+                    .map(item -> item.totalPrice().amount())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(order.totalAmount().amount()).as("total of order %s", order.id()).isEqualByComparingTo(itemsTotal);
+            assertThat(order.items()).extracting(OrderItemDTO::productId).doesNotHaveDuplicates();
+        }
+        for (UUID productId : productIds) {
+            int stock = findProductsUseCase.findById(productId).stockQuantity();
+            int reserved = orders.stream()
+                    .filter(order -> order.status() != OrderStatus.CANCELLED)
+                    .flatMap(order -> order.items().stream())
+                    .filter(item -> item.productId().equals(productId))
+                    .mapToInt(OrderItemDTO::quantity)
+                    .sum();
+            assertThat(stock).as("stock of product %s", productId).isNotNegative();
+            assertThat(stock + reserved).as("stock + reserved of product %s", productId).isEqualTo(INITIAL_STOCK);
+        }
+
+        List<ProductSalesDTO> sales = salesAnalyticsUseCase.salesByProduct(
+                LocalDate.now().minusDays(1), LocalDate.now(), 100);
+        for (UUID productId : productIds) {
+            long sold = orders.stream()
+                    .filter(order -> order.status().countsAsSale())
+                    .flatMap(order -> order.items().stream())
+                    .filter(item -> item.productId().equals(productId))
+                    .mapToLong(OrderItemDTO::quantity)
+                    .sum();
+            long aggregated = sales.stream()
+                    .filter(row -> row.productId().equals(productId))
+                    .mapToLong(ProductSalesDTO::unitsSold)
+                    .sum();
+            assertThat(aggregated).as("units sold of product %s", productId).isEqualTo(sold);
+        }
+
+        CustomerOrderSummaryDTO summary = findOrdersUseCase.findCustomerSummary(customerId);
+        assertThat(summary.totalOrders()).as("orders in customer summary").isEqualTo(orders.size());
+        for (OrderStatus status : OrderStatus.values()) {
+            long count = orders.stream().filter(order -> order.status() == status).count();
+            assertThat(summary.ordersByStatus().get(status)).as("%s orders in customer summary", status).isEqualTo(count);
+        }
+        BigDecimal spent = orders.stream()
+                .filter(order -> order.status().countsAsSale())
+                .map(order -> order.totalAmount().amount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(summary.lifetimeSpend().amount()).as("customer lifetime spend").isEqualByComparingTo(spent);
+    }
+
+    private String randomOperation(UUID customerId, List<UUID> productIds, List<UUID> orderIds,
+                                   Queue<Throwable> unexpected, Queue<Throwable> lockFailures) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID orderId = orderIds.get(random.nextInt(orderIds.size()));
+        int dice = random.nextInt(100);
+        try {
+            if (dice < 8) {
+                orderIds.add(fixtures.createOrder(customerId));
+                return "created";
+            }
+            if (dice < 55) {
+                UUID productId = productIds.get(random.nextInt(productIds.size()));
+                fixtures.addItem(orderId, productId, 1 + random.nextInt(5));
+                return "added";
+            }
+            if (dice < 88) {
+                List<OrderItemDTO> items = findOrdersUseCase.findById(orderId).items();
+                if (items.isEmpty()) {
+                    return "nothing-to-remove";
+                }
+                removeItemFromOrderUseCase.execute(orderId, items.get(random.nextInt(items.size())).id());
+                return "removed";
+            }
+            if (dice < 94) {
+                confirmOrderUseCase.execute(orderId);
+                return "confirmed";
+            }
+            cancelOrderUseCase.execute(orderId);
+            return "cancelled";
+        } catch (NotFoundException e) {
+            // Item removido por outra thread entre a leitura e a remoção
+            return "not-found";
+        } catch (BusinessException e) {
+            return "rejected";
+        } catch (PessimisticLockingFailureException e) {
+            lockFailures.add(e);
+            return "lock-failure";
+        } catch (RuntimeException e) {
+            unexpected.add(e);
+            return "unexpected:" + e.getClass().getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.ecommerce.load;
+
+import com.ecommerce.EcommerceApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Carga de checkout ponta a ponta: cadastro → pedido → itens → confirmação/cancelamento,
+ * passando pelos controllers de clientes, produtos e pedidos em um servidor embarcado.
+ *
+ * Modelo aberto: os fluxos chegam a uma taxa fixa, independente de quanto o servidor
+ * demora a responder. A latência do fluxo é medida a partir do instante planejado de
+ * chegada, então a espera causada por um servidor lento entra nos percentis.
+ *
+ * Executar com: ./mvnw test -Pload-test -Dtest=CheckoutLoadTest
+ * Parâmetros (padrões entre parênteses):
+ *   -Dload.rate (20 fluxos/s)  -Dload.seconds (30)  -Dload.customers (200)  -Dload.products (100)
+ *   -Dload.register-ratio (0.2)  -Dload.cancel-ratio (0.1)  -Dload.max-items (3)  -Dload.max-in-flight (256)
+ */
+@Tag("load")
+@DisplayName("Checkout Load Test")
+class CheckoutLoadTest {
+
+    private static final double RATE = Double.parseDouble(System.getProperty("load.rate", "20"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private static final int CUSTOMERS = Integer.getInteger("load.customers", 200);
+    private static final int PRODUCTS = Integer.getInteger("load.products", 100);
+    private static final double REGISTER_RATIO = Double.parseDouble(System.getProperty("load.register-ratio", "0.2"));
+    private static final double CANCEL_RATIO = Double.parseDouble(System.getProperty("load.cancel-ratio", "0.1"));
+    private static final int MAX_ITEMS = Integer.getInteger("load.max-items", 3);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("load.max-in-flight", 256);
+
+    private static final String[] OPERATIONS = {
+            "register", "create-order", "view-product", "add-item", "confirm", "cancel"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Threads do HttpClient; o cliente não as encerra sozinho
+    private final ExecutorService httpExecutor = Executors.newFixedThreadPool(16);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(httpExecutor)
+            .build();
+
+    @AfterEach
+    void shutdownHttpExecutor() {
+        httpExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve sustentar a taxa de checkouts sem erros de servidor")
+    void shouldSustainCheckoutArrivalRate() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EcommerceApiApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "app.tracing.exporter=none",
+                        "logging.level.com.ecommerce=INFO",
+                        "logging.level.org.springframework.web=INFO",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO")
+                .run()) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+
+            // Given
+            List<String> customerIds = new ArrayList<>();
+            for (int i = 0; i < CUSTOMERS; i++) {
+                customerIds.add(registerCustomer(baseUrl, new Stats()));
+            }
+            List<String> productIds = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                productIds.add(createProduct(baseUrl, i));
+            }
+            Workload workload = new Workload(baseUrl, customerIds, productIds);
+
+            // Aquecimento para JIT e pool de conexões
+            run(workload, Duration.ofSeconds(Math.min(5, DURATION.toSeconds())));
+
+            // When
+            Run run = run(workload, DURATION);
+
+            // Then
+            System.out.printf("checkout load: rate=%.1f flows/s, duration=%s, customers=%d, products=%d%n",
+                    RATE, DURATION, CUSTOMERS, PRODUCTS);
+            run.reports().values().forEach(System.out::println);
+            System.out.println("dropped (client saturated) = " + run.dropped());
+
+            LoadReport checkout = run.reports().get("checkout");
+            assertThat(checkout.requests()).isPositive();
+            assertThat(run.dropped()).isZero();
+            assertThat(run.reports().values())
+                    .flatMap(report -> report.errorBreakdown().keySet())
+                    .noneMatch(key -> key.startsWith("5"));
+        }
+    }
+
+    private Run run(Workload workload, Duration duration) throws InterruptedException {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        stats.put("checkout", new Stats());
+        for (String operation : OPERATIONS) {
+            stats.put(operation, new Stats());
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / RATE);
+        long arrivals = duration.toNanos() / intervalNanos;
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        LongAdder dropped = new LongAdder();
+        ExecutorService workers = Executors.newCachedThreadPool();
+
+        long start = System.nanoTime();
+        try {
+            for (long i = 0; i < arrivals; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                // Sem espera por vaga: com o cliente saturado a chegada é descartada e contada
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                workers.execute(() -> {
+                    try {
+                        checkout(workload, stats, intendedStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, LoadReport> reports = new LinkedHashMap<>();
+        stats.forEach((name, operation) -> reports.put(name, operation.report(name, elapsed)));
+        return new Run(reports, dropped.sum());
+    }
+
+    private void checkout(Workload workload, Map<String, Stats> stats, long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Stats checkout = stats.get("checkout");
+        try {
+            String customerId = random.nextDouble() < REGISTER_RATIO
+                    ? registerCustomer(workload.baseUrl(), stats.get("register"))
+                    : workload.customerIds().get(random.nextInt(workload.customerIds().size()));
+
+            String orderId = id(send(stats.get("create-order"), "POST", workload.baseUrl() + "/orders", """
+                    {"customerId":"%s","deliveryAddress":%s}""".formatted(customerId, addressJson()), 201));
+
+            // Produtos distintos: repetir um produto no pedido é rejeitado pela regra de negócio
+            int products = workload.productIds().size();
+            int items = 1 + random.nextInt(Math.min(MAX_ITEMS, products));
+            int first = random.nextInt(products);
+            for (int i = 0; i < items; i++) {
+                String productId = workload.productIds().get((first + i) % products);
+                send(stats.get("view-product"), "GET", workload.baseUrl() + "/products/" + productId, null, 200);
+                send(stats.get("add-item"), "POST", workload.baseUrl() + "/orders/" + orderId + "/items", """
+                        {"productId":"%s","quantity":%d}""".formatted(productId, 1 + random.nextInt(2)), 200);
+            }
+
+            send(stats.get("confirm"), "PUT", workload.baseUrl() + "/orders/" + orderId + "/confirm", null, 200);
+            if (random.nextDouble() < CANCEL_RATIO) {
+                send(stats.get("cancel"), "PUT", workload.baseUrl() + "/orders/" + orderId + "/cancel", null, 200);
+            }
+            checkout.record(System.nanoTime() - intendedStart);
+        } catch (FlowFailure e) {
+            checkout.error(e.getMessage());
+        }
+    }
+
+    private String registerCustomer(String baseUrl, Stats stats) {
+        return id(send(stats, "POST", baseUrl + "/customers", """
+                {"firstName":"Carga","lastName":"Teste","email":"%s@load.example.com","address":%s}"""
+                .formatted(UUID.randomUUID(), addressJson()), 201));
+    }
+
+    private String createProduct(String baseUrl, int index) {
+        return id(send(new Stats(), "POST", baseUrl + "/products", """
+                {"name":"Checkout Product %d","description":"Produto de carga","price":%d.90,
+                 "stockQuantity":1000000,"category":"Load"}""".formatted(index, 10 + index % 90), 201));
+    }
+
+    /**
+     * Envia a requisição e registra a latência; qualquer status diferente do esperado
+     * interrompe o fluxo e é contado como erro da operação.
+     */
+    private String send(Stats stats, String method, String url, String body, int expectedStatus) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30));
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long begin = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.record(System.nanoTime() - begin);
+            if (response.statusCode() != expectedStatus) {
+                String key = String.valueOf(response.statusCode());
+                stats.error(key);
+                throw new FlowFailure(key);
+            }
+            return response.body();
+        } catch (FlowFailure e) {
+            throw e;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            String key = e.getClass().getSimpleName();
+            stats.error(key);
+            throw new FlowFailure(key);
+        }
+    }
+
+    private String id(String json) {
+        try {
+            return objectMapper.readTree(json).get("id").asText();
+        } catch (Exception e) {
+            throw new FlowFailure("unparseable-response");
+        }
+    }
+
+    private static String addressJson() {
+        return """
+                {"street":"Rua Carga","number":"1","neighborhood":"Centro","city":"São Paulo",\
+                "state":"SP","zipCode":"01000-000","country":"Brasil"}""";
+    }
+
+    /**
+     * Latências e erros de uma operação, compartilhados entre os workers.
+     */
+    private static final class Stats {
+
+        private final LatencyRecorder latencies = new LatencyRecorder();
+        private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        synchronized void record(long nanos) {
+            latencies.record(nanos);
+        }
+
+        void error(String key) {
+            errors.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+
+        synchronized LoadReport report(String name, Duration elapsed) {
+            Map<String, Long> errorCounts = new LinkedHashMap<>();
+            errors.forEach((key, value) -> errorCounts.put(key, value.sum()));
+            return LoadReport.of(name, latencies, elapsed, errorCounts);
+        }
+    }
+
+    private static final class FlowFailure extends RuntimeException {
+        FlowFailure(String key) {
+            super(key, null, false, false);
+        }
+    }
+
+    private record Workload(String baseUrl, List<String> customerIds, List<String> productIds) {}
+
+    private record Run(Map<String, LoadReport> reports, long dropped) {}
+}
@@ -0,0 +1,190 @@
+package com.ecommerce.load;
+
+import com.ecommerce.EcommerceApiApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara throughput e p99 entre platform threads e virtual threads.
+ *
+ * Executar com: ./mvnw test -Pload-test -Dtest=ExecutionModeLoadTest
+ * Parâmetros: -Dload.concurrency=200 -Dload.seconds=10
+ * O cenário com virtual threads só roda em Java 21+.
+ */
+@Tag("load")
+@DisplayName("Execution Mode Load Test")
+class ExecutionModeLoadTest {
+
+    private static final int PRODUCTS = 20;
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 10));
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    // Threads do HttpClient; o cliente não as encerra sozinho
+    private final ExecutorService httpExecutor = Executors.newFixedThreadPool(16);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(httpExecutor)
+            .build();
+
+    @AfterEach
+    void shutdownHttpExecutor() {
+        httpExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve comparar throughput e p99 entre platform e virtual threads")
+    void shouldCompareExecutionModes() throws Exception {
+        // Given / When
+        LoadReport platform = runScenario("platform", false);
+        System.out.println(platform);
+
+        // Then
+        assertThat(platform.errors()).isZero();
+        assertThat(platform.requests()).isPositive();
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("virtual      skipped (requires Java 21+, running on Java " + Runtime.version().feature() + ")");
+            return;
+        }
+
+        LoadReport virtual = runScenario("virtual", true);
+        System.out.println(virtual);
+        System.out.printf("throughput ratio virtual/platform=%.2f, p99 ratio virtual/platform=%.2f%n",
+                virtual.throughputPerSecond() / platform.throughputPerSecond(),
+                virtual.p99Millis() / Math.max(platform.p99Millis(), 0.001));
+
+        // Rejeições do bulkhead (503) são esperadas sob saturação; outros erros não
+        assertThat(virtual.errorBreakdown().keySet()).allMatch(key -> key.equals("503"));
+    }
+
+    private LoadReport runScenario(String name, boolean virtualThreads) throws Exception {
+        String profiles = virtualThreads ? "test,virtual-threads" : "test";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EcommerceApiApplication.class)
+                .profiles(profiles.split(","))
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.ecommerce=INFO",
+                        "logging.level.org.springframework.web=INFO",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO")
+                .run()) {
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            List<String> productIds = seedProducts(baseUrl);
+
+            // Aquecimento para JIT e pool de conexões
+            drive(baseUrl, productIds, Duration.ofSeconds(2));
+
+            long start = System.nanoTime();
+            Result result = drive(baseUrl, productIds, DURATION);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            return LoadReport.of(name, result.latencies(), elapsed, result.errors());
+        }
+    }
+
+    private Result drive(String baseUrl, List<String> productIds, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(workers.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        String path = random.nextInt(10) == 0
+                                ? "/products"
+                                : "/products/" + productIds.get(random.nextInt(productIds.size()));
+
+                        long begin = System.nanoTime();
+                        String outcome = get(baseUrl + path);
+                        recorder.record(System.nanoTime() - begin);
+
+                        if (outcome != null) {
+                            errors.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+
+            LatencyRecorder total = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                total.merge(future.get());
+            }
+
+            Map<String, Long> errorCounts = new ConcurrentHashMap<>();
+            errors.forEach((key, value) -> errorCounts.put(key, value.sum()));
+            return new Result(total, errorCounts);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Retorna null em caso de sucesso ou a chave do erro (status HTTP ou tipo da exception).
+     */
+    private String get(String url) {
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200 ? null : String.valueOf(response.statusCode());
+        } catch (Exception e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    private List<String> seedProducts(String baseUrl) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            String body = String.format(
+                    "{\"name\":\"Load Product %d\",\"description\":\"Produto de carga\",\"price\":%d.90," +
+                            "\"stockQuantity\":1000,\"category\":\"Load\"}", i, 10 + i);
+
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/products"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            assertThat(response.statusCode()).isEqualTo(201);
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            assertThat(matcher.find()).isTrue();
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private record Result(LatencyRecorder latencies, Map<String, Long> errors) {}
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.load;
+
+import java.util.Arrays;
+
+/**
+ * Acumula latências (em nanos) de um único worker e calcula percentis.
+ * Não é thread-safe: cada worker usa o seu e os resultados são combinados com merge.
+ */
+public class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    public int count() {
+        return size;
+    }
+
+    /**
+     * Retorna o percentil (0-100) em milissegundos.
+     */
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))] / 1_000_000.0;
+    }
+}
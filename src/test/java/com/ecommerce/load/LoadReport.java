@@ -0,0 +1,46 @@
+package com.ecommerce.load;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado de um cenário de carga: throughput, percentis de latência e erros por tipo.
+ */
+public record LoadReport(
+        String scenario,
+        long requests,
+        long errors,
+        Duration elapsed,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        Map<String, Long> errorBreakdown
+) {
+
+    public static LoadReport of(String scenario, LatencyRecorder latencies, Duration elapsed,
+                                Map<String, Long> errorBreakdown) {
+        long errors = errorBreakdown.values().stream().mapToLong(Long::longValue).sum();
+        return new LoadReport(
+                scenario,
+                latencies.count(),
+                errors,
+                elapsed,
+                latencies.percentileMillis(50),
+                latencies.percentileMillis(95),
+                latencies.percentileMillis(99),
+                new TreeMap<>(errorBreakdown)
+        );
+    }
+
+    public double throughputPerSecond() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? requests / seconds : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-12s requests=%d errors=%d throughput=%.1f req/s p50=%.2fms p95=%.2fms p99=%.2fms errors=%s",
+                scenario, requests, errors, throughputPerSecond(), p50Millis, p95Millis, p99Millis, errorBreakdown);
+    }
+}
@@ -0,0 +1,151 @@
+package com.ecommerce.unit.application.concurrency;
+
+import com.ecommerce.application.concurrency.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    @DisplayName("Deve agrupar chamadas simultâneas para a mesma chave em uma execução")
+    void shouldCoalesceConcurrentCallsForSameKey() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight<String, String>();
+        var loaderCalls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            // When
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("sku-1", () -> {
+                    loaderCalls.incrementAndGet();
+                    await(release);
+                    return "product";
+                })));
+            }
+            waitUntilCoalesced(singleFlight, CALLERS - 1);
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product");
+            }
+            assertThat(loaderCalls.get()).isEqualTo(1);
+            assertThat(singleFlight.stats().calls()).isEqualTo(CALLERS);
+            assertThat(singleFlight.stats().executions()).isEqualTo(1);
+            assertThat(singleFlight.stats().coalesced()).isEqualTo(CALLERS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve propagar a mesma exception para todas as chamadas agrupadas")
+    void shouldPropagateExceptionToAllCoalescedCalls() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight<String, String>();
+        var release = new CountDownLatch(1);
+        var failure = new IllegalStateException("not found");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute("sku-1", () -> {
+                await(release);
+                throw failure;
+            }));
+            waitUntilStarted(singleFlight);
+            Future<String> follower = executor.submit(() -> singleFlight.execute("sku-1", () -> "unused"));
+            waitUntilCoalesced(singleFlight, 1);
+            release.countDown();
+
+            // Then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve guardar resultado após a execução terminar")
+    void shouldNotCacheCompletedResults() {
+        // Given
+        var singleFlight = new SingleFlight<String, Integer>();
+        var loaderCalls = new AtomicInteger();
+
+        // When
+        singleFlight.execute("sku-1", loaderCalls::incrementAndGet);
+        int second = singleFlight.execute("sku-1", loaderCalls::incrementAndGet);
+
+        // Then
+        assertThat(second).isEqualTo(2);
+        assertThat(singleFlight.stats().executions()).isEqualTo(2);
+        assertThat(singleFlight.stats().coalesced()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve agrupar chamadas para chaves diferentes")
+    void shouldNotCoalesceDifferentKeys() throws Exception {
+        // Given
+        var singleFlight = new SingleFlight<String, String>();
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> first = executor.submit(() -> singleFlight.execute("sku-1", () -> {
+                await(release);
+                return "first";
+            }));
+            waitUntilStarted(singleFlight);
+            String second = singleFlight.execute("sku-2", () -> "second");
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+            assertThat(second).isEqualTo("second");
+            assertThat(singleFlight.stats().executions()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntilStarted(SingleFlight<?, ?> singleFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.stats().executions() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void waitUntilCoalesced(SingleFlight<?, ?> singleFlight, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.stats().coalesced() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ecommerce.unit.domain.valueobjects;
+
+import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.domain.valueobjects.EmailInterner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Email Validation Equivalence Tests")
+class EmailValidationEquivalenceTest {
+
+    // Validação original do Email, usada como referência
+    private static final Pattern LEGACY_PATTERN =
+            Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+
+    // Caracteres relevantes para o formato, incluindo maiúsculas, espaços, controle e não ASCII
+    private static final String ALPHABET = "abcxyzABZ09._%+-@@..  \t\n#!çÇéKİı";
+
+    private static final long SEED = 20240611L;
+
+    @Test
+    @DisplayName("Deve aceitar e rejeitar exatamente as mesmas strings aleatórias que a regex")
+    void shouldMatchLegacyRegexOnRandomStrings() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < 200_000; i++) {
+            assertEquivalent(randomString(random, random.nextInt(16)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aceitar e rejeitar exatamente as mesmas strings com formato de email que a regex")
+    void shouldMatchLegacyRegexOnEmailShapedStrings() {
+        Random random = new Random(SEED + 1);
+        for (int i = 0; i < 200_000; i++) {
+            String candidate = randomString(random, random.nextInt(6))
+                    + "@" + randomString(random, random.nextInt(6))
+                    + "." + randomString(random, random.nextInt(4));
+            assertEquivalent(random.nextBoolean() ? candidate : " " + candidate.toUpperCase() + " ");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a@b.co", "a@..co", "a@.co", "a@b.c", "a@b.c1", "@b.co", "a@b@c.co",
+            "a@b-.co", "a.@b.co", "a@b.co.", "a@b.co.u", "A@B.CO", "K@b.co", "a@İb.co"})
+    @DisplayName("Deve tratar casos de borda como a regex")
+    void shouldMatchLegacyRegexOnEdgeCases(String candidate) {
+        assertEquivalent(candidate);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a string de entrada quando ela já está normalizada")
+    void shouldNotCopyNormalizedInput() {
+        String input = "maria@example.com";
+
+        assertThat(Email.of(input).getValue()).isSameAs(input);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância para emails internados")
+    void shouldInternHotEmails() {
+        EmailInterner interner = new EmailInterner(16);
+
+        Email first = interner.intern("maria@example.com");
+        Email second = interner.intern(new String("maria@example.com"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(interner.intern("joao@example.com")).isEqualTo(Email.of("joao@example.com"));
+        assertThat(interner.capacity()).isEqualTo(16);
+    }
+
+    private void assertEquivalent(String candidate) {
+        boolean legacyValid = !candidate.trim().isEmpty()
+                && LEGACY_PATTERN.matcher(candidate.trim().toLowerCase()).matches();
+
+        Email email = null;
+        try {
+            email = Email.of(candidate);
+        } catch (IllegalArgumentException e) {
+            // inválido
+        }
+
+        assertThat(email != null)
+                .as("validation of [%s]", candidate)
+                .isEqualTo(legacyValid);
+        if (email != null) {
+            assertThat(email.getValue()).isEqualTo(candidate.trim().toLowerCase());
+        }
+    }
+
+    private String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
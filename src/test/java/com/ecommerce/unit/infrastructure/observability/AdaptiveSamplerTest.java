@@ -0,0 +1,60 @@
+package com.ecommerce.unit.infrastructure.observability;
+
+import com.ecommerce.infrastructure.observability.AdaptiveSampler;
+import com.ecommerce.infrastructure.observability.TraceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AdaptiveSampler Tests")
+class AdaptiveSamplerTest {
+
+    @Test
+    @DisplayName("Deve amostrar até o limite por segundo e renovar a cada segundo")
+    void shouldSampleUpToRatePerSecond() {
+        // Given
+        AtomicLong now = new AtomicLong(10_000);
+        AdaptiveSampler sampler = new AdaptiveSampler(3, 0.0, now::get);
+
+        // When
+        long firstSecond = IntStream.range(0, 100).filter(i -> sampler.sample()).count();
+        now.addAndGet(1_000);
+        long nextSecond = IntStream.range(0, 100).filter(i -> sampler.sample()).count();
+
+        // Then
+        assertThat(firstSecond).isEqualTo(3);
+        assertThat(nextSecond).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve amostrar toda requisição quando a fração é 1")
+    void shouldSampleEverythingWithFullRatio() {
+        // Given
+        AdaptiveSampler sampler = new AdaptiveSampler(0, 1.0, () -> 0L);
+
+        // When & Then
+        assertThat(IntStream.range(0, 50).allMatch(i -> sampler.sample())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve ler e escrever o header traceparent")
+    void shouldParseTraceparent() {
+        // Given
+        String header = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        // When
+        TraceContext context = TraceContext.parse(header);
+
+        // Then
+        assertThat(context.traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(context.spanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(context.sampled()).isTrue();
+        assertThat(context.toTraceparent()).isEqualTo(header);
+        assertThat(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parse("invalid")).isNull();
+    }
+}
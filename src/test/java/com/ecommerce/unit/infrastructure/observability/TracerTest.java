@@ -0,0 +1,50 @@
+package com.ecommerce.unit.infrastructure.observability;
+
+import com.ecommerce.infrastructure.observability.AdaptiveSampler;
+import com.ecommerce.infrastructure.observability.InMemorySpanExporter;
+import com.ecommerce.infrastructure.observability.SpanExporter;
+import com.ecommerce.infrastructure.observability.Tracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Tracer Tests")
+class TracerTest {
+
+    private static final String SAMPLED_PARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Test
+    @DisplayName("Não deve amostrar traces sem exportador, nem quando o chamador pede")
+    void shouldNotSampleWithoutExporter() {
+        // Given
+        Tracer tracer = new Tracer(new AdaptiveSampler(100, 1.0), SpanExporter.NONE);
+
+        // When
+        Tracer.ActiveSpan local = tracer.startTrace("GET /products", null);
+        Tracer.ActiveSpan child = tracer.startSpan("controller", "list");
+        local.end();
+        Tracer.ActiveSpan propagated = tracer.startTrace("GET /products", SAMPLED_PARENT);
+        propagated.end();
+
+        // Then
+        assertThat(local.isSampled()).isFalse();
+        assertThat(child).isNull();
+        assertThat(propagated.isSampled()).isFalse();
+        assertThat(propagated.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    @DisplayName("Deve amostrar traces quando há exportador")
+    void shouldSampleWithExporter() {
+        // Given
+        Tracer tracer = new Tracer(new AdaptiveSampler(100, 1.0), new InMemorySpanExporter(10));
+
+        // When
+        Tracer.ActiveSpan span = tracer.startTrace("GET /products", null);
+        span.end();
+
+        // Then
+        assertThat(span.isSampled()).isTrue();
+    }
+}
@@ -0,0 +1,236 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.domain.entities.Customer;
+import com.ecommerce.domain.repositories.CustomerRepository;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.infrastructure.adapters.repositories.CachingCustomerRepository;
+import com.ecommerce.infrastructure.adapters.repositories.CustomerRepositoryImpl;
+import com.ecommerce.infrastructure.adapters.repositories.EmailBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingCustomerRepository Tests")
+class CachingCustomerRepositoryTest {
+
+    private CustomerRepository delegate;
+    private CachingCustomerRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CustomerRepository.class);
+        // Filtro nunca reconstruído: todas as checagens de email vão ao delegate
+        EmailBloomFilter emailFilter = new EmailBloomFilter(mock(CustomerRepositoryImpl.class), 1000, 0.01);
+        repository = new CachingCustomerRepository(delegate, emailFilter, 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco uma única vez para o mesmo ID")
+    void shouldLoadCustomerOnceById() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        when(delegate.findById(customer.getId())).thenReturn(Optional.of(customer));
+
+        // When
+        Optional<Customer> first = repository.findById(customer.getId());
+        Optional<Customer> second = repository.findById(customer.getId());
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getEmail()).isEqualTo(customer.getEmail());
+        verify(delegate, times(1)).findById(customer.getId());
+    }
+
+    @Test
+    @DisplayName("Deve devolver cópias para que alterações não contaminem o cache")
+    void shouldReturnDefensiveCopies() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        when(delegate.findById(customer.getId())).thenReturn(Optional.of(customer));
+
+        // When
+        repository.findById(customer.getId()).orElseThrow().deactivate();
+
+        // Then
+        assertThat(repository.findById(customer.getId()).orElseThrow().isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve guardar em cache IDs inexistentes")
+    void shouldCacheUnknownIds() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        when(delegate.findById(unknownId)).thenReturn(Optional.empty());
+
+        // When
+        repository.findById(unknownId);
+        Optional<Customer> result = repository.findById(unknownId);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(delegate, times(1)).findById(unknownId);
+    }
+
+    @Test
+    @DisplayName("Deve responder status pelo cache e consultar o banco só para IDs ausentes")
+    void shouldAnswerStatusProbesFromCache() {
+        // Given
+        Customer cached = createCustomer("maria@example.com");
+        UUID uncachedId = UUID.randomUUID();
+        when(delegate.findById(cached.getId())).thenReturn(Optional.of(cached));
+        when(delegate.findActiveStatusByIds(Set.of(uncachedId))).thenReturn(Map.of(uncachedId, false));
+        repository.findById(cached.getId());
+
+        // When
+        Optional<Boolean> status = repository.findActiveStatusById(cached.getId());
+        Map<UUID, Boolean> statuses = repository.findActiveStatusByIds(List.of(cached.getId(), uncachedId));
+
+        // Then
+        assertThat(status).contains(true);
+        assertThat(statuses).containsOnly(entry(cached.getId(), true), entry(uncachedId, false));
+        verify(delegate, never()).findActiveStatusById(any());
+    }
+
+    @Test
+    @DisplayName("Deve guardar em cache as respostas das consultas de status, inclusive negativas")
+    void shouldCacheStatusProbeAnswers() {
+        // Given
+        UUID activeId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        UUID batchId = UUID.randomUUID();
+        when(delegate.findActiveStatusById(activeId)).thenReturn(Optional.of(true));
+        when(delegate.findActiveStatusById(unknownId)).thenReturn(Optional.empty());
+        when(delegate.findActiveStatusByIds(Set.of(batchId))).thenReturn(Map.of(batchId, true));
+
+        // When
+        repository.existsById(activeId);
+        repository.existsById(unknownId);
+        repository.findActiveStatusByIds(List.of(batchId));
+        boolean active = repository.existsById(activeId);
+        boolean unknown = repository.existsById(unknownId);
+        Map<UUID, Boolean> statuses = repository.findActiveStatusByIds(List.of(batchId, activeId, unknownId));
+
+        // Then
+        assertThat(active).isTrue();
+        assertThat(unknown).isFalse();
+        assertThat(statuses).containsOnly(entry(batchId, true), entry(activeId, true));
+        verify(delegate, times(1)).findActiveStatusById(activeId);
+        verify(delegate, times(1)).findActiveStatusById(unknownId);
+        verify(delegate, times(1)).findActiveStatusByIds(any());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o status em cache ao salvar")
+    void shouldInvalidateStatusOnSave() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        when(delegate.findActiveStatusById(customer.getId())).thenReturn(Optional.of(true), Optional.of(false));
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        repository.findActiveStatusById(customer.getId());
+
+        // When
+        repository.save(customer);
+
+        // Then
+        assertThat(repository.findActiveStatusById(customer.getId())).contains(false);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache por ID ao salvar")
+    void shouldInvalidateOnSave() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        when(delegate.findById(customer.getId())).thenReturn(Optional.empty(), Optional.of(customer));
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        repository.findById(customer.getId());
+
+        // When
+        repository.save(customer);
+        Optional<Customer> result = repository.findById(customer.getId());
+
+        // Then
+        assertThat(result).isPresent();
+        verify(delegate, times(2)).findById(customer.getId());
+    }
+
+    @Test
+    @DisplayName("Deve resolver email pelo cache e conferir o cliente encontrado")
+    void shouldResolveEmailThroughIdCache() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        Email email = Email.of("Maria@Example.com ");
+        when(delegate.findByEmail(email)).thenReturn(Optional.of(customer));
+        when(delegate.findById(customer.getId())).thenReturn(Optional.of(customer));
+
+        // When
+        repository.findByEmail(email);
+        Optional<Customer> cached = repository.findByEmail(Email.of("maria@example.com"));
+
+        // Then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getId()).isEqualTo(customer.getId());
+        verify(delegate, times(1)).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o email do cliente em cache mudou")
+    void shouldFallBackWhenCachedEmailChanged() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        Email oldEmail = customer.getEmail();
+        when(delegate.findByEmail(oldEmail)).thenReturn(Optional.of(customer), Optional.empty());
+        repository.findByEmail(oldEmail);
+
+        customer.updateEmail(Email.of("maria.souza@example.com"));
+        when(delegate.findById(customer.getId())).thenReturn(Optional.of(customer));
+
+        // When
+        Optional<Customer> result = repository.findByEmail(oldEmail);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(delegate, times(2)).findByEmail(oldEmail);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao remover cliente")
+    void shouldInvalidateOnDelete() {
+        // Given
+        Customer customer = createCustomer("maria@example.com");
+        when(delegate.findById(customer.getId())).thenReturn(Optional.of(customer), Optional.empty());
+        repository.findById(customer.getId());
+
+        // When
+        repository.deleteById(customer.getId());
+
+        // Then
+        assertThat(repository.findById(customer.getId())).isEmpty();
+        verify(delegate).deleteById(customer.getId());
+    }
+
+    private Customer createCustomer(String email) {
+        return Customer.create("Maria", "Souza", Email.of(email), "+5511999999999",
+                Address.builder()
+                        .street("Rua das Flores")
+                        .number("123")
+                        .neighborhood("Centro")
+                        .city("São Paulo")
+                        .state("SP")
+                        .zipCode("01234-567")
+                        .country("Brasil")
+                        .build());
+    }
+}
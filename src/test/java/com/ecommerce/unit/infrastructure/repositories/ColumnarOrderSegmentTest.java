@@ -0,0 +1,146 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.domain.entities.Order;
+import com.ecommerce.domain.entities.OrderItem;
+import com.ecommerce.domain.entities.OrderStatus;
+import com.ecommerce.domain.valueobjects.Address;
+import com.ecommerce.domain.valueobjects.Money;
+import com.ecommerce.infrastructure.adapters.repositories.columnar.ColumnarOrderSegment;
+import com.ecommerce.infrastructure.adapters.repositories.columnar.ColumnarOrderSegmentWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ColumnarOrderSegment Tests")
+class ColumnarOrderSegmentTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_000);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Deve ler de volta os pedidos gravados, com itens, endereço e datas")
+    void shouldRoundTripOrders() throws IOException {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        Order withAddress = order(customerId, OrderStatus.DELIVERED, START.plusHours(2), address());
+        Order withoutAddress = order(customerId, OrderStatus.CANCELLED, START, null);
+        Path file = directory.resolve("orders.seg");
+
+        // When
+        ColumnarOrderSegmentWriter.write(file, List.of(withAddress, withoutAddress));
+        ColumnarOrderSegment segment = ColumnarOrderSegment.open(file);
+        List<Order> read = segment.scan((row, created, updated) -> true, ColumnarOrderSegment::order);
+
+        // Then: ordenados por criação
+        assertThat(read).extracting(Order::getId).containsExactly(withoutAddress.getId(), withAddress.getId());
+        assertSameOrder(read.get(0), withoutAddress);
+        assertSameOrder(read.get(1), withAddress);
+        assertThat(segment.minCreatedAtMicros()).isEqualTo(ColumnarOrderSegment.toMicros(START));
+        assertThat(segment.maxUpdatedAtMicros()).isEqualTo(ColumnarOrderSegment.toMicros(START.plusHours(3)));
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por cliente, status e período sem montar os demais pedidos")
+    void shouldFilterRowsByColumns() throws IOException {
+        // Given
+        UUID customerId = UUID.randomUUID();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            orders.add(order(i % 5 == 0 ? customerId : UUID.randomUUID(),
+                    i % 2 == 0 ? OrderStatus.DELIVERED : OrderStatus.CANCELLED, START.plusDays(i), address()));
+        }
+        Path file = directory.resolve("orders.seg");
+        ColumnarOrderSegmentWriter.write(file, orders);
+        ColumnarOrderSegment segment = ColumnarOrderSegment.open(file);
+
+        // When
+        List<Order> byCustomer = segment.scan((row, created, updated) -> segment.customerIdEquals(row, customerId),
+                ColumnarOrderSegment::order);
+        int delivered = segment.statusCode(OrderStatus.DELIVERED);
+        long from = ColumnarOrderSegment.toMicros(START.plusDays(10));
+        long to = ColumnarOrderSegment.toMicros(START.plusDays(19));
+        List<UUID> deliveredInRange = segment.scan(
+                (row, created, updated) -> created >= from && created <= to && segment.statusCodeAt(row) == delivered,
+                (s, row, created, updated) -> s.orderId(row));
+
+        // Then
+        assertThat(byCustomer).hasSize(10).allMatch(order -> order.getCustomerId().equals(customerId));
+        assertThat(deliveredInRange).containsExactly(
+                orders.get(10).getId(), orders.get(12).getId(), orders.get(14).getId(),
+                orders.get(16).getId(), orders.get(18).getId());
+        assertThat(segment.statusCode(OrderStatus.PENDING)).isEqualTo(ColumnarOrderSegment.NULL_CODE);
+    }
+
+    @Test
+    @DisplayName("Deve ocupar bem menos que as linhas de pedido e itens")
+    void shouldBeCompact() throws IOException {
+        // Given: 1000 pedidos com 2 itens, endereços e produtos repetidos
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            orders.add(order(UUID.randomUUID(), OrderStatus.DELIVERED, START.plusMinutes(i), address()));
+        }
+        Path file = directory.resolve("orders.seg");
+
+        // When
+        ColumnarOrderSegmentWriter.write(file, orders);
+
+        // Then: strings viram códigos de 4 bytes; sobram os UUIDs e os campos numéricos
+        assertThat(Files.size(file) / orders.size()).isLessThan(240);
+    }
+
+    private void assertSameOrder(Order actual, Order expected) {
+        assertThat(actual.getCustomerId()).isEqualTo(expected.getCustomerId());
+        assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+        assertThat(actual.getTotalAmount()).isEqualTo(expected.getTotalAmount());
+        assertThat(actual.getCreatedAt()).isEqualTo(expected.getCreatedAt());
+        assertThat(actual.getUpdatedAt()).isEqualTo(expected.getUpdatedAt());
+        assertThat(actual.getDeliveryAddress()).isEqualTo(expected.getDeliveryAddress());
+        assertThat(actual.getItems()).hasSameSizeAs(expected.getItems());
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            OrderItem actualItem = actual.getItems().get(i);
+            OrderItem expectedItem = expected.getItems().get(i);
+            assertThat(actualItem.getId()).isEqualTo(expectedItem.getId());
+            assertThat(actualItem.getProductId()).isEqualTo(expectedItem.getProductId());
+            assertThat(actualItem.getProductName()).isEqualTo(expectedItem.getProductName());
+            assertThat(actualItem.getUnitPrice()).isEqualTo(expectedItem.getUnitPrice());
+            assertThat(actualItem.getQuantity()).isEqualTo(expectedItem.getQuantity());
+            assertThat(actualItem.getTotalPrice()).isEqualTo(expectedItem.getTotalPrice());
+        }
+    }
+
+    private Order order(UUID customerId, OrderStatus status, LocalDateTime createdAt, Address address) {
+        List<OrderItem> items = List.of(
+                OrderItem.create(UUID.randomUUID(), "Produto A", Money.ofBRL(new BigDecimal("10.99")), 3),
+                OrderItem.create(UUID.randomUUID(), "Produto B", Money.ofBRL(new BigDecimal("5.50")), 1));
+        Money total = items.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(Money.ofBRL(BigDecimal.ZERO), Money::add);
+        return Order.reconstruct(UUID.randomUUID(), customerId, items, address, status, total,
+                createdAt, createdAt.plusHours(1));
+    }
+
+    private Address address() {
+        return Address.builder()
+                .street("Rua das Flores")
+                .number("123")
+                .neighborhood("Centro")
+                .city("São Paulo")
+                .state("SP")
+                .zipCode("01234-567")
+                .country("Brasil")
+                .build();
+    }
+}
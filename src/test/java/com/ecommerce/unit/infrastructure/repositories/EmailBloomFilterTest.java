@@ -0,0 +1,114 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.domain.valueobjects.Email;
+import com.ecommerce.infrastructure.adapters.repositories.CustomerRepositoryImpl;
+import com.ecommerce.infrastructure.adapters.repositories.EmailBloomFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EmailBloomFilter Tests")
+class EmailBloomFilterTest {
+
+    private CustomerRepositoryImpl source;
+    private EmailBloomFilter filter;
+    private AtomicInteger databaseChecks;
+    private Predicate<Email> database;
+
+    @BeforeEach
+    void setUp() {
+        source = mock(CustomerRepositoryImpl.class);
+        filter = new EmailBloomFilter(source, 1000, 0.01);
+        databaseChecks = new AtomicInteger();
+        database = email -> {
+            databaseChecks.incrementAndGet();
+            return email.getValue().equals("maria@example.com");
+        };
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco enquanto o filtro não foi construído")
+    void shouldAlwaysHitDatabaseBeforeFirstRebuild() {
+        // When
+        boolean exists = filter.existsByEmail(Email.of("novo@example.com"), database);
+
+        // Then
+        assertThat(exists).isFalse();
+        assertThat(databaseChecks.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve evitar o banco para emails certamente novos após a reconstrução")
+    void shouldShortCircuitDefiniteNegatives() {
+        // Given
+        givenStoredEmails(List.of("maria@example.com"));
+        filter.rebuild();
+
+        // When
+        boolean newEmail = filter.existsByEmail(Email.of("novo@example.com"), database);
+        boolean storedEmail = filter.existsByEmail(Email.of("maria@example.com"), database);
+
+        // Then
+        assertThat(newEmail).isFalse();
+        assertThat(storedEmail).isTrue();
+        assertThat(databaseChecks.get()).isEqualTo(1);
+        assertThat(filter.stats().definiteNegatives()).isEqualTo(1);
+        assertThat(filter.stats().confirmedPositives()).isEqualTo(1);
+        assertThat(filter.stats().rebuilds()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter emails salvos durante a reconstrução")
+    void shouldKeepEmailsAddedDuringRebuild() {
+        // Given
+        when(source.countAll()).thenReturn(1L);
+        when(source.forEachEmail(any())).thenAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            consumer.accept("maria@example.com");
+            // Cadastro concluído enquanto o banco é lido
+            filter.add(Email.of("joao@example.com"));
+            return 1L;
+        });
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.existsByEmail(Email.of("joao@example.com"), email -> true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve manter o filtro anterior se a reconstrução falhar")
+    void shouldKeepPreviousFilterWhenRebuildFails() {
+        // Given
+        givenStoredEmails(List.of("maria@example.com"));
+        filter.rebuild();
+        doThrow(new IllegalStateException("database down")).when(source).forEachEmail(any());
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertThat(filter.existsByEmail(Email.of("novo@example.com"), database)).isFalse();
+        assertThat(databaseChecks.get()).isZero();
+        assertThat(filter.stats().rebuilds()).isEqualTo(1);
+    }
+
+    private void givenStoredEmails(List<String> emails) {
+        when(source.countAll()).thenReturn((long) emails.size());
+        when(source.forEachEmail(any())).thenAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            emails.forEach(consumer);
+            return (long) emails.size();
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.domain.projections.SalesReportDimension;
+import com.ecommerce.domain.projections.SalesReportRow;
+import com.ecommerce.infrastructure.adapters.repositories.report.SalesAccumulator;
+import com.ecommerce.infrastructure.adapters.repositories.report.SalesLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SalesAccumulator Tests")
+class SalesAccumulatorTest {
+
+    // Segunda-feira
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 3, 4, 9, 30);
+
+    private final UUID productA = UUID.randomUUID();
+    private final UUID productB = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Deve contar cada pedido uma vez por grupo e somar unidades e receita")
+    void shouldCountOrdersOncePerGroup() {
+        // Given
+        SalesAccumulator accumulator = new SalesAccumulator(SalesReportDimension.DAY);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        // When
+        accumulator.add(line(first, MONDAY, productA, 2, "20.00"));
+        accumulator.add(line(first, MONDAY, productB, 1, "5.50"));
+        accumulator.add(line(second, MONDAY.plusHours(3), productA, 1, "10.00"));
+        accumulator.add(line(UUID.randomUUID(), MONDAY.plusDays(1), productB, 4, "22.00"));
+
+        // Then
+        List<SalesReportRow> rows = accumulator.rows();
+        assertThat(rows).extracting(SalesReportRow::key).containsExactly("2024-03-04", "2024-03-05");
+        SalesReportRow monday = rows.get(0);
+        assertThat(monday.orders()).isEqualTo(2);
+        assertThat(monday.units()).isEqualTo(4);
+        assertThat(monday.revenue()).isEqualByComparingTo("35.50");
+        assertThat(monday.averageOrderValue()).isEqualByComparingTo("17.75");
+    }
+
+    @Test
+    @DisplayName("Deve somar trechos e ordenar produtos pela receita")
+    void shouldMergeChunksAndSortProductsByRevenue() {
+        // Given
+        SalesAccumulator firstChunk = new SalesAccumulator(SalesReportDimension.PRODUCT);
+        firstChunk.add(line(UUID.randomUUID(), MONDAY, productA, 1, "10.00"));
+        firstChunk.add(line(UUID.randomUUID(), MONDAY, productB, 1, "15.00"));
+        SalesAccumulator secondChunk = new SalesAccumulator(SalesReportDimension.PRODUCT);
+        secondChunk.add(line(UUID.randomUUID(), MONDAY.plusDays(1), productA, 3, "30.00"));
+
+        // When
+        List<SalesReportRow> rows = firstChunk.merge(secondChunk).rows();
+
+        // Then
+        assertThat(rows).extracting(SalesReportRow::key).containsExactly(productA.toString(), productB.toString());
+        assertThat(rows.get(0).orders()).isEqualTo(2);
+        assertThat(rows.get(0).units()).isEqualTo(4);
+        assertThat(rows.get(0).revenue()).isEqualByComparingTo("40.00");
+        assertThat(rows.get(0).label()).isEqualTo("Produto " + productA);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por hora e por dia da semana com rótulos legíveis")
+    void shouldGroupByHourAndWeekday() {
+        // Given
+        SalesAccumulator byHour = new SalesAccumulator(SalesReportDimension.HOUR_OF_DAY);
+        SalesAccumulator byWeekday = new SalesAccumulator(SalesReportDimension.DAY_OF_WEEK);
+        for (SalesLine line : List.of(
+                line(UUID.randomUUID(), MONDAY, productA, 1, "10.00"),
+                line(UUID.randomUUID(), MONDAY.plusDays(7).withHour(14), productA, 1, "10.00"))) {
+            byHour.add(line);
+            byWeekday.add(line);
+        }
+
+        // Then
+        assertThat(byHour.rows()).extracting(SalesReportRow::label).containsExactly("09:00", "14:00");
+        assertThat(byWeekday.rows()).singleElement().satisfies(row -> {
+            assertThat(row.key()).isEqualTo("1");
+            assertThat(row.label()).isEqualTo("segunda-feira");
+            assertThat(row.orders()).isEqualTo(2);
+        });
+    }
+
+    private SalesLine line(UUID orderId, LocalDateTime createdAt, UUID productId, int quantity, String total) {
+        return new SalesLine(orderId, createdAt, productId, "Produto " + productId, quantity,
+                new BigDecimal(total), "BRL");
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.infrastructure.adapters.repositories.SearchTrigrams;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchTrigrams Tests")
+class SearchTrigramsTest {
+
+    @Test
+    @DisplayName("Deve normalizar removendo acentos, caixa e pontuação")
+    void shouldNormalizeTokens() {
+        assertThat(SearchTrigrams.tokens("  João  D'Ávila-Conceição "))
+                .containsExactly("joao", "d", "avila", "conceicao");
+        assertThat(SearchTrigrams.tokens(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve gerar trigramas com bordas para nome, sobrenome e parte local do email")
+    void shouldGenerateCustomerTrigrams() {
+        assertThat(SearchTrigrams.forCustomer("Ana", "Sá", "ana.sa@example.com"))
+                .containsExactlyInAnyOrder("  a", " an", "ana", "na ", "  s", " sa", "sa ")
+                .doesNotContain("exa");
+    }
+
+    @Test
+    @DisplayName("Deve exigir trigramas internos para palavras longas e início de palavra para curtas")
+    void shouldBuildRequiredTrigrams() {
+        assertThat(SearchTrigrams.required("Ári")).containsExactly("ari");
+        assertThat(SearchTrigrams.required("Maria jo")).containsExactly("mar", "ari", "ria", " jo");
+        assertThat(SearchTrigrams.required("m")).containsExactly("  m");
+        assertThat(SearchTrigrams.required("--")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Trigramas obrigatórios devem estar contidos nos de ranking")
+    void requiredTrigramsShouldBeSubsetOfRanking() {
+        for (String query : new String[] {"a", "jo", "silva", "maria da silva", "José"}) {
+            assertThat(SearchTrigrams.ranking(query)).containsAll(SearchTrigrams.required(query));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.infrastructure.adapters.repositories.ranking.SpaceSavingSketch;
+import com.ecommerce.infrastructure.adapters.repositories.ranking.SpaceSavingSketch.Estimate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SpaceSavingSketch Tests")
+class SpaceSavingSketchTest {
+
+    @Test
+    @DisplayName("Deve contar exatamente enquanto houver contadores livres")
+    void shouldCountExactlyBelowCapacity() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+        UUID product = UUID.randomUUID();
+
+        // When
+        sketch.add(product, "Notebook", 2);
+        sketch.add(product, "Notebook Pro", 3);
+
+        // Then
+        assertThat(sketch.estimates()).containsExactly(new Estimate(product, "Notebook Pro", 5, 0));
+        assertThat(sketch.minCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve manter os itens frequentes e limitar o erro com memória fixa")
+    void shouldKeepHeavyHittersWithBoundedError() {
+        // Given: 5 produtos frequentes em meio a 5.000 produtos vendidos uma vez
+        SpaceSavingSketch sketch = new SpaceSavingSketch(50);
+        UUID[] heavy = new UUID[5];
+        for (int i = 0; i < heavy.length; i++) {
+            heavy[i] = UUID.randomUUID();
+        }
+        Map<UUID, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            UUID rare = UUID.randomUUID();
+            sketch.add(rare, "raro", 1);
+            exact.merge(rare, 1L, Long::sum);
+            UUID frequent = heavy[random.nextInt(heavy.length)];
+            sketch.add(frequent, "frequente", 3);
+            exact.merge(frequent, 3L, Long::sum);
+        }
+
+        // Then
+        assertThat(sketch.estimates()).hasSize(50);
+        for (Estimate estimate : sketch.estimates()) {
+            long real = exact.get(estimate.key());
+            assertThat(estimate.count()).isGreaterThanOrEqualTo(real);
+            assertThat(estimate.count() - estimate.error()).isLessThanOrEqualTo(real);
+        }
+        assertThat(sketch.estimates())
+                .extracting(Estimate::key)
+                .contains(heavy);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar capacidade e peso inválidos")
+    void shouldRejectInvalidParameters() {
+        assertThatThrownBy(() -> new SpaceSavingSketch(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpaceSavingSketch(1).add(UUID.randomUUID(), "x", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
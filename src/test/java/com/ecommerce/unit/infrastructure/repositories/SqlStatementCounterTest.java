@@ -0,0 +1,112 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.infrastructure.adapters.repositories.SqlBudget;
+import com.ecommerce.infrastructure.adapters.repositories.SqlBudgetExceededException;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter;
+import com.ecommerce.infrastructure.adapters.repositories.SqlStatementCounter.StatementCounts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SqlStatementCounter Tests")
+class SqlStatementCounterTest {
+
+    private static final String SELECT_ITEMS = "select i.id from order_items i where i.order_id=?";
+    private static final String INSERT_ITEM = "insert into order_items (id,order_id) values (?,?)";
+
+    private SqlStatementCounter counter;
+
+    @AfterEach
+    void tearDown() {
+        counter.end();
+    }
+
+    @Test
+    @DisplayName("Deve contar statements apenas entre begin e end")
+    void shouldCountOnlyWhileActive() {
+        // Given
+        counter = new SqlStatementCounter(new SqlBudget(10, 5, SqlBudget.Mode.LOG));
+        counter.inspect(SELECT_ITEMS);
+
+        // When
+        counter.begin();
+        counter.inspect(SELECT_ITEMS);
+        counter.inspect(SELECT_ITEMS);
+        counter.inspect(INSERT_ITEM);
+        StatementCounts counts = counter.end();
+
+        // Then
+        assertThat(counts.total()).isEqualTo(3);
+        assertThat(counts.countStartingWith("SELECT")).isEqualTo(2);
+        assertThat(counts.countStartingWith("insert into order_items")).isEqualTo(1);
+        assertThat(counter.end().total()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando a mesma consulta se repete além do limite")
+    void shouldFailOnRepeatedQuery() {
+        // Given
+        counter = new SqlStatementCounter(new SqlBudget(10, 2, SqlBudget.Mode.FAIL));
+        counter.begin();
+        counter.inspect(SELECT_ITEMS);
+        counter.inspect(SELECT_ITEMS);
+
+        // When & Then
+        assertThatThrownBy(() -> counter.inspect(SELECT_ITEMS))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("N+1")
+                .hasMessageContaining(SELECT_ITEMS);
+    }
+
+    @Test
+    @DisplayName("Não deve tratar escritas repetidas como N+1")
+    void shouldNotFlagRepeatedWrites() {
+        // Given
+        counter = new SqlStatementCounter(new SqlBudget(10, 2, SqlBudget.Mode.FAIL));
+        counter.begin();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            counter.inspect(INSERT_ITEM);
+        }
+
+        // Then
+        assertThat(counter.budget().describeViolation(counter.end())).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o total de statements ultrapassa o orçamento")
+    void shouldFailWhenTotalExceeded() {
+        // Given
+        counter = new SqlStatementCounter(new SqlBudget(3, 5, SqlBudget.Mode.FAIL));
+        counter.begin();
+        counter.inspect("select 1");
+        counter.inspect("select 2");
+        counter.inspect("select 3");
+
+        // When & Then
+        assertThatThrownBy(() -> counter.inspect("select 4"))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("budget of 3");
+    }
+
+    @Test
+    @DisplayName("Deve apenas descrever a violação no modo LOG")
+    void shouldOnlyDescribeViolationInLogMode() {
+        // Given
+        counter = new SqlStatementCounter(new SqlBudget(10, 2, SqlBudget.Mode.LOG));
+        counter.begin();
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            counter.inspect(SELECT_ITEMS);
+        }
+        StatementCounts counts = counter.end();
+
+        // Then
+        assertThat(counter.budget().describeViolation(counts))
+                .startsWith("possible N+1, statement prepared 4 times");
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.unit.infrastructure.repositories;
+
+import com.ecommerce.domain.projections.ProductRanking;
+import com.ecommerce.infrastructure.adapters.repositories.ranking.WindowedTopK;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WindowedTopK Tests")
+class WindowedTopKTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:30:00Z");
+
+    @Test
+    @DisplayName("Deve somar somente os intervalos da janela")
+    void shouldRankWithinWindow() {
+        // Given
+        WindowedTopK topK = new WindowedTopK(Duration.ofHours(1), Duration.ofDays(1), 10);
+        UUID recent = UUID.randomUUID();
+        UUID old = UUID.randomUUID();
+        topK.add(recent, "Recente", 3, NOW);
+        topK.add(recent, "Recente", 2, NOW.minus(Duration.ofHours(2)));
+        topK.add(old, "Antigo", 10, NOW.minus(Duration.ofHours(5)));
+
+        // When
+        List<ProductRanking> lastHour = topK.top(Duration.ofHours(1), 10, NOW);
+        List<ProductRanking> lastDay = topK.top(Duration.ofDays(1), 10, NOW);
+
+        // Then
+        assertThat(lastHour).containsExactly(new ProductRanking(recent, "Recente", 3, 3));
+        assertThat(lastDay).containsExactly(
+                new ProductRanking(old, "Antigo", 10, 10),
+                new ProductRanking(recent, "Recente", 5, 5));
+        assertThat(topK.top(Duration.ofDays(1), 1, NOW)).extracting(ProductRanking::productId).containsExactly(old);
+    }
+
+    @Test
+    @DisplayName("Deve descartar intervalos fora da retenção ao reaproveitar o anel")
+    void shouldExpireBucketsOutsideRetention() {
+        // Given
+        WindowedTopK topK = new WindowedTopK(Duration.ofHours(1), Duration.ofHours(3), 10);
+        UUID product = UUID.randomUUID();
+        topK.add(product, "Produto", 7, NOW);
+
+        // When: três horas depois o intervalo é reaproveitado
+        Instant later = NOW.plus(Duration.ofHours(3));
+        UUID other = UUID.randomUUID();
+        topK.add(other, "Outro", 1, later);
+        topK.add(product, "Produto", 1, NOW.minus(Duration.ofHours(1))); // mais antigo que a retenção
+
+        // Then
+        assertThat(topK.top(Duration.ofHours(3), 10, later))
+                .containsExactly(new ProductRanking(other, "Outro", 1, 1));
+        assertThat(topK.retention()).isEqualTo(Duration.ofHours(3));
+    }
+
+    @Test
+    @DisplayName("Deve somar o mínimo dos intervalos em que o item não é monitorado à estimativa")
+    void shouldBoundEstimatesAcrossBuckets() {
+        // Given: capacidade 1, o produto some do resumo do intervalo anterior
+        WindowedTopK topK = new WindowedTopK(Duration.ofHours(1), Duration.ofHours(2), 1);
+        UUID product = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        topK.add(other, "Outro", 4, NOW.minus(Duration.ofHours(1)));
+        topK.add(product, "Produto", 2, NOW);
+
+        // When
+        List<ProductRanking> ranking = topK.top(Duration.ofHours(2), 10, NOW);
+
+        // Then: reais 2 e 4, estimativas limitadas pelo mínimo de cada intervalo;
+        // no empate vem antes o de maior mínimo garantido
+        assertThat(ranking).containsExactly(
+                new ProductRanking(other, "Outro", 6, 4),
+                new ProductRanking(product, "Produto", 6, 2));
+    }
+}